@@ -0,0 +1,185 @@
+package io.relboard.crawler.infra.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 릴리즈 노트 픽스처로 만든 이벤트의 형식별 직렬화 비용을 잰다. 형식별 바이트 수는 setup에서 출력한다.
+ *
+ * <pre>
+ * gradle :relboard-crawler:jmh
+ * gradle :relboard-crawler:jmh -PjmhArgs="-f 1 -wi 2 -i 3 ReleaseEventSerializationBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReleaseEventSerializationBenchmark {
+
+  /**
+   * full: 원문+번역과 인사이트를 모두 담은 이벤트(스키마 1의 번역 이벤트), created/enriched: 같은 릴리즈를 스키마 2의 두 이벤트로 나눈 것,
+   * patch: 번역 전의 짧은 패치 릴리즈
+   */
+  @Param({"full", "created", "enriched", "patch"})
+  public String release;
+
+  @Param({"JSON", "SMILE", "CBOR"})
+  public ReleaseEventFormat format;
+
+  private ReleaseEventSerializer serializer;
+  private ObjectMapper reader;
+  private ReleaseEvent event;
+  private byte[] serialized;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ObjectMapper objectMapper =
+        new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    serializer = new ReleaseEventSerializer(objectMapper, format);
+    reader = serializer.mapper();
+    event =
+        switch (release) {
+          case "full" -> fullRelease();
+          case "created" -> createdRelease();
+          case "enriched" -> enrichedRelease();
+          default -> patchRelease();
+        };
+    serialized = serializer.serialize("relboard.crawler.releases", new RecordHeaders(), event);
+    System.out.printf("%n[%s/%s] %d bytes%n", release, format, serialized.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return serializer.serialize("relboard.crawler.releases", new RecordHeaders(), event);
+  }
+
+  @Benchmark
+  public ReleaseEvent deserialize() throws IOException {
+    return reader.readValue(serialized, ReleaseEvent.class);
+  }
+
+  private static ReleaseEvent fullRelease() {
+    String content = fixture("framework-3.4.0.md");
+    return new ReleaseEvent(
+        UUID.randomUUID().toString(),
+        null,
+        LocalDateTime.of(2024, 11, 21, 9, 30),
+        new ReleaseEvent.Payload(
+            "spring-boot",
+            "3.4.0",
+            "v3.4.0",
+            content,
+            fixture("framework-3.4.0.ko.md"),
+            "구조화 로깅, SSL 번들 재로딩, 가상 스레드 기본 지원이 추가되고 정상 종료가 기본으로 켜졌습니다.",
+            List.of(
+                new ReleaseEvent.Insight("FEATURE", "구조화 로깅", "ECS/Logstash 형식을 설정만으로 켤 수 있다"),
+                new ReleaseEvent.Insight("BREAKING", "정상 종료 기본값", "종료 시간이 길어질 수 있다"),
+                new ReleaseEvent.Insight("PERFORMANCE", "가상 스레드", "블로킹 I/O 처리량이 늘어난다")),
+            new ReleaseEvent.MigrationGuide(
+                "정상 종료가 기본으로 켜지므로 즉시 종료가 필요하면 설정을 추가한다.",
+                new ReleaseEvent.MigrationGuideCode("# 없음", "server.shutdown: immediate"),
+                "- Gradle 7.6.4 이상인지 확인\n- server.shutdown 설정 검토"),
+            List.of("structured-logging", "ssl-bundle", "virtual-threads", "graceful-shutdown"),
+            LocalDateTime.of(2024, 11, 21, 9, 0),
+            "https://github.com/example/framework/releases/tag/v3.4.0",
+            List.of(
+                new ReleaseEvent.Tag("FEATURE", "New Features 섹션"),
+                new ReleaseEvent.Tag("BREAKING", "Noteworthy Changes 섹션"),
+                new ReleaseEvent.Tag("FIX", "Bug Fixes 섹션"))));
+  }
+
+  private static ReleaseEvent createdRelease() {
+    ReleaseEvent.Payload full = fullRelease().payload();
+    return new ReleaseEvent(
+        UUID.randomUUID().toString(),
+        ReleaseEvent.Type.RELEASE_CREATED,
+        LocalDateTime.of(2024, 11, 21, 9, 30),
+        new ReleaseEvent.Payload(
+            full.techStackName(),
+            full.version(),
+            full.title(),
+            full.content(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            full.publishedAt(),
+            full.sourceUrl(),
+            full.tags()));
+  }
+
+  private static ReleaseEvent enrichedRelease() {
+    ReleaseEvent.Payload full = fullRelease().payload();
+    return new ReleaseEvent(
+        UUID.randomUUID().toString(),
+        ReleaseEvent.Type.RELEASE_ENRICHED,
+        LocalDateTime.of(2024, 11, 21, 10, 0),
+        ReleaseEvent.Payload.enrichment(
+            full.techStackName(),
+            full.version(),
+            full.contentKo(),
+            full.shortSummary(),
+            full.insights(),
+            full.migrationGuide(),
+            full.technicalKeywords()));
+  }
+
+  private static ReleaseEvent patchRelease() {
+    String content = fixture("framework-3.4.0.md");
+    return new ReleaseEvent(
+        UUID.randomUUID().toString(),
+        ReleaseEvent.Type.RELEASE_CREATED,
+        LocalDateTime.of(2024, 12, 19, 9, 30),
+        new ReleaseEvent.Payload(
+            "spring-boot",
+            "3.4.1",
+            "v3.4.1",
+            content.substring(content.indexOf("## Bug Fixes"), content.indexOf("## Documentation")),
+            null,
+            null,
+            null,
+            null,
+            null,
+            LocalDateTime.of(2024, 12, 19, 9, 0),
+            "https://github.com/example/framework/releases/tag/v3.4.1",
+            List.of(new ReleaseEvent.Tag("FIX", "Bug Fixes 섹션"))));
+  }
+
+  private static String fixture(String name) {
+    try (InputStream in =
+        ReleaseEventSerializationBenchmark.class.getResourceAsStream("/release-notes/" + name)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package io.relboard.crawler.common;
+
+import java.util.Arrays;
+
+/**
+ * long 값을 박싱 없이 저장하는 open addressing(linear probing) 해시 집합. 0은 빈 슬롯 표시로 쓰므로 저장할 수 없다. 스레드 안전하지 않으므로
+ * 호출하는 쪽에서 동기화한다.
+ */
+public final class LongHashSet {
+
+  private static final float LOAD_FACTOR = 0.7f;
+
+  private long[] slots;
+  private int size;
+  private int resizeAt;
+
+  public LongHashSet(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+    this.slots = new long[capacity];
+    this.resizeAt = (int) (capacity * LOAD_FACTOR);
+  }
+
+  public boolean add(long value) {
+    checkValue(value);
+    if (insert(slots, value)) {
+      if (++size > resizeAt) {
+        grow();
+      }
+      return true;
+    }
+    return false;
+  }
+
+  public boolean contains(long value) {
+    checkValue(value);
+    int mask = slots.length - 1;
+    int index = mix(value) & mask;
+    while (true) {
+      long slot = slots[index];
+      if (slot == 0L) {
+        return false;
+      }
+      if (slot == value) {
+        return true;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    Arrays.fill(slots, 0L);
+    size = 0;
+  }
+
+  /** 슬롯 배열이 차지하는 바이트 수 */
+  public long memoryBytes() {
+    return (long) slots.length * Long.BYTES;
+  }
+
+  private void grow() {
+    long[] grown = new long[slots.length << 1];
+    for (long value : slots) {
+      if (value != 0L) {
+        insert(grown, value);
+      }
+    }
+    slots = grown;
+    resizeAt = (int) (grown.length * LOAD_FACTOR);
+  }
+
+  private static boolean insert(long[] table, long value) {
+    int mask = table.length - 1;
+    int index = mix(value) & mask;
+    while (true) {
+      long slot = table[index];
+      if (slot == 0L) {
+        table[index] = value;
+        return true;
+      }
+      if (slot == value) {
+        return false;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private static int mix(long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private static void checkValue(long value) {
+    if (value == 0L) {
+      throw new IllegalArgumentException("0 cannot be stored in LongHashSet");
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package io.relboard.crawler.common;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * JDBC로 직접 쓰는 {@link Instant}를 UTC 벽시계 값으로 바인딩한다. JPA 엔티티의 Instant 컬럼(Hibernate TIMESTAMP_UTC)과 같은
+ * 기준이어야 JVM 기본 시간대가 바뀌어도 두 경로가 저장한 값이 어긋나지 않는다.
+ */
+public final class UtcTimestamps {
+
+  private UtcTimestamps() {}
+
+  /** null이면 SQL NULL을 바인딩한다. {@link Calendar}는 스레드 안전하지 않으므로 호출마다 새로 만든다. */
+  public static void set(PreparedStatement ps, int index, Instant instant) throws SQLException {
+    if (instant == null) {
+      ps.setNull(index, Types.TIMESTAMP);
+      return;
+    }
+    ps.setTimestamp(
+        index, Timestamp.from(instant), Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC)));
+  }
+
+  /** NamedParameterJdbcTemplate 파라미터용. 드라이버가 시간대 변환 없이 그대로 보내는 UTC 기준 {@link LocalDateTime}. */
+  public static LocalDateTime toUtcDateTime(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+  }
+}
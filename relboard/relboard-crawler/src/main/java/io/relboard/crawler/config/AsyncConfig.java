@@ -1,11 +1,14 @@
 package io.relboard.crawler.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -16,14 +19,27 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 @Configuration
 public class AsyncConfig {
 
+  /**
+   * 소스별 크롤링을 가상 스레드에서 병렬로 실행한다. 동시 실행 수는 {@code crawler.concurrency}로 제한되며, 한도에 도달하면 제출하는 쪽이 슬롯이 빌
+   * 때까지 대기한다.
+   */
   @Bean(name = "crawlerExecutor")
-  public Executor crawlerExecutor() {
+  public Executor crawlerExecutor(@Value("${crawler.concurrency:8}") int concurrency) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("crawler-");
+    executor.setVirtualThreads(true);
+    executor.setConcurrencyLimit(Math.max(1, concurrency));
+    return executor;
+  }
+
+  /** HTML→Markdown 변환 전용 풀. 대기열이 차면 호출한 크롤링 스레드가 직접 변환해 자연스럽게 속도를 늦춘다. */
+  @Bean(name = "markdownExecutor")
+  public ThreadPoolTaskExecutor markdownExecutor(MarkdownConversionProperties properties) {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-    executor.setThreadNamePrefix("crawler-");
-    executor.setCorePoolSize(1);
-    executor.setMaxPoolSize(1);
-    executor.setQueueCapacity(100);
-    executor.setAllowCoreThreadTimeOut(true);
+    executor.setCorePoolSize(Math.max(1, properties.getWorkers()));
+    executor.setMaxPoolSize(Math.max(1, properties.getWorkers()));
+    executor.setQueueCapacity(Math.max(0, properties.getQueueCapacity()));
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("markdown-");
     executor.initialize();
     return executor;
   }
@@ -38,7 +54,8 @@ public class AsyncConfig {
   @Bean
   public TaskScheduler taskScheduler() {
     ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-    scheduler.setPoolSize(1);
+    // 크롤링 사이클은 끝날 때까지 스레드를 잡고 있으므로 번역 백로그, 아웃박스 릴레이, 리스 연장, 인덱스 갱신, 본문 정리가 밀리지 않게 작업마다 한 스레드를 둔다
+    scheduler.setPoolSize(6);
     scheduler.setThreadNamePrefix("crawler-scheduler-");
     scheduler.initialize();
     return scheduler;
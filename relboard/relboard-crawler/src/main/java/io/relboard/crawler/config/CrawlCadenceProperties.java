@@ -0,0 +1,20 @@
+package io.relboard.crawler.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.cadence")
+public class CrawlCadenceProperties {
+  private Duration minInterval = Duration.ofMinutes(10);
+  private Duration maxInterval = Duration.ofHours(24);
+  private Duration defaultInterval = Duration.ofHours(1);
+  private Duration burstWindow = Duration.ofHours(48);
+  private int gapDivisor = 24;
+  private int historySize = 10;
+}
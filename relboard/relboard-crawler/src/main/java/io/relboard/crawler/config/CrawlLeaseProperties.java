@@ -0,0 +1,22 @@
+package io.relboard.crawler.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.lease")
+public class CrawlLeaseProperties {
+  /** 리스를 잡는 노드 식별자. 비어 있으면 기동 시 임의 값을 사용한다. */
+  private String nodeId;
+
+  /** 리스 유지 시간. 노드가 죽으면 이 시간이 지난 뒤 다른 노드가 소스를 가져간다. */
+  private Duration duration = Duration.ofMinutes(15);
+
+  /** 한 번의 스케줄 tick에서 노드가 가져가는 최대 소스 수 */
+  private int batchSize = 100;
+}
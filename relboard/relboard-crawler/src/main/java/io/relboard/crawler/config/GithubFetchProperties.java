@@ -0,0 +1,50 @@
+package io.relboard.crawler.config;
+
+import io.relboard.crawler.infra.client.GithubFetchMode;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.github")
+public class GithubFetchProperties {
+  /** 릴리즈 노트 조회 방식. GRAPHQL인데 토큰이 없으면 TAGS로 동작한다. */
+  private GithubFetchMode fetchMode = GithubFetchMode.TAGS;
+
+  /** GraphQL 쿼리 한 번에 묶는 저장소 수 */
+  private int graphqlBatchSize = 25;
+
+  /** 저장소마다 가져오는 최신 릴리즈 수 */
+  private int releasesPerRepository = 10;
+
+  /** RELEASES 모드에서 저장소마다 넘겨 볼 최대 릴리즈 목록 페이지 수(페이지당 100개) */
+  private int releasesMaxPages = 5;
+
+  /** GitHub REST(core) 레이트리밋 예산 */
+  private RateLimit rateLimit = new RateLimit();
+
+  @Getter
+  @Setter
+  public static class RateLimit {
+    /** 남은 요청 수가 이 값 이하로 내려가면 모든 GitHub 소스를 다음 사이클로 미룬다 */
+    private int reserve = 50;
+
+    /** (남은 요청 수 - reserve) / 대기 중인 소스 수가 이 값보다 작으면 저우선 소스를 미룬다 */
+    private int lowPriorityMinShare = 5;
+
+    /** 크롤링 주기가 이 값 이상인 소스를 저우선으로 본다 */
+    private Duration lowPriorityInterval = Duration.ofHours(6);
+
+    /** Retry-After가 없는 2차 레이트리밋(403/429)에서 처음 쉬는 시간. 연속으로 걸리면 두 배씩 늘린다 */
+    private Duration secondaryBackoff = Duration.ofSeconds(60);
+
+    private Duration maxSecondaryBackoff = Duration.ofMinutes(15);
+
+    /** 차단 해제까지 이 시간 이하로 남았으면 요청 스레드가 기다리고, 더 길면 바로 실패시킨다 */
+    private Duration maxInlineWait = Duration.ofSeconds(30);
+  }
+}
@@ -0,0 +1,39 @@
+package io.relboard.crawler.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.http")
+public class HostLimitProperties {
+
+  /** hosts에 없는 호스트(임의의 RSS 피드 등)에 적용되는 기본 제한 */
+  private Limit defaultLimit = new Limit();
+
+  /** 호스트명별 제한. 점이 포함된 키는 yml에서 "[api.github.com]" 형태로 지정한다. */
+  private Map<String, Limit> hosts = new HashMap<>();
+
+  public Limit limitFor(String host) {
+    if (host == null) {
+      return defaultLimit;
+    }
+    return hosts.getOrDefault(host.toLowerCase(), defaultLimit);
+  }
+
+  @Getter
+  @Setter
+  public static class Limit {
+    private int maxConcurrent = 2;
+    private double requestsPerSecond = 1.0;
+
+    /** 응답 본문 최대 크기(압축 해제 후). 넘으면 읽기를 중단하고 요청을 실패로 처리한다. 0이면 제한하지 않는다. */
+    private DataSize maxBodySize = DataSize.ofMegabytes(32);
+  }
+}
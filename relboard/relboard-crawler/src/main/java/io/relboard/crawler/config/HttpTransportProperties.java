@@ -0,0 +1,34 @@
+package io.relboard.crawler.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.http.transport")
+public class HttpTransportProperties {
+  /** TCP/TLS 연결 수립 제한 시간 */
+  private Duration connectTimeout = Duration.ofSeconds(5);
+
+  /** 클라이언트 이름이 readTimeouts에 없을 때 쓰는 응답 대기 제한 시간 */
+  private Duration defaultReadTimeout = Duration.ofSeconds(30);
+
+  /** 클라이언트별(github, maven, npm, rss, relboard) 응답 대기 제한 시간 */
+  private Map<String, Duration> readTimeouts = new HashMap<>();
+
+  /** HTTP/2 사용 여부. 서버가 지원하지 않으면 ALPN 협상으로 HTTP/1.1을 쓴다. */
+  private boolean http2 = true;
+
+  /** Accept-Encoding: gzip 요청 및 응답 압축 해제 여부 */
+  private boolean compression = true;
+
+  public Duration readTimeoutFor(String client) {
+    return readTimeouts.getOrDefault(client, defaultReadTimeout);
+  }
+}
@@ -0,0 +1,25 @@
+package io.relboard.crawler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.markdown")
+public class MarkdownConversionProperties {
+
+  /** 변환 전용 스레드 수. flexmark 변환은 CPU 작업이라 크롤링 동시성과 별개로 제한한다. */
+  private int workers = 2;
+
+  /** 변환 대기열 크기. 가득 차면 호출한 스레드에서 직접 변환한다. */
+  private int queueCapacity = 64;
+
+  /** 입력 HTML 최대 길이(문자). 넘으면 태그/엔티티 경계에서 잘라 변환한다. */
+  private int maxInputChars = 200_000;
+
+  /** 변환 결과 캐시가 보관할 Markdown 총 길이(문자). 넘으면 가장 오래 쓰이지 않은 항목부터 버린다. */
+  private long cacheMaxChars = 8_000_000L;
+}
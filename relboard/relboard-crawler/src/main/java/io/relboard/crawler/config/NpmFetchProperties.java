@@ -0,0 +1,21 @@
+package io.relboard.crawler.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.npm")
+public class NpmFetchProperties {
+  /**
+   * 축약 packument(application/vnd.npm.install-v1+json)를 요청한다. 버전별 배포 시각({@code time})이 없어 버전이 배포 순서가
+   * 아닌 문서 순서({@code latest}만 마지막)로 정렬되므로, 새 메이저 뒤에 나온 백포트 같은 순서가 달라진다. 응답 크기를 줄여야 할 때만 켠다.
+   */
+  private boolean abbreviated = false;
+
+  /** 레지스트리 주소. 사설/미러 레지스트리를 쓰면 호스트별 요청 제한도 이 호스트 기준으로 적용된다. */
+  private String registryUrl = "https://registry.npmjs.org";
+}
@@ -0,0 +1,23 @@
+package io.relboard.crawler.config;
+
+import io.relboard.crawler.infra.client.ResponseArchiveMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "crawler.archive")
+public class ResponseArchiveProperties {
+
+  private ResponseArchiveMode mode = ResponseArchiveMode.OFF;
+
+  /** 세그먼트 파일과 인덱스를 두는 디렉터리 */
+  private String directory = "./data/response-archive";
+
+  /** 세그먼트 파일 하나의 최대 크기. 넘으면 새 세그먼트로 넘어간다. */
+  private DataSize segmentMaxSize = DataSize.ofMegabytes(256);
+}
@@ -1,26 +1,111 @@
 package io.relboard.crawler.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.infra.client.GithubRateLimitBudget;
+import io.relboard.crawler.infra.client.GzipDecompressingInterceptor;
+import io.relboard.crawler.infra.client.HostRequestLimiter;
+import io.relboard.crawler.infra.client.ResponseArchive;
+import io.relboard.crawler.infra.client.ResponseBodyPolicy;
+import java.net.http.HttpClient;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 모든 업스트림 클라이언트가 JDK {@link HttpClient} 하나를 공유한다. 연결 풀과 HTTP/2 연결(api.github.com 등)은 클라이언트 사이에서
+ * 재사용되고, 응답 대기 제한 시간은 클라이언트마다 따로 둔다. 호스트별 동시 연결 수는 {@link HostRequestLimiter}의 max-concurrent로
+ * 제한한다.
+ *
+ * <p>요청 지연 시간은 Spring Boot가 RestClient/RestTemplate에 붙이는 {@code http.client.requests} 메트릭으로 수집한다.
+ */
+@Slf4j
 @Configuration
 public class RestClientConfig {
 
   @Bean
-  public RestTemplate restTemplate(RestTemplateBuilder builder) {
-    return builder.build();
+  public HostRequestLimiter hostRequestLimiter(
+      HostLimitProperties hostLimitProperties,
+      MeterRegistry meterRegistry,
+      ResponseArchive responseArchive) {
+    // REPLAY는 로컬 아카이브만 읽으므로 호스트 제한 없이 최대 속도로 돈다
+    return new HostRequestLimiter(hostLimitProperties, meterRegistry, responseArchive.isReplay());
+  }
+
+  @Bean
+  public ResponseArchive responseArchive(
+      ResponseArchiveProperties responseArchiveProperties, MeterRegistry meterRegistry) {
+    return new ResponseArchive(responseArchiveProperties, meterRegistry);
+  }
+
+  @Bean
+  public GithubRateLimitBudget githubRateLimitBudget(
+      GithubFetchProperties githubFetchProperties, MeterRegistry meterRegistry) {
+    return new GithubRateLimitBudget(githubFetchProperties.getRateLimit(), meterRegistry);
+  }
+
+  @Bean
+  public ResponseBodyPolicy responseBodyPolicy(
+      HostLimitProperties hostLimitProperties, MeterRegistry meterRegistry) {
+    return new ResponseBodyPolicy(hostLimitProperties, meterRegistry);
+  }
+
+  @Bean(destroyMethod = "close")
+  public HttpClient crawlerHttpClient(HttpTransportProperties properties) {
+    log.info(
+        "HTTP 전송 계층 설정 http2={} connectTimeout={} compression={}",
+        properties.isHttp2(),
+        properties.getConnectTimeout(),
+        properties.isCompression());
+    return HttpClient.newBuilder()
+        .version(properties.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .connectTimeout(properties.getConnectTimeout())
+        // 기존 HttpURLConnection 기반 팩토리처럼 리다이렉트를 따라간다
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+  }
+
+  @Bean
+  public RestTemplate restTemplate(
+      RestTemplateBuilder builder,
+      HttpClient crawlerHttpClient,
+      HttpTransportProperties properties,
+      ResponseBodyPolicy responseBodyPolicy) {
+    RestTemplateBuilder configured =
+        builder
+            .requestFactory(() -> requestFactory(crawlerHttpClient, properties, "relboard"))
+            .additionalInterceptors(responseBodyPolicy.interceptor("relboard"));
+    if (properties.isCompression()) {
+      configured = configured.additionalInterceptors(new GzipDecompressingInterceptor());
+    }
+    return configured.build();
   }
 
   @Bean
   @Qualifier("githubRestClient")
   public RestClient githubRestClient(
-      RestClient.Builder builder, @Value("${github.token:}") String githubToken) {
-    RestClient.Builder configured = builder.baseUrl("https://api.github.com");
+      RestClient.Builder builder,
+      HttpClient crawlerHttpClient,
+      HttpTransportProperties properties,
+      ResponseBodyPolicy responseBodyPolicy,
+      ResponseArchive responseArchive,
+      GithubRateLimitBudget githubRateLimitBudget,
+      @Value("${github.token:}") String githubToken) {
+    RestClient.Builder configured =
+        transport(
+                builder,
+                crawlerHttpClient,
+                properties,
+                responseBodyPolicy,
+                responseArchive,
+                "github")
+            .baseUrl("https://api.github.com")
+            .requestInterceptor(githubRateLimitBudget.interceptor());
     if (githubToken != null && !githubToken.isBlank()) {
       configured = configured.defaultHeader("Authorization", "Bearer " + githubToken);
     }
@@ -29,19 +114,69 @@ public class RestClientConfig {
 
   @Bean
   @Qualifier("mavenRestClient")
-  public RestClient mavenRestClient(RestClient.Builder builder) {
-    return builder.build();
+  public RestClient mavenRestClient(
+      RestClient.Builder builder,
+      HttpClient crawlerHttpClient,
+      HttpTransportProperties properties,
+      ResponseBodyPolicy responseBodyPolicy,
+      ResponseArchive responseArchive) {
+    return transport(
+            builder, crawlerHttpClient, properties, responseBodyPolicy, responseArchive, "maven")
+        .build();
   }
 
   @Bean
   @Qualifier("npmRestClient")
-  public RestClient npmRestClient(RestClient.Builder builder) {
-    return builder.baseUrl("https://registry.npmjs.org").build();
+  public RestClient npmRestClient(
+      RestClient.Builder builder,
+      HttpClient crawlerHttpClient,
+      HttpTransportProperties properties,
+      ResponseBodyPolicy responseBodyPolicy,
+      ResponseArchive responseArchive,
+      NpmFetchProperties npmFetchProperties) {
+    return transport(
+            builder, crawlerHttpClient, properties, responseBodyPolicy, responseArchive, "npm")
+        .baseUrl(npmFetchProperties.getRegistryUrl())
+        .build();
   }
 
   @Bean
   @Qualifier("rssRestClient")
-  public RestClient rssRestClient(RestClient.Builder builder) {
-    return builder.build();
+  public RestClient rssRestClient(
+      RestClient.Builder builder,
+      HttpClient crawlerHttpClient,
+      HttpTransportProperties properties,
+      ResponseBodyPolicy responseBodyPolicy,
+      ResponseArchive responseArchive) {
+    return transport(
+            builder, crawlerHttpClient, properties, responseBodyPolicy, responseArchive, "rss")
+        .build();
+  }
+
+  private RestClient.Builder transport(
+      RestClient.Builder builder,
+      HttpClient httpClient,
+      HttpTransportProperties properties,
+      ResponseBodyPolicy responseBodyPolicy,
+      ResponseArchive responseArchive,
+      String client) {
+    RestClient.Builder configured =
+        builder.requestFactory(requestFactory(httpClient, properties, client));
+    // 인터셉터는 등록 순서대로 바깥에서 안쪽으로 감싼다. 아카이브와 본문 크기 제한은 압축을 푼 본문을 봐야 한다
+    if (responseArchive.isEnabled()) {
+      configured = configured.requestInterceptor(responseArchive.interceptor(client));
+    }
+    configured = configured.requestInterceptor(responseBodyPolicy.interceptor(client));
+    if (properties.isCompression()) {
+      configured = configured.requestInterceptor(new GzipDecompressingInterceptor());
+    }
+    return configured;
+  }
+
+  private JdkClientHttpRequestFactory requestFactory(
+      HttpClient httpClient, HttpTransportProperties properties, String client) {
+    JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+    factory.setReadTimeout(properties.readTimeoutFor(client));
+    return factory;
   }
 }
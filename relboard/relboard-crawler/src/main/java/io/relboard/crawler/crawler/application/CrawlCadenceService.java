@@ -0,0 +1,64 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.config.CrawlCadenceProperties;
+import io.relboard.crawler.crawler.domain.CrawlCadencePolicy;
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import io.relboard.crawler.techstack.domain.TechStackSource;
+import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class CrawlCadenceService {
+
+  private final TechStackSourceRepository techStackSourceRepository;
+  private final CrawlLeaseService crawlLeaseService;
+  private final ReleaseRecordRepository releaseRecordRepository;
+  private final CrawlCadencePolicy cadencePolicy;
+  private final int historySize;
+
+  public CrawlCadenceService(
+      final TechStackSourceRepository techStackSourceRepository,
+      final CrawlLeaseService crawlLeaseService,
+      final ReleaseRecordRepository releaseRecordRepository,
+      final CrawlCadenceProperties properties) {
+    this.techStackSourceRepository = techStackSourceRepository;
+    this.crawlLeaseService = crawlLeaseService;
+    this.releaseRecordRepository = releaseRecordRepository;
+    this.cadencePolicy =
+        new CrawlCadencePolicy(
+            properties.getMinInterval(),
+            properties.getMaxInterval(),
+            properties.getDefaultInterval(),
+            properties.getBurstWindow(),
+            properties.getGapDivisor());
+    this.historySize = Math.max(2, properties.getHistorySize());
+  }
+
+  @Transactional
+  public void reschedule(Long sourceId) {
+    TechStackSource source = techStackSourceRepository.findById(sourceId).orElse(null);
+    if (source == null) {
+      return;
+    }
+    Instant now = Instant.now();
+    List<Instant> history =
+        releaseRecordRepository.findRecentPublishedAt(
+            source.getTechStack().getId(), PageRequest.of(0, historySize));
+    Duration interval = cadencePolicy.intervalFor(history, now);
+    Instant nextCrawlAt = now.plus(interval);
+    if (crawlLeaseService.completeWithSchedule(sourceId, nextCrawlAt, interval)) {
+      log.debug(
+          "다음 크롤링 예약 sourceId={} intervalMinutes={} nextCrawlAt={}",
+          sourceId,
+          interval.toMinutes(),
+          nextCrawlAt);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.config.CrawlLeaseProperties;
+import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * tech_stack_source 행 단위 리스로 여러 크롤러 노드가 소스를 나눠 가진다. 리스는 {@code FOR UPDATE SKIP LOCKED}로 선점하므로 노드끼리
+ * 같은 행을 두고 기다리지 않으며, 만료된 리스는 다음 tick에서 다른 노드가 다시 가져간다.
+ *
+ * <p>크롤링 중인 소스의 리스는 {@link #renewHeldLeases()}로 주기적으로 연장해 긴 크롤링 도중 만료되지 않게 한다. 반납과 예약은 리스 주인인 경우에만
+ * 반영된다.
+ */
+@Slf4j
+@Service
+public class CrawlLeaseService {
+
+  private final TechStackSourceRepository techStackSourceRepository;
+  private final String nodeId;
+  private final Duration leaseDuration;
+  private final int batchSize;
+  private final Set<Long> heldSourceIds = ConcurrentHashMap.newKeySet();
+
+  public CrawlLeaseService(
+      final TechStackSourceRepository techStackSourceRepository,
+      final CrawlLeaseProperties properties) {
+    this.techStackSourceRepository = techStackSourceRepository;
+    this.nodeId =
+        properties.getNodeId() == null || properties.getNodeId().isBlank()
+            ? UUID.randomUUID().toString()
+            : properties.getNodeId().trim();
+    this.leaseDuration = properties.getDuration();
+    this.batchSize = Math.max(1, properties.getBatchSize());
+    log.info("크롤링 리스 노드 식별자 nodeId={}", nodeId);
+  }
+
+  @Transactional
+  public List<Long> claimDueSources() {
+    Instant now = Instant.now();
+    List<Long> sourceIds = techStackSourceRepository.lockDueSourceIds(now, batchSize);
+    if (sourceIds.isEmpty()) {
+      return List.of();
+    }
+    techStackSourceRepository.acquireLease(sourceIds, nodeId, now.plus(leaseDuration));
+    heldSourceIds.addAll(sourceIds);
+    return sourceIds;
+  }
+
+  @Transactional
+  public void release(Long sourceId) {
+    heldSourceIds.remove(sourceId);
+    techStackSourceRepository.releaseLease(sourceId, nodeId);
+  }
+
+  /**
+   * 다음 크롤링을 예약하고 리스를 반납한다.
+   *
+   * @return 리스를 잃어(다른 노드가 가져가) 반영하지 않았으면 false
+   */
+  @Transactional
+  public boolean completeWithSchedule(Long sourceId, Instant nextCrawlAt, Duration interval) {
+    heldSourceIds.remove(sourceId);
+    int updated =
+        techStackSourceRepository.scheduleNextCrawl(
+            sourceId, nodeId, nextCrawlAt, (int) interval.toMinutes());
+    if (updated == 0) {
+      log.warn("리스를 잃어 다음 크롤링 예약을 건너뜀 sourceId={} nodeId={}", sourceId, nodeId);
+      return false;
+    }
+    return true;
+  }
+
+  /** 이 노드가 크롤링 중인 소스의 리스를 지금부터 리스 유지 시간만큼 연장한다. */
+  @Transactional
+  public void renewHeldLeases() {
+    if (heldSourceIds.isEmpty()) {
+      return;
+    }
+    List<Long> ids = List.copyOf(heldSourceIds);
+    int renewed =
+        techStackSourceRepository.renewLease(ids, nodeId, Instant.now().plus(leaseDuration));
+    if (renewed < ids.size()) {
+      log.warn("일부 크롤링 리스를 잃음 held={} renewed={} nodeId={}", ids.size(), renewed, nodeId);
+    }
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+}
@@ -0,0 +1,11 @@
+package io.relboard.crawler.crawler.application;
+
+/** 소스 하나를 처리한 결과. */
+public enum CrawlOutcome {
+  /** 크롤링을 마쳤다(새 릴리즈가 없는 경우 포함). 다음 크롤링 시각을 다시 예약한다. */
+  COMPLETED,
+  /** 처리 중 예외로 실패했다. 같은 소스가 매 tick 다시 실패하지 않도록 다음 크롤링 시각은 다시 예약한다. */
+  FAILED,
+  /** 레이트리밋 예산이 부족해 시작하지 않았다. 예약 시각을 그대로 두고 리스만 반납해 다음 사이클에 다시 시도한다. */
+  DEFERRED
+}
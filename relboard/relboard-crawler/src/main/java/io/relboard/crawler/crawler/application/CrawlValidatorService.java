@@ -0,0 +1,71 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.infra.client.HttpValidators;
+import io.relboard.crawler.techstack.domain.TechStackSourceValidator;
+import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
+import io.relboard.crawler.techstack.repository.TechStackSourceValidatorRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 업스트림 리소스별 ETag / Last-Modified 값을 읽고 저장한다. 검증자는 크롤링 결과가 모두 저장된 뒤에만 갱신해야 다음 304 응답이 놓친 릴리즈를 숨기지
+ * 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CrawlValidatorService {
+
+  public static final String GITHUB_TAGS = "github_tags";
+  public static final String MAVEN_METADATA = "maven_metadata";
+  public static final String NPM_PACKAGE = "npm_package";
+  public static final String RSS_FEED = "rss_feed";
+
+  private final TechStackSourceValidatorRepository validatorRepository;
+  private final TechStackSourceRepository techStackSourceRepository;
+
+  @Transactional(readOnly = true)
+  public Map<String, HttpValidators> load(Long sourceId) {
+    Map<String, HttpValidators> validators = new HashMap<>();
+    for (TechStackSourceValidator validator : validatorRepository.findBySourceId(sourceId)) {
+      validators.put(
+          validator.getResource(),
+          new HttpValidators(
+              validator.getEtag(), validator.getLastModified(), validator.getContentStamp()));
+    }
+    return validators;
+  }
+
+  @Transactional
+  public void save(Long sourceId, Map<String, HttpValidators> validators) {
+    if (validators == null || validators.isEmpty()) {
+      return;
+    }
+    Map<String, TechStackSourceValidator> existing =
+        validatorRepository.findBySourceId(sourceId).stream()
+            .collect(Collectors.toMap(TechStackSourceValidator::getResource, Function.identity()));
+    validators.forEach(
+        (resource, value) -> {
+          if (value == null || value.isEmpty()) {
+            return;
+          }
+          TechStackSourceValidator validator = existing.get(resource);
+          if (validator != null) {
+            validator.update(value.etag(), value.lastModified(), value.contentStamp());
+            return;
+          }
+          validatorRepository.save(
+              TechStackSourceValidator.builder()
+                  .source(techStackSourceRepository.getReferenceById(sourceId))
+                  .resource(resource)
+                  .etag(value.etag())
+                  .lastModified(value.lastModified())
+                  .contentStamp(value.contentStamp())
+                  .build());
+        });
+  }
+}
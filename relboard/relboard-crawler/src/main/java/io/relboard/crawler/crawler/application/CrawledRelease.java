@@ -0,0 +1,7 @@
+package io.relboard.crawler.crawler.application;
+
+import java.time.Instant;
+
+/** 트랜잭션 밖에서 수집한 신규 릴리즈. 쓰기 단계에서 release_record로 저장된다. */
+public record CrawledRelease(
+    String version, String title, String content, Instant publishedAt, String sourceUrl) {}
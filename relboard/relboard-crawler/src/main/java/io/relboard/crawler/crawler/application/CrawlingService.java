@@ -2,5 +2,10 @@ package io.relboard.crawler.crawler.application;
 
 public interface CrawlingService {
 
-  void process(Long sourceId);
+  default CrawlOutcome process(Long sourceId) {
+    return process(sourceId, GithubReleaseCatalog.EMPTY);
+  }
+
+  /** {@code catalog}에 릴리즈가 있으면 GitHub REST 조회 대신 사용한다. */
+  CrawlOutcome process(Long sourceId, GithubReleaseCatalog catalog);
 }
@@ -1,61 +1,59 @@
 package io.relboard.crawler.crawler.application;
 
+import io.relboard.crawler.config.GithubFetchProperties;
+import io.relboard.crawler.infra.client.ConditionalResult;
 import io.relboard.crawler.infra.client.GithubClient;
+import io.relboard.crawler.infra.client.GithubFetchMode;
+import io.relboard.crawler.infra.client.GithubLookupException;
+import io.relboard.crawler.infra.client.GithubRateLimitBudget;
+import io.relboard.crawler.infra.client.GithubRateLimitException;
+import io.relboard.crawler.infra.client.HttpValidators;
 import io.relboard.crawler.infra.client.RssClient;
-import io.relboard.crawler.infra.kafka.KafkaProducer;
-import io.relboard.crawler.release.domain.ReleaseParser;
-import io.relboard.crawler.release.domain.ReleaseRecord;
-import io.relboard.crawler.release.domain.ReleaseTag;
-import io.relboard.crawler.release.domain.ReleaseTagType;
-import io.relboard.crawler.release.event.ReleaseEvent;
-import io.relboard.crawler.release.repository.ReleaseRecordRepository;
-import io.relboard.crawler.release.repository.ReleaseTagRepository;
 import io.relboard.crawler.techstack.domain.TechStack;
 import io.relboard.crawler.techstack.domain.TechStackSource;
 import io.relboard.crawler.techstack.domain.TechStackSourceType;
-import io.relboard.crawler.techstack.repository.TechStackRepository;
 import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
-import io.relboard.crawler.translation.domain.TranslationBacklog;
-import io.relboard.crawler.translation.domain.TranslationBacklogStatus;
-import io.relboard.crawler.translation.repository.TranslationBacklogRepository;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 소스 하나를 크롤링한다. 업스트림 조회(수집 단계)는 트랜잭션 없이 수행하고, 새로 찾은 릴리즈만 {@link ReleaseWriteService}의 짧은 트랜잭션으로
+ * 저장한다. 목록 조회는 저장된 ETag / Last-Modified로 조건부 요청을 보내며, 304면 버전 비교 없이 바로 끝낸다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CrawlingServiceImpl implements CrawlingService {
 
   private final TechStackSourceRepository techStackSourceRepository;
-  private final TechStackRepository techStackRepository;
-  private final ReleaseRecordRepository releaseRecordRepository;
-  private final ReleaseTagRepository releaseTagRepository;
+  private final KnownVersionService knownVersionService;
   private final GithubClient githubClient;
   private final MavenCrawlingService mavenCrawlingService;
   private final NpmCrawlingService npmCrawlingService;
   private final RssCrawlingService rssCrawlingService;
-  private final KafkaProducer kafkaProducer;
-  private final TranslationBacklogRepository translationBacklogRepository;
-  private final ReleaseParser releaseParser = new ReleaseParser();
+  private final ReleaseWriteService releaseWriteService;
+  private final CrawlValidatorService crawlValidatorService;
+  private final GithubFetchProperties githubFetchProperties;
+  private final GithubRateLimitBudget githubRateLimitBudget;
+  private final MarkdownConversionService markdownConversionService;
 
-  @Transactional
   @Override
-  public void process(Long sourceId) {
+  public CrawlOutcome process(Long sourceId, GithubReleaseCatalog catalog) {
     long processStartNs = System.nanoTime();
     String techStackName = "sourceId=" + sourceId;
     try {
       TechStackSource source =
           techStackSourceRepository
-              .findById(sourceId)
+              .findWithDetailsById(sourceId)
               .orElseThrow(
                   () -> new IllegalArgumentException("TechStackSource not found: " + sourceId));
 
@@ -64,128 +62,129 @@ public class CrawlingServiceImpl implements CrawlingService {
 
       String githubOwner = source.getMetadataValue("github_owner").orElse(null);
       String githubRepo = source.getMetadataValue("github_repo").orElse(null);
+      if (githubOwner != null
+          && githubRepo != null
+          && !githubRateLimitBudget.admit(
+              githubRateLimitBudget.isLowPriority(source.getCrawlIntervalMinutes()))) {
+        log.info(
+            "GitHub 레이트리밋 예산 부족으로 다음 사이클로 미룸 techStack={} remaining={}",
+            techStackName,
+            githubRateLimitBudget.remaining());
+        return CrawlOutcome.DEFERRED;
+      }
+
       Optional<List<String>> versionsOpt = Optional.empty();
-      List<RssClient.RssEntry> rssEntries = List.of();
+      List<RssClient.RssEntry> rssEntries = null;
+      Map<String, HttpValidators> storedValidators = crawlValidatorService.load(sourceId);
+      Map<String, HttpValidators> receivedValidators = new HashMap<>();
 
       if (source.getType() == TechStackSourceType.RSS) {
-        rssEntries = rssCrawlingService.fetchEntries(source);
+        ConditionalResult<List<RssClient.RssEntry>> result =
+            rssCrawlingService.fetchEntries(
+                source, storedValidators.get(CrawlValidatorService.RSS_FEED));
+        if (isNotModified(
+            result, sourceId, techStackName, CrawlValidatorService.RSS_FEED, storedValidators)) {
+          return CrawlOutcome.COMPLETED;
+        }
+        collectValidators(receivedValidators, CrawlValidatorService.RSS_FEED, result);
+        rssEntries = result.bodyOptional().orElse(null);
       } else {
-        if (githubOwner != null && githubRepo != null) {
-          versionsOpt = githubClient.fetchTags(githubOwner, githubRepo, 30);
+        // GRAPHQL 모드에서 사전 조회한 릴리즈가 있으면 그 태그 이름을 버전 목록으로 쓰고 REST 태그 목록은 조회하지 않는다
+        Optional<List<String>> prefetchedTags =
+            githubOwner != null && githubRepo != null
+                ? catalog.tagNames(githubOwner, githubRepo)
+                : Optional.empty();
+        if (prefetchedTags.isPresent()) {
+          versionsOpt = prefetchedTags;
+        } else if (githubOwner != null && githubRepo != null) {
+          ConditionalResult<List<String>> result =
+              githubClient.fetchTags(
+                  githubOwner,
+                  githubRepo,
+                  30,
+                  storedValidators.get(CrawlValidatorService.GITHUB_TAGS));
+          if (isNotModified(
+              result,
+              sourceId,
+              techStackName,
+              CrawlValidatorService.GITHUB_TAGS,
+              storedValidators)) {
+            return CrawlOutcome.COMPLETED;
+          }
+          collectValidators(receivedValidators, CrawlValidatorService.GITHUB_TAGS, result);
+          versionsOpt = result.bodyOptional();
         }
 
         if (versionsOpt.isEmpty()) {
+          ConditionalResult<List<String>> result = ConditionalResult.empty();
+          String resource = null;
           if (source.getType() == TechStackSourceType.MAVEN) {
-            versionsOpt = mavenCrawlingService.fetchVersions(source);
+            resource = CrawlValidatorService.MAVEN_METADATA;
+            result = mavenCrawlingService.fetchVersions(source, storedValidators.get(resource));
           } else if (source.getType() == TechStackSourceType.NPM) {
-            versionsOpt = npmCrawlingService.fetchVersions(source);
+            resource = CrawlValidatorService.NPM_PACKAGE;
+            result = npmCrawlingService.fetchVersions(source, storedValidators.get(resource));
+          }
+          if (isNotModified(result, sourceId, techStackName, resource, storedValidators)) {
+            return CrawlOutcome.COMPLETED;
           }
+          collectValidators(receivedValidators, resource, result);
+          versionsOpt = result.bodyOptional();
         }
       }
 
-      if (source.getType() == TechStackSourceType.RSS && rssEntries.isEmpty()) {
+      // 피드 읽기가 이미 저장된 항목에서 멈추므로 빈 목록은 새 항목이 없다는 뜻이다
+      if (source.getType() == TechStackSourceType.RSS && rssEntries == null) {
         log.warn("RSS 항목을 찾을 수 없어 크롤링 건너뜀 techStack={}", techStackName);
-        return;
+        return CrawlOutcome.COMPLETED;
       } else if (source.getType() != TechStackSourceType.RSS && versionsOpt.isEmpty()) {
         log.warn("버전 목록을 찾을 수 없어 크롤링 건너뜀 techStack={}", techStackName);
-        return;
+        return CrawlOutcome.COMPLETED;
       }
 
       TechStack techStack = source.getTechStack();
+      List<CrawledRelease> releases = new ArrayList<>();
       String lastProcessedVersion = null;
+      // GitHub 릴리즈가 없는(404) 버전은 NPM 경로처럼 노트 없이 저장한다. 조회 자체가 실패한 버전이 있을 때만 검증자를 갱신하지 않는다.
+      // 검증자는 버전 목록 리소스(태그 목록, maven-metadata.xml, packument) 단위라 일부 버전만 처리된 목록의 검증자를 나눠 저장할 수 없다.
+      // 처리한 버전은 저장되므로 다음 크롤링은 목록을 다시 받아 실패한 버전만 다시 시도한다
+      boolean complete = true;
 
       if (source.getType() == TechStackSourceType.RSS) {
+        Set<String> newVersions =
+            knownVersionService.findNewVersions(
+                techStack.getId(), rssEntries.stream().map(RssClient.RssEntry::version).toList());
+        List<RssClient.RssEntry> newEntries = new ArrayList<>();
         for (RssClient.RssEntry entry : rssEntries) {
-          long releaseStartNs = System.nanoTime();
-          String version = entry.version();
-          if (version == null || version.isBlank()) {
-            continue;
-          }
-          if (releaseRecordRepository.existsByTechStackAndVersion(techStack, version)) {
-            continue;
+          // 같은 피드 안에서 버전이 중복되면 첫 항목만 저장한다
+          if (entry.version() != null && newVersions.remove(entry.version())) {
+            newEntries.add(entry);
           }
-
+        }
+        // HTML→Markdown 변환은 실제로 저장할 항목에만 한다
+        List<String> contents =
+            markdownConversionService.convertAll(
+                newEntries.stream().map(RssClient.RssEntry::htmlContent).toList());
+        for (int i = 0; i < newEntries.size(); i++) {
+          RssClient.RssEntry entry = newEntries.get(i);
+          String version = entry.version();
           String title = entry.title() != null ? entry.title() : version;
-          String content = entry.content();
-          Instant publishedAt = entry.publishedAt();
-          String sourceUrl = entry.link();
-
-          ReleaseRecord record =
-              releaseRecordRepository.save(
-                  ReleaseRecord.builder()
-                      .techStack(techStack)
-                      .version(version)
-                      .title(title)
-                      .content(content)
-                      .publishedAt(publishedAt)
-                      .build());
-
-          List<ReleaseEvent.Tag> eventTags = List.of();
-          if (content != null) {
-            Set<ReleaseTagType> tags = releaseParser.extractTags(content);
-            eventTags =
-                tags.stream()
-                    .map(
-                        tagType -> {
-                          releaseTagRepository.save(
-                              ReleaseTag.builder().releaseRecord(record).tagType(tagType).build());
-                          return new ReleaseEvent.Tag(tagType.name(), "Auto-extracted");
-                        })
-                    .toList();
-          }
-
-          // Kafka 메시지 전송
-          LocalDateTime publishedAtAtSeoul =
-              record.getPublishedAt() != null
-                  ? LocalDateTime.ofInstant(record.getPublishedAt(), ZoneId.of("Asia/Seoul"))
-                  : null;
-          kafkaProducer.sendReleaseEvent(
-              new ReleaseEvent(
-                  UUID.randomUUID().toString(),
-                  LocalDateTime.now(),
-                  new ReleaseEvent.Payload(
-                      techStack.getName(),
-                      version,
-                      record.getTitle(),
-                      record.getContent(),
-                      null,
-                      null,
-                      List.of(),
-                      null,
-                      List.of(),
-                      publishedAtAtSeoul,
-                      sourceUrl,
-                      eventTags)));
-
-          if (content != null && sourceUrl != null) {
-            enqueueTranslationBacklog(record, sourceUrl);
-          }
-
-          log.info(
-              "릴리즈 크롤링 성공 techStack={} version={} title={}",
-              techStackName,
-              version,
-              record.getTitle());
-          long releaseMs = (System.nanoTime() - releaseStartNs) / 1_000_000L;
-          log.trace(
-              "릴리즈 처리 시간 techStack={} version={} elapsedMs={}",
-              techStackName,
-              version,
-              releaseMs);
+          releases.add(
+              new CrawledRelease(
+                  version, title, contents.get(i), entry.publishedAt(), entry.link()));
 
           if (lastProcessedVersion == null) {
             lastProcessedVersion = version;
           }
         }
       } else {
-        List<String> versions = versionsOpt.get();
-        for (String version : versions) {
+        Set<String> newVersions =
+            knownVersionService.findNewVersions(techStack.getId(), versionsOpt.get());
+        Map<String, GithubClient.ReleaseDetails> listedReleases =
+            listReleases(techStack.getId(), githubOwner, githubRepo, newVersions);
+        for (String version : newVersions) {
           long releaseStartNs = System.nanoTime();
-          if (releaseRecordRepository.existsByTechStackAndVersion(techStack, version)) {
-            continue;
-          }
 
-          GithubClient.ReleaseDetails releaseDetails = null;
           String sourceUrl = null;
           String content = null;
           Instant publishedAt = null;
@@ -193,96 +192,66 @@ public class CrawlingServiceImpl implements CrawlingService {
 
           if (githubOwner != null && githubRepo != null) {
             Optional<GithubClient.ReleaseDetails> releaseDetailsOpt =
-                githubClient.fetchReleaseDetails(githubOwner, githubRepo, version);
+                catalog.find(githubOwner, githubRepo, version);
+            if (releaseDetailsOpt.isEmpty() && listedReleases != null) {
+              releaseDetailsOpt = findListedRelease(listedReleases, version);
+            }
+            // 목록 조회가 중간에 실패했거나 페이지 한도에 닿아 목록에 없을 수 있으므로 태그별로 다시 조회한다
             if (releaseDetailsOpt.isEmpty()) {
-              log.warn("릴리즈 노트를 찾을 수 없어 건너뜀 techStack={} version={}", techStackName, version);
-              continue;
+              try {
+                releaseDetailsOpt =
+                    githubClient.fetchReleaseDetails(githubOwner, githubRepo, version);
+              } catch (GithubLookupException ex) {
+                log.warn(
+                    "릴리즈 노트 조회 실패로 다음 크롤링에 다시 시도 techStack={} version={} error={}",
+                    techStackName,
+                    version,
+                    ex.getMessage());
+                complete = false;
+                continue;
+              }
+            }
+            if (releaseDetailsOpt.isPresent()) {
+              GithubClient.ReleaseDetails releaseDetails = releaseDetailsOpt.get();
+              title = releaseDetails.title() != null ? releaseDetails.title() : version;
+              content = releaseDetails.content();
+              publishedAt = releaseDetails.publishedAt();
+              sourceUrl = releaseDetails.htmlUrl();
+            } else {
+              log.info(
+                  "GitHub 릴리즈가 없어 릴리즈 노트 없이 저장 techStack={} version={}", techStackName, version);
             }
-            releaseDetails = releaseDetailsOpt.get();
-            title = releaseDetails.title() != null ? releaseDetails.title() : version;
-            content = releaseDetails.content();
-            publishedAt = releaseDetails.publishedAt();
-            sourceUrl = releaseDetails.htmlUrl();
           } else if (source.getType() == TechStackSourceType.NPM) {
             log.warn(
-                "GitHub 좌표 정보가 없어 릴리즈 노트 없이 저장 techStack={} version={}",
-                techStackName,
-                version);
+                "GitHub 좌표 정보가 없어 릴리즈 노트 없이 저장 techStack={} version={}", techStackName, version);
           } else {
             log.warn("GitHub 좌표 정보 부족으로 크롤링 건너뜀 techStack={}", techStackName);
-            return;
-          }
-
-          ReleaseRecord record =
-              releaseRecordRepository.save(
-                  ReleaseRecord.builder()
-                      .techStack(techStack)
-                      .version(version)
-                      .title(title)
-                      .content(content)
-                      .publishedAt(publishedAt)
-                      .build());
-
-          List<ReleaseEvent.Tag> eventTags = List.of();
-          if (content != null) {
-            Set<ReleaseTagType> tags = releaseParser.extractTags(content);
-            eventTags =
-                tags.stream()
-                    .map(
-                        tagType -> {
-                          releaseTagRepository.save(
-                              ReleaseTag.builder().releaseRecord(record).tagType(tagType).build());
-                          return new ReleaseEvent.Tag(tagType.name(), "Auto-extracted");
-                        })
-                    .toList();
-          }
-
-          // Kafka 메시지 전송
-          LocalDateTime publishedAtAtSeoul =
-              record.getPublishedAt() != null
-                  ? LocalDateTime.ofInstant(record.getPublishedAt(), ZoneId.of("Asia/Seoul"))
-                  : null;
-          kafkaProducer.sendReleaseEvent(
-              new ReleaseEvent(
-                  UUID.randomUUID().toString(),
-                  LocalDateTime.now(),
-                  new ReleaseEvent.Payload(
-                      techStack.getName(),
-                      version,
-                      record.getTitle(),
-                      record.getContent(),
-                      null,
-                      null,
-                      List.of(),
-                      null,
-                      List.of(),
-                      publishedAtAtSeoul,
-                      sourceUrl,
-                      eventTags)));
-
-          if (content != null && sourceUrl != null) {
-            enqueueTranslationBacklog(record, sourceUrl);
+            return CrawlOutcome.COMPLETED;
           }
 
-          log.info(
-              "릴리즈 크롤링 성공 techStack={} version={} title={}",
-              techStackName,
-              version,
-              record.getTitle());
+          releases.add(new CrawledRelease(version, title, content, publishedAt, sourceUrl));
           long releaseMs = (System.nanoTime() - releaseStartNs) / 1_000_000L;
           log.trace(
-              "릴리즈 처리 시간 techStack={} version={} elapsedMs={}",
-              techStackName,
-              version,
-              releaseMs);
+              "릴리즈 수집 시간 techStack={} version={} elapsedMs={}", techStackName, version, releaseMs);
 
           lastProcessedVersion = version;
         }
       }
 
-      if (lastProcessedVersion != null) {
-        techStack.updateLatestVersion(lastProcessedVersion);
-        techStackRepository.save(techStack);
+      Map<String, HttpValidators> validatorsToSave = complete ? receivedValidators : Map.of();
+      if (!releases.isEmpty()) {
+        long writeStartNs = System.nanoTime();
+        releaseWriteService.write(
+            sourceId, techStack.getId(), releases, lastProcessedVersion, validatorsToSave);
+        knownVersionService.markKnown(
+            techStack.getId(), releases.stream().map(CrawledRelease::version).toList());
+        log.debug(
+            "릴리즈 저장 완료 techStack={} count={} elapsedMs={}",
+            techStackName,
+            releases.size(),
+            (System.nanoTime() - writeStartNs) / 1_000_000L);
+      } else {
+        crawlValidatorService.save(sourceId, validatorsToSave);
       }
 
       long totalMs = (System.nanoTime() - processStartNs) / 1_000_000L;
@@ -291,22 +260,77 @@ public class CrawlingServiceImpl implements CrawlingService {
           techStackName,
           lastProcessedVersion,
           totalMs);
+    } catch (GithubRateLimitException ex) {
+      log.warn(
+          "GitHub 레이트리밋으로 크롤링 중단, 다음 사이클로 미룸 techStack={} blockedUntil={}",
+          techStackName,
+          ex.getBlockedUntil());
+      return CrawlOutcome.DEFERRED;
     } catch (Exception ex) {
       log.error("크롤링 실패 techStack={}", techStackName, ex);
+      return CrawlOutcome.FAILED;
     }
+    return CrawlOutcome.COMPLETED;
   }
 
-  private void enqueueTranslationBacklog(ReleaseRecord record, String sourceUrl) {
-    if (translationBacklogRepository.existsByReleaseRecordId(record.getId())) {
-      return;
+  /**
+   * RELEASES 모드면 새 버전을 모두 찾거나 이미 아는 태그만 있는 페이지가 나올 때까지 릴리즈 목록을 넘겨 태그 → 릴리즈 맵을 만든다. 다른 모드이거나 GitHub
+   * 좌표가 없으면 null을 돌려주며, 이 경우 버전마다 개별 조회한다. 맵에 없는 버전도 개별 조회로 다시 찾는다.
+   */
+  private Map<String, GithubClient.ReleaseDetails> listReleases(
+      Long techStackId, String githubOwner, String githubRepo, Set<String> newVersions) {
+    if (githubFetchProperties.getFetchMode() != GithubFetchMode.RELEASES
+        || githubOwner == null
+        || githubRepo == null
+        || newVersions.isEmpty()) {
+      return null;
+    }
+    Predicate<String> isKnownVersion = knownVersionService.knownPredicate(techStackId);
+    return githubClient.fetchReleases(
+        githubOwner,
+        githubRepo,
+        newVersions,
+        tag -> GithubClient.tagCandidates(tag).stream().anyMatch(isKnownVersion),
+        githubFetchProperties.getReleasesMaxPages());
+  }
+
+  private Optional<GithubClient.ReleaseDetails> findListedRelease(
+      Map<String, GithubClient.ReleaseDetails> listedReleases, String version) {
+    for (String tag : GithubClient.tagCandidates(version)) {
+      GithubClient.ReleaseDetails details = listedReleases.get(tag);
+      if (details != null) {
+        return Optional.of(details);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private void collectValidators(
+      Map<String, HttpValidators> validators, String resource, ConditionalResult<?> result) {
+    if (resource != null && !result.validators().isEmpty()) {
+      validators.put(resource, result.validators());
+    }
+  }
+
+  /**
+   * 업스트림이 304를 돌려줬거나 본문의 변경 표시가 같으면 참이다. 304가 아닌 200 응답이면 ETag 등이 바뀌었을 수 있으므로, 달라진 검증자만 저장해 다음 요청이
+   * 304로 끝나게 한다.
+   */
+  private boolean isNotModified(
+      ConditionalResult<?> result,
+      Long sourceId,
+      String techStackName,
+      String resource,
+      Map<String, HttpValidators> storedValidators) {
+    if (!result.notModified()) {
+      return false;
+    }
+    log.info("업스트림 변경 없음, 크롤링 종료 techStack={} resource={}", techStackName, resource);
+    if (resource != null
+        && !result.validators().isEmpty()
+        && !result.validators().equals(storedValidators.get(resource))) {
+      crawlValidatorService.save(sourceId, Map.of(resource, result.validators()));
     }
-    translationBacklogRepository.save(
-        TranslationBacklog.builder()
-            .releaseRecord(record)
-            .status(TranslationBacklogStatus.PENDING)
-            .retryCount(0)
-            .lastError(null)
-            .sourceUrl(sourceUrl)
-            .build());
+    return true;
   }
 }
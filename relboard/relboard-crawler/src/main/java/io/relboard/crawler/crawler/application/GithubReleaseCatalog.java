@@ -0,0 +1,103 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.infra.client.GithubClient;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한 크롤링 사이클 동안 쓰는 GitHub 릴리즈 사전 조회 결과. 여러 작업 스레드가 동시에 읽으며, 적중해서 REST 요청(태그 목록, 태그별 릴리즈 조회)을 실제로 보내지
+ * 않은 만큼만 절감량으로 센다.
+ */
+public class GithubReleaseCatalog {
+
+  public static final GithubReleaseCatalog EMPTY = new GithubReleaseCatalog(Map.of(), 0, 0);
+
+  private final Map<String, Map<String, GithubClient.ReleaseDetails>> releasesByRepository;
+  private final Map<String, List<String>> tagNamesByRepository;
+  private final int graphqlRequests;
+  private final int graphqlCost;
+  private final AtomicInteger hits = new AtomicInteger();
+  private final AtomicInteger restCallsSaved = new AtomicInteger();
+
+  public GithubReleaseCatalog(
+      Map<GithubClient.RepositoryRef, List<GithubClient.TaggedRelease>> releases,
+      int graphqlRequests,
+      int graphqlCost) {
+    Map<String, Map<String, GithubClient.ReleaseDetails>> index = new HashMap<>();
+    Map<String, List<String>> tagNames = new HashMap<>();
+    releases.forEach(
+        (repository, items) -> {
+          Map<String, GithubClient.ReleaseDetails> byTag = new LinkedHashMap<>();
+          for (GithubClient.TaggedRelease item : items) {
+            byTag.putIfAbsent(item.tagName(), item.details());
+          }
+          String key = key(repository.owner(), repository.name());
+          index.put(key, Map.copyOf(byTag));
+          tagNames.put(key, List.copyOf(byTag.keySet()));
+        });
+    this.releasesByRepository = Map.copyOf(index);
+    this.tagNamesByRepository = Map.copyOf(tagNames);
+    this.graphqlRequests = graphqlRequests;
+    this.graphqlCost = graphqlCost;
+  }
+
+  /**
+   * 사전 조회한 저장소의 릴리즈 태그 이름을 최신순으로 돌려준다. 값이 있으면 호출자는 REST {@code /tags}를 보내지 않으므로 요청 1건을 절감량으로 센다.
+   * 저장소가 없거나 릴리즈가 하나도 없으면(태그만 쓰는 저장소) 빈 값이라 호출자가 REST로 조회한다.
+   */
+  public Optional<List<String>> tagNames(String owner, String repo) {
+    List<String> tagNames = tagNamesByRepository.get(key(owner, repo));
+    if (tagNames == null || tagNames.isEmpty()) {
+      return Optional.empty();
+    }
+    restCallsSaved.incrementAndGet();
+    return Optional.of(tagNames);
+  }
+
+  /** REST 조회와 같은 태그 후보 순서로 찾는다. 적중하면 REST가 그 후보까지 보냈을 요청 수를 절감량으로 센다. 없으면 호출자가 REST로 조회한다. */
+  public Optional<GithubClient.ReleaseDetails> find(String owner, String repo, String version) {
+    Map<String, GithubClient.ReleaseDetails> byTag = releasesByRepository.get(key(owner, repo));
+    if (byTag == null) {
+      return Optional.empty();
+    }
+    List<String> candidates = GithubClient.tagCandidates(version);
+    for (int i = 0; i < candidates.size(); i++) {
+      GithubClient.ReleaseDetails details = byTag.get(candidates.get(i));
+      if (details != null) {
+        hits.incrementAndGet();
+        restCallsSaved.addAndGet(i + 1);
+        return Optional.of(details);
+      }
+    }
+    return Optional.empty();
+  }
+
+  public int repositoryCount() {
+    return releasesByRepository.size();
+  }
+
+  public int graphqlRequests() {
+    return graphqlRequests;
+  }
+
+  public int graphqlCost() {
+    return graphqlCost;
+  }
+
+  public int hits() {
+    return hits.get();
+  }
+
+  public int restCallsSaved() {
+    return restCallsSaved.get();
+  }
+
+  private static String key(String owner, String repo) {
+    return (owner + "/" + repo).toLowerCase(Locale.ROOT);
+  }
+}
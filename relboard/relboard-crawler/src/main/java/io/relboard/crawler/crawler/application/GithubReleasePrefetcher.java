@@ -0,0 +1,112 @@
+package io.relboard.crawler.crawler.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.config.GithubFetchProperties;
+import io.relboard.crawler.infra.client.GithubClient;
+import io.relboard.crawler.infra.client.GithubFetchMode;
+import io.relboard.crawler.techstack.domain.TechStackSource;
+import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * GRAPHQL 모드에서 이번 사이클에 크롤링할 GitHub 소스들의 최신 릴리즈를 저장소 여러 개씩 묶어 미리 가져온다. 태그마다 REST를 1~2번 호출하던 것을 사이클당
+ * 몇 번의 GraphQL 요청으로 줄인다.
+ */
+@Slf4j
+@Service
+public class GithubReleasePrefetcher {
+
+  private final TechStackSourceRepository techStackSourceRepository;
+  private final GithubClient githubClient;
+  private final GithubFetchProperties properties;
+  private final boolean authenticated;
+  private final Counter graphqlCostCounter;
+  private final Counter restCallsSavedCounter;
+
+  public GithubReleasePrefetcher(
+      final TechStackSourceRepository techStackSourceRepository,
+      final GithubClient githubClient,
+      final GithubFetchProperties properties,
+      final MeterRegistry meterRegistry,
+      @Value("${github.token:}") final String githubToken) {
+    this.techStackSourceRepository = techStackSourceRepository;
+    this.githubClient = githubClient;
+    this.properties = properties;
+    this.authenticated = githubToken != null && !githubToken.isBlank();
+    this.graphqlCostCounter = meterRegistry.counter("crawler.github.graphql.cost");
+    this.restCallsSavedCounter = meterRegistry.counter("crawler.github.rest.saved");
+    if (properties.getFetchMode() == GithubFetchMode.GRAPHQL && !authenticated) {
+      log.warn("GitHub 토큰이 없어 GraphQL 사전 조회를 쓰지 않음 fetchMode={}", properties.getFetchMode());
+    }
+  }
+
+  public GithubReleaseCatalog prefetch(List<Long> sourceIds) {
+    if (properties.getFetchMode() != GithubFetchMode.GRAPHQL
+        || !authenticated
+        || sourceIds.isEmpty()) {
+      return GithubReleaseCatalog.EMPTY;
+    }
+
+    Set<GithubClient.RepositoryRef> repositories = new LinkedHashSet<>();
+    for (TechStackSource source : techStackSourceRepository.findWithDetailsByIdIn(sourceIds)) {
+      String owner = source.getMetadataValue("github_owner").orElse(null);
+      String repo = source.getMetadataValue("github_repo").orElse(null);
+      if (owner != null && repo != null) {
+        repositories.add(new GithubClient.RepositoryRef(owner, repo));
+      }
+    }
+    if (repositories.isEmpty()) {
+      return GithubReleaseCatalog.EMPTY;
+    }
+
+    List<GithubClient.RepositoryRef> ordered = new ArrayList<>(repositories);
+    int batchSize = Math.max(1, properties.getGraphqlBatchSize());
+    Map<GithubClient.RepositoryRef, List<GithubClient.TaggedRelease>> releases = new HashMap<>();
+    int requests = 0;
+    int cost = 0;
+    int remaining = -1;
+    for (int from = 0; from < ordered.size(); from += batchSize) {
+      List<GithubClient.RepositoryRef> batch =
+          ordered.subList(from, Math.min(ordered.size(), from + batchSize));
+      GithubClient.GraphqlReleases result =
+          githubClient.fetchLatestReleases(batch, properties.getReleasesPerRepository());
+      requests++;
+      cost += result.cost();
+      remaining = result.remaining();
+      releases.putAll(result.releases());
+    }
+    graphqlCostCounter.increment(cost);
+
+    log.info(
+        "GitHub GraphQL 릴리즈 사전 조회 repositories={} fetched={} requests={} cost={} remaining={}",
+        ordered.size(),
+        releases.size(),
+        requests,
+        cost,
+        remaining);
+    return new GithubReleaseCatalog(releases, requests, cost);
+  }
+
+  /** 사이클이 끝난 뒤 REST 대신 사전 조회 결과로 처리한 만큼을 레이트리밋 포인트로 기록한다. */
+  public void report(GithubReleaseCatalog catalog) {
+    if (catalog == GithubReleaseCatalog.EMPTY) {
+      return;
+    }
+    restCallsSavedCounter.increment(catalog.restCallsSaved());
+    log.info(
+        "GitHub 레이트리밋 절감 hits={} restCallsSaved={} graphqlCost={} netSaved={}",
+        catalog.hits(),
+        catalog.restCallsSaved(),
+        catalog.graphqlCost(),
+        catalog.restCallsSaved() - catalog.graphqlCost());
+  }
+}
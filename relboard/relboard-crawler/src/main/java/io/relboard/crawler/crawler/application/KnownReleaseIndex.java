@@ -0,0 +1,104 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.common.LongHashSet;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미 저장된 (techStackId, version) 쌍을 64비트 해시로 보관하는 프로세스 전역 인덱스. 릴리즈 하나당 8바이트 남짓만 쓴다.
+ *
+ * <p>인덱스에 있으면 저장된 버전으로 보고 DB 조회를 생략한다. 없다고 해서 신규라는 뜻은 아니다. 다른 노드가 저장했거나 워밍업 전일 수 있으므로 호출하는 쪽이 DB로
+ * 다시 확인한다.
+ *
+ * <p>릴리즈가 삭제되거나 초기화돼도 항목을 지울 수는 없으므로(해시만 보관) {@link KnownReleaseIndexWarmer}가 주기적으로 DB에서 새로 만들어 통째로
+ * 바꾼다.
+ */
+@Component
+public class KnownReleaseIndex {
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private LongHashSet hashes = new LongHashSet(1 << 16);
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public boolean contains(Long techStackId, String version) {
+    long hash = hash(techStackId, version);
+    lock.readLock().lock();
+    try {
+      return hashes.contains(hash);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void add(Long techStackId, String version) {
+    long hash = hash(techStackId, version);
+    lock.writeLock().lock();
+    try {
+      hashes.add(hash);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** DB에서 새로 만든 해시 집합으로 바꾼다. 만드는 동안 추가된 항목이 빠질 수 있지만 인덱스에 없는 버전은 DB로 다시 확인하므로 안전하다. */
+  public void replaceWith(Builder builder) {
+    lock.writeLock().lock();
+    try {
+      hashes = builder.hashes;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** 기존 인덱스를 잠그지 않고 새 인덱스 내용을 모은다. */
+  public static final class Builder {
+    private final LongHashSet hashes = new LongHashSet(1 << 16);
+
+    public Builder add(Long techStackId, String version) {
+      hashes.add(hash(techStackId, version));
+      return this;
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return hashes.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public long memoryBytes() {
+    lock.readLock().lock();
+    try {
+      return hashes.memoryBytes();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  static long hash(Long techStackId, String version) {
+    long h = FNV_OFFSET ^ (techStackId == null ? 0L : techStackId);
+    h *= FNV_PRIME;
+    for (byte b : version.getBytes(StandardCharsets.UTF_8)) {
+      h ^= (b & 0xff);
+      h *= FNV_PRIME;
+    }
+    // murmur3 fmix64로 하위 비트까지 고르게 섞는다
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h == 0L ? 1L : h;
+  }
+}
@@ -0,0 +1,55 @@
+package io.relboard.crawler.crawler.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KnownReleaseIndexWarmer {
+
+  private final ReleaseRecordRepository releaseRecordRepository;
+  private final KnownReleaseIndex knownReleaseIndex;
+  private final MeterRegistry meterRegistry;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void registerMetrics() {
+    Gauge.builder("crawler.known-release-index.size", knownReleaseIndex, KnownReleaseIndex::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 기동 직후와 이후 주기적으로 release_record에서 인덱스를 새로 만든다. 다른 경로(관리 도구, 수동 작업)로 삭제되거나 초기화된 릴리즈가 인덱스에 남아 스트리밍
+   * 파서가 다시 수집하지 않는 일을 막는다.
+   */
+  @Scheduled(
+      initialDelay = 0,
+      fixedDelayString = "${crawler.known-release-index.refresh-interval-ms:3600000}")
+  @Transactional(readOnly = true)
+  public void warmUp() {
+    long startNs = System.nanoTime();
+    KnownReleaseIndex.Builder builder = KnownReleaseIndex.builder();
+    try (Stream<Object[]> keys = releaseRecordRepository.streamVersionKeys()) {
+      keys.forEach(row -> builder.add((Long) row[0], (String) row[1]));
+    } catch (Exception ex) {
+      // 워밍업이 실패해도 조회 시 DB로 확인하므로 크롤링은 계속된다
+      log.warn("릴리즈 인덱스 워밍업 실패", ex);
+      return;
+    }
+    knownReleaseIndex.replaceWith(builder);
+    log.info(
+        "릴리즈 인덱스 워밍업 완료 size={} memoryBytes={} elapsedMs={}",
+        knownReleaseIndex.size(),
+        knownReleaseIndex.memoryBytes(),
+        (System.nanoTime() - startNs) / 1_000_000L);
+  }
+}
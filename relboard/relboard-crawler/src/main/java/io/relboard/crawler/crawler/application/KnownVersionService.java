@@ -0,0 +1,79 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 후보 버전 중 release_record에 아직 없는 버전만 골라낸다. 먼저 {@link KnownReleaseIndex}로 걸러내고, 인덱스에 없는 후보만 IN 절 한
+ * 번(큰 목록은 청크 단위)으로 DB에서 확인한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class KnownVersionService {
+
+  private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+  private final ReleaseRecordRepository releaseRecordRepository;
+  private final KnownReleaseIndex knownReleaseIndex;
+
+  /**
+   * 입력 순서를 유지한 채 신규 버전만 반환한다. release_record.version은 대소문자를 구분하지 않는 collation이므로 비교도 대소문자를 무시하고,
+   * 대소문자만 다른 후보는 처음 나온 것만 남긴다.
+   */
+  public Set<String> findNewVersions(Long techStackId, Collection<String> candidates) {
+    Map<String, String> newVersions = new LinkedHashMap<>();
+    for (String candidate : candidates) {
+      if (candidate != null
+          && !candidate.isBlank()
+          && !knownReleaseIndex.contains(techStackId, candidate)) {
+        newVersions.putIfAbsent(normalize(candidate), candidate);
+      }
+    }
+    if (newVersions.isEmpty()) {
+      return new LinkedHashSet<>();
+    }
+
+    Set<String> known = new HashSet<>();
+    List<String> pending = new ArrayList<>(newVersions.values());
+    for (int from = 0; from < pending.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+      List<String> chunk =
+          pending.subList(from, Math.min(pending.size(), from + IN_CLAUSE_CHUNK_SIZE));
+      known.addAll(releaseRecordRepository.findExistingVersions(techStackId, chunk));
+    }
+    for (String version : known) {
+      knownReleaseIndex.add(techStackId, version);
+      newVersions.remove(normalize(version));
+    }
+    return new LinkedHashSet<>(newVersions.values());
+  }
+
+  private static String normalize(String version) {
+    return version.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 인덱스에 있는(이미 저장된 것이 확실한) 버전인지 판단하는 조건. 응답을 읽는 중에 아는 버전을 버릴 때 쓴다. 인덱스에 없다고 새 버전은 아니므로 결과는 다시
+   * {@link #findNewVersions}로 확인해야 한다.
+   */
+  public Predicate<String> knownPredicate(Long techStackId) {
+    return version -> knownReleaseIndex.contains(techStackId, version);
+  }
+
+  /** 쓰기 트랜잭션이 커밋된 뒤 호출해 인덱스에 반영한다. */
+  public void markKnown(Long techStackId, Collection<String> versions) {
+    for (String version : versions) {
+      knownReleaseIndex.add(techStackId, version);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package io.relboard.crawler.crawler.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.relboard.crawler.config.MarkdownConversionProperties;
+import io.relboard.crawler.infra.util.HtmlToMarkdownUtil;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * HTML을 Markdown으로 변환한다. 변환은 전용 풀({@code markdownExecutor})에서 병렬로 실행하고, 결과는 입력 HTML의 SHA-256을 키로
+ * LRU 캐시에 보관해 같은 HTML을 두 번 변환하지 않는다. 너무 긴 입력은 태그/엔티티 경계에서 잘라서 변환한다.
+ */
+@Slf4j
+@Service
+public class MarkdownConversionService {
+
+  static final String TRUNCATED_NOTICE = "\n\n…";
+  // 캐시에서 "변환 결과 없음"(빈 HTML 등)을 나타내는 값
+  private static final String NO_MARKDOWN = "";
+
+  private final MarkdownConversionProperties properties;
+  private final Executor markdownExecutor;
+  private final LinkedHashMap<String, String> cache = new LinkedHashMap<>(256, 0.75f, true);
+  private long cachedChars;
+  private final Timer convertTimer;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+  private final Counter truncated;
+
+  public MarkdownConversionService(
+      final MarkdownConversionProperties properties,
+      @Qualifier("markdownExecutor") final Executor markdownExecutor,
+      final MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.markdownExecutor = markdownExecutor;
+    this.convertTimer =
+        Timer.builder("crawler.markdown.convert")
+            .description("HTML→Markdown 변환 시간 (캐시 적중 제외)")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+    this.cacheHits =
+        Counter.builder("crawler.markdown.cache").tag("result", "hit").register(meterRegistry);
+    this.cacheMisses =
+        Counter.builder("crawler.markdown.cache").tag("result", "miss").register(meterRegistry);
+    this.truncated = Counter.builder("crawler.markdown.truncated").register(meterRegistry);
+    Gauge.builder("crawler.markdown.cache.size", this, MarkdownConversionService::cacheSize)
+        .register(meterRegistry);
+  }
+
+  /** 여러 HTML을 병렬로 변환한다. 결과 순서는 입력 순서와 같고, 변환할 내용이 없으면 해당 위치는 null이다. */
+  public List<String> convertAll(List<String> htmls) {
+    if (htmls.isEmpty()) {
+      return List.of();
+    }
+    List<CompletableFuture<String>> futures =
+        htmls.stream()
+            .map(html -> CompletableFuture.supplyAsync(() -> convert(html), markdownExecutor))
+            .toList();
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  public String convert(String html) {
+    if (html == null || html.isBlank()) {
+      return null;
+    }
+    String key = sha256(html);
+    String cached = cacheGet(key);
+    if (cached != null) {
+      cacheHits.increment();
+      return cached.isEmpty() ? null : cached;
+    }
+    cacheMisses.increment();
+
+    String input = truncate(html, properties.getMaxInputChars());
+    boolean wasTruncated = input.length() < html.length();
+    if (wasTruncated) {
+      truncated.increment();
+      log.warn(
+          "HTML이 길어 잘라서 변환 length={} maxInputChars={}",
+          html.length(),
+          properties.getMaxInputChars());
+    }
+    String markdown = convertTimer.record(() -> HtmlToMarkdownUtil.convert(input));
+    if (markdown != null && wasTruncated) {
+      markdown = markdown + TRUNCATED_NOTICE;
+    }
+    cachePut(key, markdown != null ? markdown : NO_MARKDOWN);
+    return markdown;
+  }
+
+  /** {@code maxChars} 안에서 자른다. 자른 지점이 태그나 엔티티 중간이면 그 시작 전으로 물러난다. 닫히지 않은 태그는 HTML 파서가 닫아 준다. */
+  static String truncate(String html, int maxChars) {
+    if (maxChars <= 0 || html.length() <= maxChars) {
+      return html;
+    }
+    int cut = maxChars;
+    int tagOpen = html.lastIndexOf('<', cut - 1);
+    if (tagOpen >= 0 && html.lastIndexOf('>', cut - 1) < tagOpen) {
+      cut = tagOpen;
+    }
+    int entity = html.lastIndexOf('&', cut - 1);
+    if (entity >= 0 && html.lastIndexOf(';', cut - 1) < entity && cut - entity <= 10) {
+      cut = entity;
+    }
+    // 서로게이트 쌍을 가르지 않는다
+    if (cut > 0 && Character.isHighSurrogate(html.charAt(cut - 1))) {
+      cut--;
+    }
+    return html.substring(0, cut);
+  }
+
+  private synchronized String cacheGet(String key) {
+    return cache.get(key);
+  }
+
+  private synchronized void cachePut(String key, String markdown) {
+    String previous = cache.put(key, markdown);
+    cachedChars += markdown.length() - (previous != null ? previous.length() : 0);
+    Iterator<Map.Entry<String, String>> eldest = cache.entrySet().iterator();
+    while (cachedChars > properties.getCacheMaxChars() && eldest.hasNext()) {
+      cachedChars -= eldest.next().getValue().length();
+      eldest.remove();
+    }
+  }
+
+  private synchronized int cacheSize() {
+    return cache.size();
+  }
+
+  private static String sha256(String html) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(html.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없음", ex);
+    }
+  }
+}
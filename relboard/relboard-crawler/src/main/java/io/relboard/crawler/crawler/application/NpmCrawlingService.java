@@ -1,9 +1,10 @@
 package io.relboard.crawler.crawler.application;
 
+import io.relboard.crawler.infra.client.ConditionalResult;
+import io.relboard.crawler.infra.client.HttpValidators;
 import io.relboard.crawler.infra.client.NpmClient;
 import io.relboard.crawler.techstack.domain.TechStackSource;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,15 +15,18 @@ import org.springframework.stereotype.Service;
 public class NpmCrawlingService {
 
   private final NpmClient npmClient;
+  private final KnownVersionService knownVersionService;
 
-  public Optional<List<String>> fetchVersions(TechStackSource source) {
+  public ConditionalResult<List<String>> fetchVersions(
+      TechStackSource source, HttpValidators validators) {
     String npmPackageName = source.getMetadataValue("npm_package_name").orElse(null);
     if (npmPackageName == null) {
-      log.warn(
-          "NPM 패키지 정보 부족으로 크롤링 건너뜀 techStack={}",
-          source.getTechStack().getName());
-      return Optional.empty();
+      log.warn("NPM 패키지 정보 부족으로 크롤링 건너뜀 techStack={}", source.getTechStack().getName());
+      return ConditionalResult.empty();
     }
-    return npmClient.fetchVersions(npmPackageName);
+    return npmClient.fetchVersions(
+        npmPackageName,
+        validators,
+        knownVersionService.knownPredicate(source.getTechStack().getId()));
   }
 }
@@ -0,0 +1,141 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.infra.client.HttpValidators;
+import io.relboard.crawler.release.application.ReleaseEventOutboxService;
+import io.relboard.crawler.release.domain.ReleaseParser;
+import io.relboard.crawler.release.domain.ReleaseRecord;
+import io.relboard.crawler.release.domain.ReleaseTagType;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import io.relboard.crawler.release.repository.ReleaseBatchRepository;
+import io.relboard.crawler.techstack.domain.TechStack;
+import io.relboard.crawler.techstack.repository.TechStackRepository;
+import io.relboard.crawler.translation.repository.TranslationBacklogBatchRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 크롤링의 쓰기 단계. 네트워크 호출 없이 DB 작업만 하므로 커넥션 점유 시간이 짧다. release_record, release_tag,
+ * translation_backlog, release_event_outbox는 테이블마다 JDBC 배치 insert로 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReleaseWriteService {
+
+  private final TechStackRepository techStackRepository;
+  private final ReleaseBatchRepository releaseBatchRepository;
+  private final TranslationBacklogBatchRepository translationBacklogBatchRepository;
+  private final ReleaseEventOutboxService releaseEventOutboxService;
+  private final CrawlValidatorService crawlValidatorService;
+  private final ReleaseParser releaseParser = new ReleaseParser();
+
+  /**
+   * 새 릴리즈를 저장한다. 이번 응답의 검증자({@code validators})도 같은 트랜잭션에서 갱신해, 저장이 롤백되면 다음 크롤링이 304로 끝나지 않게 한다.
+   */
+  @Transactional
+  public void write(
+      Long sourceId,
+      Long techStackId,
+      List<CrawledRelease> releases,
+      String latestVersion,
+      Map<String, HttpValidators> validators) {
+    TechStack techStack =
+        techStackRepository
+            .findById(techStackId)
+            .orElseThrow(() -> new IllegalArgumentException("TechStack not found: " + techStackId));
+
+    List<ReleaseRecord> records =
+        releases.stream()
+            .map(
+                release ->
+                    ReleaseRecord.builder()
+                        .techStack(techStack)
+                        .version(release.version())
+                        .title(release.title())
+                        .content(release.content())
+                        .publishedAt(release.publishedAt())
+                        .build())
+            .toList();
+    Map<String, Long> recordIds = releaseBatchRepository.insertReleaseRecords(techStackId, records);
+
+    List<ReleaseBatchRepository.TagRow> tagRows = new ArrayList<>();
+    List<TranslationBacklogBatchRepository.BacklogRow> backlogRows = new ArrayList<>();
+    List<ReleaseEvent> events = new ArrayList<>(releases.size());
+    for (CrawledRelease release : releases) {
+      Long recordId = recordIds.get(release.version());
+      if (recordId == null) {
+        throw new IllegalStateException(
+            "저장한 릴리즈의 id를 찾을 수 없음 techStackId=" + techStackId + " version=" + release.version());
+      }
+
+      List<ReleaseEvent.Tag> eventTags = List.of();
+      if (release.content() != null) {
+        Set<ReleaseTagType> tags = releaseParser.extractTags(release.content());
+        eventTags =
+            tags.stream()
+                .map(
+                    tagType -> {
+                      tagRows.add(new ReleaseBatchRepository.TagRow(recordId, tagType));
+                      return new ReleaseEvent.Tag(tagType.name(), "Auto-extracted");
+                    })
+                .toList();
+      }
+
+      if (release.content() != null && release.sourceUrl() != null) {
+        backlogRows.add(
+            new TranslationBacklogBatchRepository.BacklogRow(recordId, release.sourceUrl()));
+      }
+
+      LocalDateTime publishedAtAtSeoul =
+          release.publishedAt() != null
+              ? LocalDateTime.ofInstant(release.publishedAt(), ZoneId.of("Asia/Seoul"))
+              : null;
+      events.add(
+          new ReleaseEvent(
+              UUID.randomUUID().toString(),
+              ReleaseEvent.Type.RELEASE_CREATED,
+              LocalDateTime.now(),
+              new ReleaseEvent.Payload(
+                  techStack.getName(),
+                  release.version(),
+                  release.title(),
+                  release.content(),
+                  null,
+                  null,
+                  null,
+                  null,
+                  null,
+                  publishedAtAtSeoul,
+                  release.sourceUrl(),
+                  eventTags)));
+    }
+
+    releaseBatchRepository.insertReleaseTags(tagRows);
+    translationBacklogBatchRepository.insertPending(backlogRows);
+
+    // Kafka 전송은 커밋 뒤 ReleaseEventRelay가 한다
+    releaseEventOutboxService.enqueue(events);
+
+    if (latestVersion != null) {
+      techStack.updateLatestVersion(latestVersion);
+      techStackRepository.save(techStack);
+    }
+    crawlValidatorService.save(sourceId, validators);
+
+    log.info(
+        "릴리즈 크롤링 성공 techStack={} releases={} tags={} backlogs={}",
+        techStack.getName(),
+        releases.size(),
+        tagRows.size(),
+        backlogRows.size());
+  }
+}
@@ -0,0 +1,40 @@
+package io.relboard.crawler.crawler.application;
+
+import io.relboard.crawler.config.ResponseArchiveProperties;
+import io.relboard.crawler.infra.client.ResponseArchiveMode;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응답 아카이브 REPLAY를 운영 데이터에 돌리지 못하게 기동을 막는다. REPLAY는 평소 크롤링 경로를 그대로 타므로 이미 저장된 버전은 아는 버전 필터에 걸려 다시
+ * 처리되지 않고, 새로 저장한 릴리즈는 outbox를 거쳐 Kafka로 다시 나간다. 그래서 빈 release_record(재처리용 DB)와 꺼진 outbox
+ * 릴레이({@code kafka.outbox.relay-enabled=false})에서만 시작한다.
+ *
+ * <p>크롤링 주기와 리스도 평소대로 적용되므로, 아카이브를 다 돌리려면 {@code crawler.cadence} 주기가 지날 때까지 기다리거나 재처리용 DB의
+ * next_crawl_at을 비워 둔다.
+ */
+@Slf4j
+@Component
+public class ResponseArchiveReplayGuard {
+
+  public ResponseArchiveReplayGuard(
+      final ResponseArchiveProperties responseArchiveProperties,
+      final KafkaProperties kafkaProperties,
+      final ReleaseRecordRepository releaseRecordRepository) {
+    if (responseArchiveProperties.getMode() != ResponseArchiveMode.REPLAY) {
+      return;
+    }
+    if (kafkaProperties.getOutbox().isRelayEnabled()) {
+      throw new IllegalStateException(
+          "응답 아카이브 REPLAY는 재처리한 릴리즈를 Kafka로 다시 내보내지 않도록 kafka.outbox.relay-enabled=false에서만 시작한다");
+    }
+    long existing = releaseRecordRepository.count();
+    if (existing > 0) {
+      throw new IllegalStateException(
+          "응답 아카이브 REPLAY는 이미 저장된 버전을 다시 처리하지 않으므로 빈 release_record에서만 시작한다 count=" + existing);
+    }
+    log.info("응답 아카이브 REPLAY 시작 조건 확인 완료 directory={}", responseArchiveProperties.getDirectory());
+  }
+}
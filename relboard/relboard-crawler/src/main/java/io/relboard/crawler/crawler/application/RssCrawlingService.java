@@ -1,5 +1,7 @@
 package io.relboard.crawler.crawler.application;
 
+import io.relboard.crawler.infra.client.ConditionalResult;
+import io.relboard.crawler.infra.client.HttpValidators;
 import io.relboard.crawler.infra.client.RssClient;
 import io.relboard.crawler.techstack.domain.TechStackSource;
 import java.util.List;
@@ -13,15 +15,16 @@ import org.springframework.stereotype.Service;
 public class RssCrawlingService {
 
   private final RssClient rssClient;
+  private final KnownVersionService knownVersionService;
 
-  public List<RssClient.RssEntry> fetchEntries(TechStackSource source) {
+  public ConditionalResult<List<RssClient.RssEntry>> fetchEntries(
+      TechStackSource source, HttpValidators validators) {
     String rssUrl = source.getMetadataValue("rss_url").orElse(null);
     if (rssUrl == null) {
-      log.warn(
-          "RSS 주소 정보 부족으로 크롤링 건너뜀 techStack={}",
-          source.getTechStack().getName());
-      return List.of();
+      log.warn("RSS 주소 정보 부족으로 크롤링 건너뜀 techStack={}", source.getTechStack().getName());
+      return ConditionalResult.empty();
     }
-    return rssClient.fetchEntries(rssUrl, 30);
+    return rssClient.fetchEntries(
+        rssUrl, 30, validators, knownVersionService.knownPredicate(source.getTechStack().getId()));
   }
 }
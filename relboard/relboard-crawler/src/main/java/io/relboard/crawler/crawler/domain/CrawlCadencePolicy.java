@@ -0,0 +1,75 @@
+package io.relboard.crawler.crawler.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 릴리즈 이력으로 소스별 크롤링 주기를 계산한다. 최근 릴리즈 간격의 중앙값을 {@code gapDivisor}로 나눈 값을 [min, max]로 제한하고, 마지막 릴리즈가
+ * {@code burstWindow} 이내면 후속 패치가 몰리는 구간으로 보고 최소 주기를 사용한다.
+ */
+public class CrawlCadencePolicy {
+
+  private final Duration minInterval;
+  private final Duration maxInterval;
+  private final Duration defaultInterval;
+  private final Duration burstWindow;
+  private final int gapDivisor;
+
+  public CrawlCadencePolicy(
+      Duration minInterval,
+      Duration maxInterval,
+      Duration defaultInterval,
+      Duration burstWindow,
+      int gapDivisor) {
+    this.minInterval = minInterval;
+    this.maxInterval = maxInterval.compareTo(minInterval) < 0 ? minInterval : maxInterval;
+    this.defaultInterval = defaultInterval;
+    this.burstWindow = burstWindow;
+    this.gapDivisor = Math.max(1, gapDivisor);
+  }
+
+  public Duration intervalFor(List<Instant> publishedAts, Instant now) {
+    List<Instant> sorted = new ArrayList<>();
+    for (Instant publishedAt : publishedAts) {
+      if (publishedAt != null && !publishedAt.isAfter(now)) {
+        sorted.add(publishedAt);
+      }
+    }
+    if (sorted.isEmpty()) {
+      return clamp(defaultInterval);
+    }
+    sorted.sort(Collections.reverseOrder());
+
+    if (Duration.between(sorted.get(0), now).compareTo(burstWindow) <= 0) {
+      return minInterval;
+    }
+    if (sorted.size() < 2) {
+      return clamp(defaultInterval);
+    }
+
+    List<Long> gapsMs = new ArrayList<>(sorted.size() - 1);
+    for (int i = 0; i < sorted.size() - 1; i++) {
+      gapsMs.add(Duration.between(sorted.get(i + 1), sorted.get(i)).toMillis());
+    }
+    Collections.sort(gapsMs);
+    long medianGapMs = gapsMs.get(gapsMs.size() / 2);
+
+    // 마지막 릴리즈 이후 평소 간격보다 오래 조용하면 그만큼 주기를 늘린다
+    long sinceLastMs = Duration.between(sorted.get(0), now).toMillis();
+    long expectedGapMs = Math.max(medianGapMs, sinceLastMs / 2);
+    return clamp(Duration.ofMillis(expectedGapMs / gapDivisor));
+  }
+
+  private Duration clamp(Duration interval) {
+    if (interval.compareTo(minInterval) < 0) {
+      return minInterval;
+    }
+    if (interval.compareTo(maxInterval) > 0) {
+      return maxInterval;
+    }
+    return interval;
+  }
+}
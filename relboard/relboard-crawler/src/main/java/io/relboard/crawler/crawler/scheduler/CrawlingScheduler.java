@@ -1,26 +1,58 @@
 package io.relboard.crawler.crawler.scheduler;
 
+import io.relboard.crawler.crawler.application.CrawlCadenceService;
+import io.relboard.crawler.crawler.application.CrawlLeaseService;
+import io.relboard.crawler.crawler.application.CrawlOutcome;
 import io.relboard.crawler.crawler.application.CrawlingService;
+import io.relboard.crawler.crawler.application.GithubReleaseCatalog;
+import io.relboard.crawler.crawler.application.GithubReleasePrefetcher;
+import io.relboard.crawler.infra.client.GithubRateLimitBudget;
 import io.relboard.crawler.techstack.application.TechStackSourceSyncService;
-import io.relboard.crawler.techstack.domain.TechStackSource;
 import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CrawlingScheduler {
 
-  private final TechStackSourceRepository techStackSourceRepository;
+  private final CrawlLeaseService crawlLeaseService;
   private final CrawlingService crawlingService;
   private final TechStackSourceSyncService techStackSourceSyncService;
+  private final CrawlCadenceService crawlCadenceService;
+  private final GithubReleasePrefetcher githubReleasePrefetcher;
+  private final GithubRateLimitBudget githubRateLimitBudget;
+  private final TechStackSourceRepository techStackSourceRepository;
+  private final Executor crawlerExecutor;
   private final AtomicBoolean running = new AtomicBoolean(false);
 
+  public CrawlingScheduler(
+      final CrawlLeaseService crawlLeaseService,
+      final CrawlingService crawlingService,
+      final TechStackSourceSyncService techStackSourceSyncService,
+      final CrawlCadenceService crawlCadenceService,
+      final GithubReleasePrefetcher githubReleasePrefetcher,
+      final GithubRateLimitBudget githubRateLimitBudget,
+      final TechStackSourceRepository techStackSourceRepository,
+      @Qualifier("crawlerExecutor") final Executor crawlerExecutor) {
+    this.crawlLeaseService = crawlLeaseService;
+    this.crawlingService = crawlingService;
+    this.techStackSourceSyncService = techStackSourceSyncService;
+    this.crawlCadenceService = crawlCadenceService;
+    this.githubReleasePrefetcher = githubReleasePrefetcher;
+    this.githubRateLimitBudget = githubRateLimitBudget;
+    this.techStackSourceRepository = techStackSourceRepository;
+    this.crawlerExecutor = crawlerExecutor;
+  }
+
   @Scheduled(cron = "${crawler.schedule.cron:0 */10 * * * *}")
   public void run() {
     if (!running.compareAndSet(false, true)) {
@@ -29,25 +61,102 @@ public class CrawlingScheduler {
     }
 
     try {
-      int synced = techStackSourceSyncService.syncSources();
-      log.info("크롤링 소스 동기화 완료 synced={}", synced);
-    } catch (Exception ex) {
-      log.warn("크롤링 소스 동기화 실패, 기존 데이터로 진행", ex);
-    }
+      try {
+        int synced = techStackSourceSyncService.syncSources();
+        log.info("크롤링 소스 동기화 완료 synced={}", synced);
+      } catch (Exception ex) {
+        log.warn("크롤링 소스 동기화 실패, 기존 데이터로 진행", ex);
+      }
 
-    List<TechStackSource> sources = techStackSourceRepository.findAll();
-    log.info("크롤링 스케줄러 시작 size={}", sources.size());
+      // next_crawl_at이 지났고 다른 노드가 리스를 잡지 않은 소스만 가져온다
+      List<Long> sourceIds = crawlLeaseService.claimDueSources();
+      log.info("크롤링 스케줄러 시작 size={} nodeId={}", sourceIds.size(), crawlLeaseService.getNodeId());
 
-    try {
-      for (TechStackSource source : sources) {
+      long cycleStartNs = System.nanoTime();
+      GithubReleaseCatalog catalog = prefetchGithubReleases(sourceIds);
+      // 남은 GitHub 예산을 이번 사이클의 GitHub 소스 수로 나눠 쓴다
+      githubRateLimitBudget.startCycle(
+          sourceIds.isEmpty() ? 0 : (int) techStackSourceRepository.countGithubSources(sourceIds));
+      AtomicInteger processed = new AtomicInteger();
+      AtomicInteger failed = new AtomicInteger();
+      AtomicInteger deferred = new AtomicInteger();
+      List<CompletableFuture<Void>> tasks = new ArrayList<>(sourceIds.size());
+      for (Long sourceId : sourceIds) {
         try {
-          crawlingService.process(source.getId());
+          // crawlerExecutor의 동시성 제한에 도달하면 슬롯이 빌 때까지 제출이 대기한다
+          tasks.add(
+              CompletableFuture.runAsync(
+                  () -> {
+                    try {
+                      CrawlOutcome outcome = crawlingService.process(sourceId, catalog);
+                      if (outcome == CrawlOutcome.DEFERRED) {
+                        // 예약 시각은 그대로 두고 리스만 반납해 다음 tick에서 다시 가져가게 한다
+                        deferred.incrementAndGet();
+                        releaseLeaseQuietly(sourceId);
+                        return;
+                      }
+                      // 다음 크롤링 시각을 예약하면서 리스도 함께 반납한다
+                      crawlCadenceService.reschedule(sourceId);
+                      if (outcome == CrawlOutcome.FAILED) {
+                        failed.incrementAndGet();
+                      } else {
+                        processed.incrementAndGet();
+                      }
+                    } catch (Exception ex) {
+                      failed.incrementAndGet();
+                      log.error("크롤링 작업 실패 sourceId={}", sourceId, ex);
+                      releaseLeaseQuietly(sourceId);
+                    }
+                  },
+                  crawlerExecutor));
         } catch (Exception ex) {
-          log.error("스케줄러가 작업을 제출하지 못함 sourceId={}", source.getId(), ex);
+          failed.incrementAndGet();
+          log.error("스케줄러가 작업을 제출하지 못함 sourceId={}", sourceId, ex);
+          releaseLeaseQuietly(sourceId);
         }
       }
+
+      CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+      githubReleasePrefetcher.report(catalog);
+
+      long cycleMs = (System.nanoTime() - cycleStartNs) / 1_000_000L;
+      log.info(
+          "크롤링 사이클 완료 size={} processed={} deferred={} failed={} githubRemaining={} elapsedMs={}",
+          sourceIds.size(),
+          processed.get(),
+          deferred.get(),
+          failed.get(),
+          githubRateLimitBudget.remaining(),
+          cycleMs);
     } finally {
       running.set(false);
     }
   }
+
+  /** 오래 걸리는 크롤링 도중 리스가 만료돼 다른 노드가 같은 소스를 가져가지 않도록 연장한다. */
+  @Scheduled(fixedDelayString = "${crawler.lease.renew-interval-ms:300000}")
+  public void renewLeases() {
+    try {
+      crawlLeaseService.renewHeldLeases();
+    } catch (Exception ex) {
+      log.warn("크롤링 리스 연장 실패", ex);
+    }
+  }
+
+  private GithubReleaseCatalog prefetchGithubReleases(List<Long> sourceIds) {
+    try {
+      return githubReleasePrefetcher.prefetch(sourceIds);
+    } catch (Exception ex) {
+      log.warn("GitHub 릴리즈 사전 조회 실패, REST 조회로 진행", ex);
+      return GithubReleaseCatalog.EMPTY;
+    }
+  }
+
+  private void releaseLeaseQuietly(Long sourceId) {
+    try {
+      crawlLeaseService.release(sourceId);
+    } catch (Exception ex) {
+      log.warn("크롤링 리스 반납 실패, 만료 후 회수됨 sourceId={}", sourceId, ex);
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package io.relboard.crawler.infra.client;
+
+import java.util.Optional;
+
+/** 조건부 요청 결과. {@code notModified}면 업스트림이 304를 돌려준 것이므로 본문이 없다. 조회에 실패했거나 결과가 비어 있으면 본문이 null이다. */
+public record ConditionalResult<T>(T body, HttpValidators validators, boolean notModified) {
+
+  public static <T> ConditionalResult<T> modified(T body, HttpValidators validators) {
+    return new ConditionalResult<>(
+        body, validators == null ? HttpValidators.NONE : validators, false);
+  }
+
+  public static <T> ConditionalResult<T> notModified(HttpValidators validators) {
+    return new ConditionalResult<>(null, validators, true);
+  }
+
+  public static <T> ConditionalResult<T> empty() {
+    return new ConditionalResult<>(null, HttpValidators.NONE, false);
+  }
+
+  public Optional<T> bodyOptional() {
+    return Optional.ofNullable(body);
+  }
+}
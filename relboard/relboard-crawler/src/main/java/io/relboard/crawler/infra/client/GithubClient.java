@@ -1,14 +1,22 @@
 package io.relboard.crawler.infra.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 import java.net.URI;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -16,12 +24,23 @@ import org.springframework.web.client.RestClient;
 @Component
 public class GithubClient {
 
+  private static final String GITHUB_HOST = "api.github.com";
+  private static final int RELEASES_PAGE_SIZE = 100;
+
   private final RestClient githubRestClient;
+  private final HostRequestLimiter hostRequestLimiter;
 
-  public GithubClient(@Qualifier("githubRestClient") final RestClient githubRestClient) {
+  public GithubClient(
+      @Qualifier("githubRestClient") final RestClient githubRestClient,
+      final HostRequestLimiter hostRequestLimiter) {
     this.githubRestClient = githubRestClient;
+    this.hostRequestLimiter = hostRequestLimiter;
   }
 
+  /**
+   * 버전에 해당하는 릴리즈를 태그 후보 순서대로 조회한다. 모든 후보가 404면 빈 값을 돌려주고, 그 밖의 오류는 {@link GithubLookupException}으로
+   * 던진다.
+   */
   public Optional<ReleaseDetails> fetchReleaseDetails(String owner, String repo, String version) {
     for (String tag : buildTagCandidates(version)) {
       Optional<ReleaseDetails> result = fetchReleaseByTag(owner, repo, tag);
@@ -32,8 +51,11 @@ public class GithubClient {
     return Optional.empty();
   }
 
-  public Optional<List<String>> fetchTags(String owner, String repo, int perPage) {
+  /** 태그 목록을 조회한다. 저장된 검증자가 있으면 조건부 요청으로 보내고, 304면 본문 없이 {@code notModified} 결과를 돌려준다. */
+  public ConditionalResult<List<String>> fetchTags(
+      String owner, String repo, int perPage, HttpValidators validators) {
     int size = Math.max(1, Math.min(100, perPage));
+    HttpValidators requestValidators = validators != null ? validators : HttpValidators.NONE;
     try {
       URI uri =
           URI.create(
@@ -48,20 +70,35 @@ public class GithubClient {
         log.trace("GitHub 태그 요청 uri={}", uri);
       }
 
-      GithubTagResponse[] response =
-          githubRestClient
-              .get()
-              .uri(uri)
-              .retrieve()
-              .onStatus(
-                  status -> status.isError(),
-                  (req, res) ->
-                      log.warn(
-                          "GitHub 태그 조회 오류: status={} url={}", res.getStatusCode(), req.getURI()))
-              .body(GithubTagResponse[].class);
+      ResponseEntity<GithubTagResponse[]> entity =
+          hostRequestLimiter.execute(
+              uri.getHost(),
+              () ->
+                  githubRestClient
+                      .get()
+                      .uri(uri)
+                      .headers(requestValidators::applyTo)
+                      .retrieve()
+                      .onStatus(
+                          status -> status.isError(),
+                          (req, res) ->
+                              log.warn(
+                                  "GitHub 태그 조회 오류: status={} url={}",
+                                  res.getStatusCode(),
+                                  req.getURI()))
+                      .toEntity(GithubTagResponse[].class));
+
+      if (entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+        return ConditionalResult.notModified(requestValidators);
+      }
+      if (!entity.getStatusCode().is2xxSuccessful()) {
+        return ConditionalResult.empty();
+      }
 
+      GithubTagResponse[] response = entity.getBody();
+      HttpValidators responseValidators = HttpValidators.from(entity.getHeaders());
       if (response == null || response.length == 0) {
-        return Optional.empty();
+        return ConditionalResult.modified(null, responseValidators);
       }
 
       List<String> tags = new ArrayList<>();
@@ -71,15 +108,227 @@ public class GithubClient {
         }
       }
 
-      return tags.isEmpty() ? Optional.empty() : Optional.of(tags);
+      return ConditionalResult.modified(tags.isEmpty() ? null : tags, responseValidators);
+    } catch (GithubRateLimitException ex) {
+      throw ex;
     } catch (Exception ex) {
       log.error("GitHub 태그 목록 조회 실패 {}/{}", owner, repo, ex);
-      return Optional.empty();
+      return ConditionalResult.empty();
     }
   }
 
+  /**
+   * {@code /releases} 목록을 최신순으로 페이지 단위(100개)로 가져와 태그 → 릴리즈 맵을 만든다. {@code wantedVersions}를 모두 찾았거나,
+   * 페이지의 태그가 모두 이미 아는 태그({@code isKnownTag})이거나, 마지막 페이지이거나, {@code maxPages}에 닿으면 멈춘다. 실패하면 그때까지
+   * 모은 결과를 돌려주므로, 호출자는 맵에 없는 버전을 태그별 조회로 다시 찾아야 한다.
+   */
+  public Map<String, ReleaseDetails> fetchReleases(
+      String owner,
+      String repo,
+      Collection<String> wantedVersions,
+      Predicate<String> isKnownTag,
+      int maxPages) {
+    List<List<String>> wanted = new ArrayList<>(wantedVersions.size());
+    for (String version : wantedVersions) {
+      wanted.add(buildTagCandidates(version));
+    }
+    Map<String, ReleaseDetails> releases = new LinkedHashMap<>();
+    int pages = Math.max(1, maxPages);
+    for (int page = 1; page <= pages; page++) {
+      URI uri =
+          URI.create(
+              "https://api.github.com/repos/"
+                  + owner
+                  + "/"
+                  + repo
+                  + "/releases?per_page="
+                  + RELEASES_PAGE_SIZE
+                  + "&page="
+                  + page);
+      if (log.isTraceEnabled()) {
+        log.trace("GitHub 릴리즈 목록 요청 uri={}", uri);
+      }
+
+      GithubReleaseResponse[] response;
+      try {
+        response =
+            hostRequestLimiter.execute(
+                uri.getHost(),
+                () ->
+                    githubRestClient
+                        .get()
+                        .uri(uri)
+                        .exchange(
+                            (req, res) -> {
+                              if (res.getStatusCode().isError()) {
+                                log.warn(
+                                    "GitHub 릴리즈 목록 조회 오류: status={} url={}",
+                                    res.getStatusCode(),
+                                    req.getURI());
+                                return null;
+                              }
+                              return res.bodyTo(GithubReleaseResponse[].class);
+                            }));
+      } catch (GithubRateLimitException ex) {
+        throw ex;
+      } catch (Exception ex) {
+        log.warn("GitHub 릴리즈 목록 조회 실패 {}/{} page={} error={}", owner, repo, page, ex.toString());
+        break;
+      }
+      if (response == null || response.length == 0) {
+        break;
+      }
+
+      // 새 태그가 없는 페이지라면 그보다 오래된 릴리즈도 이미 처리한 것이다
+      boolean onlyKnown = true;
+      for (GithubReleaseResponse item : response) {
+        if (item == null || item.tagName() == null || item.tagName().isBlank()) {
+          continue;
+        }
+        String tag = item.tagName().trim();
+        releases.putIfAbsent(tag, toReleaseDetails(item, owner, repo, tag));
+        if (!isKnownTag.test(tag)) {
+          onlyKnown = false;
+        }
+      }
+      wanted.removeIf(candidates -> candidates.stream().anyMatch(releases::containsKey));
+      if (wanted.isEmpty() || onlyKnown || response.length < RELEASES_PAGE_SIZE) {
+        break;
+      }
+    }
+    return releases;
+  }
+
+  /**
+   * 여러 저장소의 최신 릴리즈를 GraphQL 별칭 쿼리 한 번으로 가져온다. 토큰이 필요하며, 응답의 {@code rateLimit.cost}로 소모한 포인트를 함께
+   * 돌려준다. 조회에 실패한 저장소는 결과에서 빠진다.
+   */
+  public GraphqlReleases fetchLatestReleases(List<RepositoryRef> repositories, int perRepository) {
+    if (repositories == null || repositories.isEmpty()) {
+      return GraphqlReleases.EMPTY;
+    }
+    int first = Math.max(1, Math.min(100, perRepository));
+    StringBuilder declarations = new StringBuilder("$first: Int!");
+    StringBuilder selections = new StringBuilder("rateLimit { cost remaining } ");
+    Map<String, Object> variables = new LinkedHashMap<>();
+    variables.put("first", first);
+    for (int i = 0; i < repositories.size(); i++) {
+      RepositoryRef repository = repositories.get(i);
+      declarations.append(", $o").append(i).append(": String!, $n").append(i).append(": String!");
+      selections
+          .append("r")
+          .append(i)
+          .append(": repository(owner: $o")
+          .append(i)
+          .append(", name: $n")
+          .append(i)
+          .append(") { ...releaseFields } ");
+      variables.put("o" + i, repository.owner());
+      variables.put("n" + i, repository.name());
+    }
+    String query =
+        "query("
+            + declarations
+            + ") { "
+            + selections
+            + "} fragment releaseFields on Repository { releases(first: $first, orderBy: {field:"
+            + " CREATED_AT, direction: DESC}) { nodes { name tagName description publishedAt url"
+            + " } } }";
+
+    try {
+      JsonNode root =
+          hostRequestLimiter.execute(
+              GITHUB_HOST,
+              () ->
+                  githubRestClient
+                      .post()
+                      .uri("/graphql")
+                      .contentType(MediaType.APPLICATION_JSON)
+                      .body(Map.of("query", query, "variables", variables))
+                      .retrieve()
+                      .onStatus(
+                          status -> status.isError(),
+                          (req, res) ->
+                              log.warn(
+                                  "GitHub GraphQL 조회 오류: status={} url={}",
+                                  res.getStatusCode(),
+                                  req.getURI()))
+                      .body(JsonNode.class));
+      if (root == null) {
+        return GraphqlReleases.EMPTY;
+      }
+      JsonNode errors = root.path("errors");
+      if (errors.isArray() && !errors.isEmpty()) {
+        log.warn(
+            "GitHub GraphQL 일부 오류 count={} first={}",
+            errors.size(),
+            errors.get(0).path("message").asText());
+      }
+
+      JsonNode data = root.path("data");
+      Map<RepositoryRef, List<TaggedRelease>> releases = new LinkedHashMap<>();
+      for (int i = 0; i < repositories.size(); i++) {
+        JsonNode nodes = data.path("r" + i).path("releases").path("nodes");
+        if (!nodes.isArray()) {
+          continue;
+        }
+        RepositoryRef repository = repositories.get(i);
+        List<TaggedRelease> items = new ArrayList<>(nodes.size());
+        for (JsonNode node : nodes) {
+          String tagName = textOrNull(node, "tagName");
+          if (tagName == null) {
+            continue;
+          }
+          String publishedAt = textOrNull(node, "publishedAt");
+          String url = textOrNull(node, "url");
+          items.add(
+              new TaggedRelease(
+                  tagName,
+                  new ReleaseDetails(
+                      Optional.ofNullable(textOrNull(node, "name")).orElse(tagName),
+                      Optional.ofNullable(textOrNull(node, "description")).orElse(""),
+                      publishedAt != null ? Instant.parse(publishedAt) : null,
+                      url != null
+                          ? url
+                          : "https://github.com/"
+                              + repository.owner()
+                              + "/"
+                              + repository.name()
+                              + "/releases/tag/"
+                              + tagName)));
+        }
+        releases.put(repository, items);
+      }
+
+      JsonNode rateLimit = data.path("rateLimit");
+      return new GraphqlReleases(
+          releases, rateLimit.path("cost").asInt(0), rateLimit.path("remaining").asInt(-1));
+    } catch (GithubRateLimitException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      log.error("GitHub GraphQL 릴리즈 조회 실패 repositories={}", repositories.size(), ex);
+      return GraphqlReleases.EMPTY;
+    }
+  }
+
+  /** 릴리즈를 찾을 때 시도하는 태그 이름 후보. 원래 값, 그리고 {@code v} 접두사를 붙이거나 뗀 값 순서다. */
+  public static List<String> tagCandidates(String version) {
+    return buildTagCandidates(version);
+  }
+
   public record ReleaseDetails(String title, String content, Instant publishedAt, String htmlUrl) {}
 
+  public record RepositoryRef(String owner, String name) {}
+
+  public record TaggedRelease(String tagName, ReleaseDetails details) {}
+
+  /** GraphQL 일괄 조회 결과와 이번 쿼리가 소모한 레이트리밋 포인트. */
+  public record GraphqlReleases(
+      Map<RepositoryRef, List<TaggedRelease>> releases, int cost, int remaining) {
+
+    public static final GraphqlReleases EMPTY = new GraphqlReleases(Map.of(), 0, -1);
+  }
+
   private Optional<ReleaseDetails> fetchReleaseByTag(String owner, String repo, String tag) {
     try {
       URI uri =
@@ -89,43 +338,64 @@ public class GithubClient {
         log.trace("GitHub 릴리즈 요청 uri={} tag={}", uri, tag);
       }
 
+      // 태그 후보가 틀리면 404가 정상적으로 돌아오므로 오류로 남기지 않는다
       GithubReleaseResponse response =
-          githubRestClient
-              .get()
-              .uri(uri)
-              .retrieve()
-              .onStatus(
-                  status -> status.isError(),
-                  (req, res) ->
-                      log.warn(
-                          "GitHub 릴리즈 조회 오류: status={} url={}", res.getStatusCode(), req.getURI()))
-              .body(GithubReleaseResponse.class);
+          hostRequestLimiter.execute(
+              uri.getHost(),
+              () ->
+                  githubRestClient
+                      .get()
+                      .uri(uri)
+                      .exchange(
+                          (req, res) -> {
+                            if (res.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                              log.debug("GitHub 릴리즈 없음 {}/{} tag={}", owner, repo, tag);
+                              return null;
+                            }
+                            if (res.getStatusCode().isError()) {
+                              throw new GithubLookupException(
+                                  "GitHub 릴리즈 조회 오류: status="
+                                      + res.getStatusCode()
+                                      + " url="
+                                      + req.getURI());
+                            }
+                            return res.bodyTo(GithubReleaseResponse.class);
+                          }));
 
       if (response == null) {
         return Optional.empty();
       }
-
-      Instant publishedAt =
-          response.publishedAt() != null ? Instant.parse(response.publishedAt()) : null;
-      String titleFallback =
-          response.name() != null
-              ? response.name()
-              : (response.tagName() != null ? response.tagName() : tag);
-      String contentFallback = response.body() != null ? response.body() : "";
-      String urlFallback =
-          response.htmlUrl() != null
-              ? response.htmlUrl()
-              : ("https://github.com/" + owner + "/" + repo + "/releases/tag/" + tag);
-
-      return Optional.of(
-          new ReleaseDetails(titleFallback, contentFallback, publishedAt, urlFallback));
+      return Optional.of(toReleaseDetails(response, owner, repo, tag));
+    } catch (GithubRateLimitException | GithubLookupException ex) {
+      throw ex;
     } catch (Exception ex) {
-      log.error("GitHub 릴리즈 노트 조회 실패 {}/{} tag {}", owner, repo, tag, ex);
-      return Optional.empty();
+      throw new GithubLookupException(
+          "GitHub 릴리즈 노트 조회 실패 " + owner + "/" + repo + " tag=" + tag, ex);
     }
   }
 
-  private List<String> buildTagCandidates(String version) {
+  private ReleaseDetails toReleaseDetails(
+      GithubReleaseResponse response, String owner, String repo, String tag) {
+    Instant publishedAt =
+        response.publishedAt() != null ? Instant.parse(response.publishedAt()) : null;
+    String titleFallback =
+        response.name() != null
+            ? response.name()
+            : (response.tagName() != null ? response.tagName() : tag);
+    String contentFallback = response.body() != null ? response.body() : "";
+    String urlFallback =
+        response.htmlUrl() != null
+            ? response.htmlUrl()
+            : ("https://github.com/" + owner + "/" + repo + "/releases/tag/" + tag);
+    return new ReleaseDetails(titleFallback, contentFallback, publishedAt, urlFallback);
+  }
+
+  private static String textOrNull(JsonNode node, String field) {
+    JsonNode value = node.get(field);
+    return value == null || value.isNull() ? null : value.asText();
+  }
+
+  private static List<String> buildTagCandidates(String version) {
     if (version == null) {
       return List.of();
     }
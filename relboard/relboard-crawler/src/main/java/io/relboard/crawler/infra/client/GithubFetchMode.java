@@ -0,0 +1,17 @@
+package io.relboard.crawler.infra.client;
+
+/** GitHub 소스의 릴리즈 노트를 가져오는 방식. */
+public enum GithubFetchMode {
+  /** 새 태그마다 REST {@code releases/tags/{tag}}를 호출한다. */
+  TAGS,
+  /**
+   * 소스마다 REST {@code releases} 목록을 새 버전을 모두 찾거나 이미 아는 태그만 있는 페이지가 나올 때까지 페이지 단위로 가져와 로컬에서 매칭한다.
+   * 목록에서 찾지 못한 버전은 태그별로 조회한다.
+   */
+  RELEASES,
+  /**
+   * 크롤링 사이클 시작 시 GraphQL 별칭 쿼리로 여러 저장소의 최신 릴리즈를 한꺼번에 가져온다. 버전 목록도 그 릴리즈의 태그 이름을 쓰며, 사전 조회에 없는 저장소만
+   * REST 태그 목록과 태그별 조회로 처리한다. 토큰이 필요하다.
+   */
+  GRAPHQL
+}
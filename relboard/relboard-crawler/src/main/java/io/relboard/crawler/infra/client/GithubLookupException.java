@@ -0,0 +1,16 @@
+package io.relboard.crawler.infra.client;
+
+/**
+ * GitHub 조회가 404가 아닌 이유(5xx, 네트워크 오류 등)로 실패했을 때 던진다. 릴리즈가 없다는 뜻인 빈 결과와 구분해, 크롤링이 해당 버전을 노트 없이 저장하지
+ * 않고 다음 크롤링에서 다시 시도하게 한다.
+ */
+public class GithubLookupException extends RuntimeException {
+
+  public GithubLookupException(String message) {
+    super(message);
+  }
+
+  public GithubLookupException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,268 @@
+package io.relboard.crawler.infra.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.config.GithubFetchProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * GitHub REST(core) 레이트리밋 예산. 응답 헤더({@code X-RateLimit-Remaining}, {@code X-RateLimit-Reset},
+ * {@code Retry-After})로 남은 요청 수와 차단 시각을 추적하고, 사이클에 남은 GitHub 소스 수로 나눠 예산이 모자라면 저우선 소스부터 다음 사이클로
+ * 미룬다.
+ *
+ * <p>2차 레이트리밋(429, 또는 본문에 "secondary rate limit"이 있는 403)은 Retry-After만큼, 없으면 지수 백오프에 지터를 더해 쉰다. 그
+ * 밖의 403(권한 없음, 차단된 저장소 등)은 해당 요청만 실패시키고 차단하지 않는다.
+ */
+@Slf4j
+public class GithubRateLimitBudget {
+
+  private static final String CORE_RESOURCE = "core";
+  private static final String SECONDARY_LIMIT_MESSAGE = "secondary rate limit";
+
+  /** 403 본문에서 2차 레이트리밋 메시지를 찾을 때 읽는 최대 크기. GitHub 오류 본문은 수백 바이트다. */
+  private static final int MAX_INSPECTED_BODY = 16 * 1024;
+
+  private final GithubFetchProperties.RateLimit properties;
+  private final AtomicInteger remaining = new AtomicInteger(-1);
+  private final AtomicInteger pending = new AtomicInteger();
+  private final AtomicInteger secondaryStrikes = new AtomicInteger();
+  private final Counter budgetDeferrals;
+  private final Counter blockedDeferrals;
+  private volatile Instant resetAt = Instant.EPOCH;
+  private volatile Instant blockedUntil = Instant.EPOCH;
+
+  public GithubRateLimitBudget(
+      GithubFetchProperties.RateLimit properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    Gauge.builder("crawler.github.ratelimit.remaining", remaining, AtomicInteger::get)
+        .description("GitHub core 레이트리밋 남은 요청 수(-1이면 아직 모름)")
+        .register(meterRegistry);
+    Gauge.builder("crawler.github.ratelimit.pending", pending, AtomicInteger::get)
+        .description("이번 사이클에서 아직 시작하지 않은 GitHub 소스 수")
+        .register(meterRegistry);
+    this.budgetDeferrals =
+        Counter.builder("crawler.github.deferred").tag("reason", "budget").register(meterRegistry);
+    this.blockedDeferrals =
+        Counter.builder("crawler.github.deferred").tag("reason", "blocked").register(meterRegistry);
+  }
+
+  /** GitHub RestClient에 붙이는 인터셉터. 요청 전 차단 여부를 확인하고 응답 헤더로 예산을 갱신한다. */
+  public ClientHttpRequestInterceptor interceptor() {
+    return (request, body, execution) -> {
+      beforeRequest();
+      ClientHttpResponse response = execution.execute(request, body);
+      HttpHeaders headers = response.getHeaders();
+      if (response.getStatusCode().value() != 403
+          || headers.getFirst(HttpHeaders.RETRY_AFTER) != null
+          || Long.valueOf(0).equals(parseLong(headers.getFirst("X-RateLimit-Remaining")))) {
+        record(response.getStatusCode(), headers, false);
+        return response;
+      }
+      // 헤더만으로는 2차 레이트리밋과 권한 오류를 구분할 수 없어 본문을 확인하고, 읽은 만큼 되돌려 준다
+      byte[] prefix = response.getBody().readNBytes(MAX_INSPECTED_BODY);
+      record(response.getStatusCode(), headers, isSecondaryLimitMessage(prefix, headers));
+      return new ReplayedResponse(response, prefix);
+    };
+  }
+
+  /** 사이클 시작 시 이번에 크롤링할 GitHub 소스 수를 알려준다. */
+  public void startCycle(int githubSources) {
+    pending.set(Math.max(0, githubSources));
+  }
+
+  /** GitHub 소스 하나를 시작해도 되는지 판단한다. false면 호출자는 소스를 다음 사이클로 미뤄야 한다. 판단 결과와 관계없이 대기 소스 수는 하나 줄어든다. */
+  public boolean admit(boolean lowPriority) {
+    int pendingSources = Math.max(1, pending.getAndUpdate(value -> Math.max(0, value - 1)));
+    Instant now = Instant.now();
+    if (blockedUntil.isAfter(now.plus(properties.getMaxInlineWait()))) {
+      blockedDeferrals.increment();
+      return false;
+    }
+    int known = remaining.get();
+    if (known < 0 || !resetAt.isAfter(now)) {
+      // 아직 응답을 받지 못했거나 리셋 시각이 지났으면 예산을 알 수 없으므로 진행한다
+      return true;
+    }
+    if (known <= properties.getReserve()) {
+      budgetDeferrals.increment();
+      return false;
+    }
+    int share = (known - properties.getReserve()) / pendingSources;
+    if (lowPriority && share < properties.getLowPriorityMinShare()) {
+      budgetDeferrals.increment();
+      return false;
+    }
+    return true;
+  }
+
+  public boolean isLowPriority(Integer crawlIntervalMinutes) {
+    return crawlIntervalMinutes != null
+        && crawlIntervalMinutes >= properties.getLowPriorityInterval().toMinutes();
+  }
+
+  public int remaining() {
+    return remaining.get();
+  }
+
+  void beforeRequest() {
+    Duration wait = Duration.between(Instant.now(), blockedUntil);
+    if (wait.isNegative() || wait.isZero()) {
+      return;
+    }
+    if (wait.compareTo(properties.getMaxInlineWait()) > 0) {
+      throw new GithubRateLimitException(blockedUntil);
+    }
+    try {
+      Thread.sleep(wait);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new GithubRateLimitException(blockedUntil);
+    }
+  }
+
+  /**
+   * @param secondaryLimitMessage 403 본문에 2차 레이트리밋 메시지가 있었는지. Retry-After나 remaining=0 없이 403이면 이 값이
+   *     참일 때만 차단한다.
+   */
+  void record(HttpStatusCode status, HttpHeaders headers, boolean secondaryLimitMessage) {
+    String resource = headers.getFirst("X-RateLimit-Resource");
+    boolean core = resource == null || CORE_RESOURCE.equalsIgnoreCase(resource);
+    Long remainingHeader = parseLong(headers.getFirst("X-RateLimit-Remaining"));
+    Long resetHeader = parseLong(headers.getFirst("X-RateLimit-Reset"));
+    if (core && remainingHeader != null) {
+      remaining.set(remainingHeader.intValue());
+      if (resetHeader != null) {
+        resetAt = Instant.ofEpochSecond(resetHeader);
+      }
+    }
+
+    int code = status.value();
+    if (code != 403 && code != 429) {
+      if (status.is2xxSuccessful() || code == 304) {
+        secondaryStrikes.set(0);
+      }
+      if (core && remainingHeader != null && remainingHeader == 0) {
+        block(resetAt.plus(jitter(Duration.ofSeconds(5))), "primary");
+      }
+      return;
+    }
+
+    Long retryAfter = parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER));
+    if (retryAfter != null) {
+      Duration base = Duration.ofSeconds(retryAfter);
+      block(Instant.now().plus(base).plus(jitter(base)), "retry-after");
+    } else if (remainingHeader != null && remainingHeader == 0 && resetHeader != null) {
+      block(Instant.ofEpochSecond(resetHeader).plus(jitter(Duration.ofSeconds(5))), "primary");
+    } else if (code == 429
+        || secondaryLimitMessage
+        || (remainingHeader != null && remainingHeader == 0)) {
+      int strikes = secondaryStrikes.getAndIncrement();
+      Duration backoff = properties.getSecondaryBackoff().multipliedBy(1L << Math.min(strikes, 6));
+      if (backoff.compareTo(properties.getMaxSecondaryBackoff()) > 0) {
+        backoff = properties.getMaxSecondaryBackoff();
+      }
+      block(Instant.now().plus(backoff).plus(jitter(backoff)), "secondary");
+    }
+  }
+
+  private void block(Instant until, String reason) {
+    synchronized (this) {
+      if (!until.isAfter(blockedUntil)) {
+        return;
+      }
+      blockedUntil = until;
+    }
+    log.warn(
+        "GitHub 레이트리밋 차단 reason={} blockedUntil={} remaining={}", reason, until, remaining.get());
+  }
+
+  private static boolean isSecondaryLimitMessage(byte[] body, HttpHeaders headers) {
+    byte[] text = body;
+    String encoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+    if (encoding != null && "gzip".equalsIgnoreCase(encoding.trim()) && body.length > 0) {
+      // 압축 해제 인터셉터보다 안쪽에서 돌기 때문에 원본 응답을 본다
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+        text = in.readNBytes(MAX_INSPECTED_BODY);
+      } catch (IOException ex) {
+        return false;
+      }
+    }
+    return new String(text, StandardCharsets.UTF_8)
+        .toLowerCase(Locale.ROOT)
+        .contains(SECONDARY_LIMIT_MESSAGE);
+  }
+
+  /** 여러 노드/스레드가 같은 시각에 몰리지 않도록 기준 시간의 최대 20%를 무작위로 더한다. */
+  private static Duration jitter(Duration base) {
+    long bound = Math.max(1L, base.toMillis() / 5);
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound));
+  }
+
+  private static Long parseLong(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  /** 확인하느라 읽은 본문 앞부분을 나머지 스트림 앞에 붙여 돌려준다. */
+  private static final class ReplayedResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final byte[] prefix;
+    private InputStream body;
+
+    private ReplayedResponse(ClientHttpResponse delegate, byte[] prefix) {
+      this.delegate = delegate;
+      this.prefix = prefix;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body = new SequenceInputStream(new ByteArrayInputStream(prefix), delegate.getBody());
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+}
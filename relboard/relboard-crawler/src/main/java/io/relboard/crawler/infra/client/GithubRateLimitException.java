@@ -0,0 +1,16 @@
+package io.relboard.crawler.infra.client;
+
+import java.time.Instant;
+import lombok.Getter;
+
+/** GitHub 레이트리밋으로 요청을 보낼 수 없을 때 던진다. 크롤링은 이 예외를 받으면 소스를 다음 사이클로 미룬다. */
+@Getter
+public class GithubRateLimitException extends RuntimeException {
+
+  private final Instant blockedUntil;
+
+  public GithubRateLimitException(Instant blockedUntil) {
+    super("GitHub 레이트리밋 차단 중 blockedUntil=" + blockedUntil);
+    this.blockedUntil = blockedUntil;
+  }
+}
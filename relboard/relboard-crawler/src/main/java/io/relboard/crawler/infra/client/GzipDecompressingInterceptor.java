@@ -0,0 +1,88 @@
+package io.relboard.crawler.infra.client;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * JDK HttpClient는 응답 압축을 풀어주지 않으므로 {@code Accept-Encoding: gzip}을 붙이고, gzip 응답이면 본문을 스트리밍으로 풀어서
+ * 돌려준다. 본문 전체를 메모리에 올리지 않는다.
+ */
+public class GzipDecompressingInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String GZIP = "gzip";
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    if (!request.getHeaders().containsKey(HttpHeaders.ACCEPT_ENCODING)) {
+      request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+    }
+    ClientHttpResponse response = execution.execute(request, body);
+    String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    if (encoding == null || !GZIP.equalsIgnoreCase(encoding.trim())) {
+      return response;
+    }
+    return new DecompressedResponse(response);
+  }
+
+  private static final class DecompressedResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final HttpHeaders headers;
+    private InputStream body;
+
+    private DecompressedResponse(ClientHttpResponse delegate) {
+      this.delegate = delegate;
+      HttpHeaders copy = new HttpHeaders();
+      copy.putAll(delegate.getHeaders());
+      copy.remove(HttpHeaders.CONTENT_ENCODING);
+      copy.remove(HttpHeaders.CONTENT_LENGTH);
+      this.headers = HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        InputStream raw = new BufferedInputStream(delegate.getBody());
+        // 304/204처럼 본문이 비어 있으면 GZIPInputStream이 헤더를 읽다 실패하므로 그대로 돌려준다
+        raw.mark(1);
+        if (raw.read() == -1) {
+          raw.reset();
+          body = raw;
+        } else {
+          raw.reset();
+          body = new GZIPInputStream(raw);
+        }
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package io.relboard.crawler.infra.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.relboard.crawler.config.HostLimitProperties;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업스트림 호스트별 동시 요청 수(bulkhead)와 초당 요청 수를 제한한다. GitHub/Maven/NPM/RSS 클라이언트가 공유한다.
+ *
+ * <p>크롤링은 가상 스레드에서 실행되므로 허가를 기다리는 동안 캐리어(플랫폼) 스레드는 반환된다.
+ */
+@Slf4j
+public class HostRequestLimiter {
+
+  private final HostLimitProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<String, HostBulkhead> bulkheads = new ConcurrentHashMap<>();
+  private final boolean bypass;
+
+  public HostRequestLimiter(HostLimitProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, false);
+  }
+
+  /**
+   * @param bypass 참이면 제한 없이 바로 실행한다. 응답 아카이브 REPLAY처럼 네트워크를 쓰지 않을 때 쓴다.
+   */
+  public HostRequestLimiter(
+      HostLimitProperties properties, MeterRegistry meterRegistry, boolean bypass) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.bypass = bypass;
+  }
+
+  public <T> T execute(String host, Supplier<T> call) {
+    if (bypass) {
+      return call.get();
+    }
+    HostBulkhead bulkhead = bulkheadFor(host);
+    bulkhead.acquire();
+    try {
+      return call.get();
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  public int queueDepth(String host) {
+    HostBulkhead bulkhead = bulkheads.get(normalize(host));
+    return bulkhead == null ? 0 : bulkhead.waiting.get();
+  }
+
+  private HostBulkhead bulkheadFor(String host) {
+    return bulkheads.computeIfAbsent(normalize(host), this::createBulkhead);
+  }
+
+  private HostBulkhead createBulkhead(String host) {
+    HostLimitProperties.Limit limit = properties.limitFor(host);
+    HostBulkhead bulkhead = new HostBulkhead(host, limit);
+    Gauge.builder("crawler.http.limiter.queue", bulkhead.waiting, AtomicInteger::get)
+        .tag("host", host)
+        .description("호스트 허가를 기다리는 요청 수")
+        .register(meterRegistry);
+    Gauge.builder("crawler.http.limiter.in-flight", bulkhead.inFlight, AtomicInteger::get)
+        .tag("host", host)
+        .register(meterRegistry);
+    log.info(
+        "호스트 요청 제한 등록 host={} maxConcurrent={} requestsPerSecond={}",
+        host,
+        bulkhead.permits.availablePermits(),
+        limit.getRequestsPerSecond());
+    return bulkhead;
+  }
+
+  private static String normalize(String host) {
+    return host == null || host.isBlank() ? "unknown" : host.toLowerCase();
+  }
+
+  private final class HostBulkhead {
+
+    private final String host;
+    private final Semaphore permits;
+    private final long intervalNs;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer waitTimer;
+    private long nextSlotNs = System.nanoTime();
+
+    private HostBulkhead(String host, HostLimitProperties.Limit limit) {
+      this.host = host;
+      this.permits = new Semaphore(Math.max(1, limit.getMaxConcurrent()), true);
+      this.intervalNs =
+          limit.getRequestsPerSecond() > 0
+              ? (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRequestsPerSecond())
+              : 0L;
+      this.waitTimer =
+          Timer.builder("crawler.http.limiter.wait")
+              .tag("host", host)
+              .description("호스트 허가 대기 시간")
+              .register(meterRegistry);
+    }
+
+    /** 초당 요청 수 슬롯을 먼저 기다린 뒤 동시 요청 허가를 받는다. 슬롯을 기다리는 동안 허가를 쥐고 있지 않는다. */
+    private void acquire() {
+      long startNs = System.nanoTime();
+      waiting.incrementAndGet();
+      try {
+        long delayNs = reserveSlot();
+        if (delayNs > 0) {
+          Thread.sleep(Duration.ofNanos(delayNs));
+        }
+        permits.acquire();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("호스트 허가 대기 중 인터럽트 host=" + host, ex);
+      } finally {
+        waiting.decrementAndGet();
+        waitTimer.record(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+      }
+      inFlight.incrementAndGet();
+    }
+
+    private void release() {
+      inFlight.decrementAndGet();
+      permits.release();
+    }
+
+    private synchronized long reserveSlot() {
+      if (intervalNs == 0L) {
+        return 0L;
+      }
+      long now = System.nanoTime();
+      long slot = Math.max(now, nextSlotNs);
+      nextSlotNs = slot + intervalNs;
+      return slot - now;
+    }
+  }
+}
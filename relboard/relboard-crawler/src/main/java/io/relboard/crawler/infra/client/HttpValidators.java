@@ -0,0 +1,42 @@
+package io.relboard.crawler.infra.client;
+
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 조건부 요청에 쓰는 응답 검증자(ETag, Last-Modified). 값은 서버가 보낸 문자열을 그대로 돌려보낸다. {@code contentStamp}는 헤더가 아니라
+ * 본문에서 얻은 변경 표시(maven-metadata.xml의 lastUpdated 등)로, 요청에는 싣지 않고 클라이언트가 직접 비교한다.
+ */
+public record HttpValidators(String etag, String lastModified, String contentStamp) {
+
+  public static final HttpValidators NONE = new HttpValidators(null, null, null);
+
+  public static HttpValidators from(HttpHeaders headers) {
+    if (headers == null) {
+      return NONE;
+    }
+    String etag = headers.getFirst(HttpHeaders.ETAG);
+    String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+    return new HttpValidators(blankToNull(etag), blankToNull(lastModified), null);
+  }
+
+  public HttpValidators withContentStamp(String contentStamp) {
+    return new HttpValidators(etag, lastModified, blankToNull(contentStamp));
+  }
+
+  public boolean isEmpty() {
+    return etag == null && lastModified == null && contentStamp == null;
+  }
+
+  public void applyTo(HttpHeaders headers) {
+    if (etag != null) {
+      headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+    }
+    if (lastModified != null) {
+      headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+    }
+  }
+
+  private static String blankToNull(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+}
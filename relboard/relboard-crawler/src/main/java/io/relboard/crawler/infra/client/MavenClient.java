@@ -1,13 +1,13 @@
 package io.relboard.crawler.infra.client;
 
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLStreamException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -16,16 +16,24 @@ import org.springframework.web.client.RestClient;
 public class MavenClient {
 
   private final RestClient mavenRestClient;
+  private final HostRequestLimiter hostRequestLimiter;
+  private final MavenMetadataParser metadataParser = new MavenMetadataParser();
 
-  public MavenClient(@Qualifier("mavenRestClient") final RestClient mavenRestClient) {
+  public MavenClient(
+      @Qualifier("mavenRestClient") final RestClient mavenRestClient,
+      final HostRequestLimiter hostRequestLimiter) {
     this.mavenRestClient = mavenRestClient;
+    this.hostRequestLimiter = hostRequestLimiter;
   }
 
-  // XML에서 <version>...</version> 들을 모두 추출
-  private static final Pattern VERSION_PATTERN = Pattern.compile("<version>(.*?)</version>");
-
-  public Optional<List<String>> fetchVersions(String groupId, String artifactId) {
+  /**
+   * maven-metadata.xml에서 새 버전을 배포 순서로 조회한다. 저장된 lastUpdated({@link HttpValidators#contentStamp()})와
+   * 응답의 lastUpdated가 같으면 304와 똑같이 {@code notModified}로 돌려준다.
+   */
+  public ConditionalResult<List<String>> fetchVersions(
+      String groupId, String artifactId, HttpValidators validators, Predicate<String> isKnown) {
     String groupPath = groupId.replace('.', '/');
+    HttpValidators requestValidators = validators != null ? validators : HttpValidators.NONE;
 
     try {
       URI uri =
@@ -39,28 +47,52 @@ public class MavenClient {
         log.trace("Maven metadata 요청 uri={}", uri);
       }
 
-      String xmlContent = mavenRestClient.get().uri(uri).retrieve().body(String.class);
-
-      if (xmlContent == null || xmlContent.isBlank()) {
-        return Optional.empty();
-      }
-
-      Matcher matcher = VERSION_PATTERN.matcher(xmlContent);
-      List<String> versions = new ArrayList<>();
-      while (matcher.find()) {
-        versions.add(matcher.group(1));
-      }
-
-      return versions.isEmpty() ? Optional.empty() : Optional.of(versions);
-
+      return hostRequestLimiter.execute(
+          uri.getHost(),
+          () ->
+              mavenRestClient
+                  .get()
+                  .uri(uri)
+                  .headers(requestValidators::applyTo)
+                  .exchange(
+                      (req, res) -> {
+                        if (res.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                          return ConditionalResult.<List<String>>notModified(requestValidators);
+                        }
+                        if (res.getStatusCode().isError()) {
+                          log.warn(
+                              "Maven Metadata 조회 오류 (패키지명 확인 필요) status={} {}/{}",
+                              res.getStatusCode(),
+                              groupId,
+                              artifactId);
+                          return ConditionalResult.<List<String>>empty();
+                        }
+                        HttpValidators responseValidators = HttpValidators.from(res.getHeaders());
+                        MavenMetadataParser.Result result;
+                        try {
+                          result =
+                              metadataParser.parse(
+                                  res.getBody(), requestValidators.contentStamp(), isKnown);
+                        } catch (XMLStreamException ex) {
+                          throw new IllegalStateException("maven-metadata.xml 파싱 실패", ex);
+                        }
+                        HttpValidators stamped =
+                            responseValidators.withContentStamp(result.lastUpdated());
+                        if (result.unchanged()) {
+                          return ConditionalResult.<List<String>>notModified(stamped);
+                        }
+                        return ConditionalResult.modified(result.versions(), stamped);
+                      }));
     } catch (Exception ex) {
-      log.warn("Maven Metadata 조회 실패 (패키지명 확인 필요): {}/{}", groupId, artifactId);
-      return Optional.empty();
+      log.warn(
+          "Maven Metadata 조회 실패 (패키지명 확인 필요): {}/{} error={}", groupId, artifactId, ex.toString());
+      return ConditionalResult.empty();
     }
   }
 
   public Optional<String> fetchLatestVersion(String groupId, String artifactId) {
-    return fetchVersions(groupId, artifactId)
+    return fetchVersions(groupId, artifactId, HttpValidators.NONE, version -> false)
+        .bodyOptional()
         .flatMap(
             list -> list.isEmpty() ? Optional.empty() : Optional.of(list.get(list.size() - 1)));
   }
@@ -0,0 +1,90 @@
+package io.relboard.crawler.infra.client;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * maven-metadata.xml을 StAX로 스트리밍 파싱한다. {@code metadata/versioning/versions/version}과 {@code
+ * metadata/versioning/lastUpdated}만 읽는다. 실제 파일에서 lastUpdated는 versions 뒤에 오므로 문서는 끝까지 읽고,
+ * lastUpdated가 이전 크롤링 값과 같으면 저장된 버전 조회({@code isKnown}) 없이 빈 결과를 돌려준다. DTD와 외부 엔티티는 허용하지 않는다.
+ */
+public class MavenMetadataParser {
+
+  private final XMLInputFactory inputFactory;
+
+  public MavenMetadataParser() {
+    this.inputFactory = XMLInputFactory.newFactory();
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+  }
+
+  /**
+   * @param previousLastUpdated 이전 크롤링에서 저장한 lastUpdated. 같으면 {@link Result#unchanged()}가 참이다.
+   * @param isKnown 이미 저장된 버전이면 참. 결과 목록에서 뺀다.
+   */
+  public Result parse(InputStream body, String previousLastUpdated, Predicate<String> isKnown)
+      throws XMLStreamException {
+    XMLStreamReader reader = inputFactory.createXMLStreamReader(body);
+    try {
+      List<String> versions = new ArrayList<>();
+      String lastUpdated = null;
+      boolean foundVersions = false;
+      // metadata(1) > versioning(2) > versions|lastUpdated(3) > version(4)
+      String[] path = new String[5];
+      int depth = 0;
+      while (reader.hasNext()) {
+        int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+          if (depth < path.length) {
+            path[depth] = reader.getLocalName();
+          }
+          if (depth == 4
+              && isVersioning(path)
+              && "versions".equals(path[3])
+              && "version".equals(path[4])) {
+            String version = reader.getElementText().trim();
+            depth--;
+            if (!version.isEmpty()) {
+              versions.add(version);
+            }
+          } else if (depth == 3 && isVersioning(path) && "lastUpdated".equals(path[3])) {
+            lastUpdated = reader.getElementText().trim();
+            depth--;
+          } else if (depth == 3 && isVersioning(path) && "versions".equals(path[3])) {
+            foundVersions = true;
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT) {
+          depth--;
+        }
+      }
+      if (previousLastUpdated != null && previousLastUpdated.equals(lastUpdated)) {
+        return new Result(List.of(), lastUpdated, true);
+      }
+      if (!foundVersions) {
+        return new Result(null, lastUpdated, false);
+      }
+      versions.removeIf(isKnown);
+      return new Result(versions, lastUpdated, false);
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static boolean isVersioning(String[] path) {
+    return "metadata".equals(path[1]) && "versioning".equals(path[2]);
+  }
+
+  /**
+   * @param versions 새 버전(문서 순서 = 배포 순서). {@code <versions>}가 없으면 null
+   * @param unchanged lastUpdated가 이전 값과 같아 버전 목록을 버렸는지 여부
+   */
+  public record Result(List<String> versions, String lastUpdated, boolean unchanged) {}
+}
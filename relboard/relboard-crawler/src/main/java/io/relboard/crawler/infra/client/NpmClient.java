@@ -1,14 +1,13 @@
 package io.relboard.crawler.infra.client;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.ArrayList;
-import java.util.Comparator;
+import io.relboard.crawler.config.NpmFetchProperties;
+import java.net.URI;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
@@ -16,41 +15,70 @@ import org.springframework.web.client.RestClient;
 @Component
 public class NpmClient {
 
+  private static final String ABBREVIATED_ACCEPT =
+      "application/vnd.npm.install-v1+json; q=1.0, application/json; q=0.8";
+
   private final RestClient npmRestClient;
-  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HostRequestLimiter hostRequestLimiter;
+  private final NpmFetchProperties properties;
+  private final String registryHost;
+  private final NpmPackumentParser packumentParser =
+      new NpmPackumentParser(new ObjectMapper().getFactory());
 
-  public NpmClient(@Qualifier("npmRestClient") final RestClient npmRestClient) {
+  public NpmClient(
+      @Qualifier("npmRestClient") final RestClient npmRestClient,
+      final HostRequestLimiter hostRequestLimiter,
+      final NpmFetchProperties properties) {
     this.npmRestClient = npmRestClient;
+    this.hostRequestLimiter = hostRequestLimiter;
+    this.properties = properties;
+    this.registryHost = URI.create(properties.getRegistryUrl()).getHost();
   }
 
-  public Optional<List<String>> fetchVersions(String packageName) {
+  /**
+   * 패키지의 새 버전 목록을 조회한다. 응답은 스트리밍으로 읽으며 {@code isKnown}이 참인 버전은 건너뛰므로, 모든 버전을 이미 알고 있으면 빈 목록을 돌려준다.
+   */
+  public ConditionalResult<List<String>> fetchVersions(
+      String packageName, HttpValidators validators, Predicate<String> isKnown) {
     if (packageName == null || packageName.isBlank()) {
-      return Optional.empty();
+      return ConditionalResult.empty();
     }
+    HttpValidators requestValidators = validators != null ? validators : HttpValidators.NONE;
+    boolean abbreviated = properties.isAbbreviated();
     try {
-      JsonNode root = npmRestClient.get().uri("/" + packageName).retrieve().body(JsonNode.class);
-      if (root == null) {
-        return Optional.empty();
-      }
-      JsonNode timeNode = root.get("time");
-      if (timeNode == null || !timeNode.isObject()) {
-        return Optional.empty();
-      }
-      Map<String, String> timeMap =
-          objectMapper.convertValue(
-              timeNode, new com.fasterxml.jackson.core.type.TypeReference<>() {});
-      List<Map.Entry<String, String>> entries = new ArrayList<>(timeMap.entrySet());
-      entries.removeIf(
-          entry -> "created".equals(entry.getKey()) || "modified".equals(entry.getKey()));
-      entries.sort(Comparator.comparing(Map.Entry::getValue));
-      List<String> versions = new ArrayList<>();
-      for (Map.Entry<String, String> entry : entries) {
-        versions.add(entry.getKey());
-      }
-      return versions.isEmpty() ? Optional.empty() : Optional.of(versions);
+      return hostRequestLimiter.execute(
+          registryHost,
+          () ->
+              npmRestClient
+                  .get()
+                  .uri("/" + packageName)
+                  .headers(
+                      headers -> {
+                        requestValidators.applyTo(headers);
+                        if (abbreviated) {
+                          headers.set("Accept", ABBREVIATED_ACCEPT);
+                        }
+                      })
+                  .exchange(
+                      (req, res) -> {
+                        if (res.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                          return ConditionalResult.<List<String>>notModified(requestValidators);
+                        }
+                        if (res.getStatusCode().isError()) {
+                          log.warn(
+                              "NPM metadata 조회 오류 status={} packageName={}",
+                              res.getStatusCode(),
+                              packageName);
+                          return ConditionalResult.<List<String>>empty();
+                        }
+                        List<String> versions =
+                            packumentParser.parseNewVersions(res.getBody(), abbreviated, isKnown);
+                        return ConditionalResult.modified(
+                            versions, HttpValidators.from(res.getHeaders()));
+                      }));
     } catch (Exception ex) {
       log.warn("NPM metadata 조회 실패 packageName={}", packageName, ex);
-      return Optional.empty();
+      return ConditionalResult.empty();
     }
   }
 }
@@ -0,0 +1,103 @@
+package io.relboard.crawler.infra.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * npm packument를 트리로 만들지 않고 스트리밍으로 읽는다. 전체 형식에서는 {@code time}, 축약(install-v1) 형식에서는 {@code
+ * versions}의 키만 읽고 나머지 필드는 건너뛴다. 이미 아는 버전({@code isKnown})은 담지 않으므로 메모리 사용량이 패키지 크기가 아니라 새 버전 수에
+ * 비례한다.
+ */
+public class NpmPackumentParser {
+
+  private static final String LATEST_TAG = "latest";
+
+  private final JsonFactory jsonFactory;
+
+  public NpmPackumentParser(JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  /**
+   * 새 버전을 오래된 순으로 돌려준다. 전체 형식은 배포 시각, 축약 형식은 문서 순서를 따르며, {@code dist-tags.latest}가 포함돼 있으면 마지막에 둔다.
+   * 형식이 맞지 않으면 null을 돌려준다.
+   */
+  public List<String> parseNewVersions(
+      InputStream body, boolean abbreviated, Predicate<String> isKnown) throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      String latest = null;
+      boolean found = false;
+      List<Map.Entry<String, String>> timed = new ArrayList<>();
+      List<String> ordered = new ArrayList<>();
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.START_OBJECT) {
+          parser.skipChildren();
+          continue;
+        }
+        if ("dist-tags".equals(field)) {
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String tag = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_STRING && LATEST_TAG.equals(tag)) {
+              latest = parser.getText();
+            } else {
+              parser.skipChildren();
+            }
+          }
+        } else if (!abbreviated && "time".equals(field)) {
+          found = true;
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String version = parser.currentName();
+            if (parser.nextToken() == JsonToken.VALUE_STRING
+                && !"created".equals(version)
+                && !"modified".equals(version)
+                && !isKnown.test(version)) {
+              timed.add(Map.entry(version, parser.getText()));
+            } else {
+              parser.skipChildren();
+            }
+          }
+        } else if (abbreviated && "versions".equals(field)) {
+          found = true;
+          while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String version = parser.currentName();
+            parser.nextToken();
+            parser.skipChildren();
+            if (!isKnown.test(version)) {
+              ordered.add(version);
+            }
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      if (!found) {
+        return null;
+      }
+      if (!abbreviated) {
+        timed.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+        for (Map.Entry<String, String> entry : timed) {
+          ordered.add(entry.getKey());
+        }
+      }
+      if (latest != null && ordered.remove(latest)) {
+        ordered.add(latest);
+      }
+      return ordered;
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package io.relboard.crawler.infra.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.config.ResponseArchiveProperties;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * GitHub/Maven/NPM/RSS 원본 응답을 로컬에 보관하고, REPLAY 모드에서 네트워크 대신 돌려준다. 파서나 Markdown 변환을 바꾼 뒤 레이트리밋을 쓰지
+ * 않고 같은 응답으로 다시 처리할 때 쓴다.
+ *
+ * <p>본문은 압축 해제된 원본의 SHA-256을 키로 한 번만 저장한다(gzip). 세그먼트 파일({@code segment-00001.dat} …)에 이어 붙이고, 위치와
+ * 요청→본문 매핑은 추가 전용 인덱스({@code index.log})에 남긴다. 시작할 때 인덱스를 읽어 메모리에 올린다.
+ *
+ * <p>RECORD 모드는 본문을 끝까지 읽어 힙에 올리므로 스트리밍 파서의 조기 종료 이점이 사라진다. 오프라인 재처리용 데이터를 모을 때만 켠다.
+ */
+@Slf4j
+public class ResponseArchive {
+
+  static final String INDEX_FILE = "index.log";
+  static final String ARCHIVE_HEADER = "X-Relboard-Archive";
+  private static final List<String> ARCHIVED_HEADERS =
+      List.of(
+          HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.LINK);
+  private static final String EMPTY = "-";
+
+  private final ResponseArchiveProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Path directory;
+  private final Map<String, BlobLocation> blobs = new ConcurrentHashMap<>();
+  private final Map<String, ArchivedResponse> responses = new ConcurrentHashMap<>();
+  private int segment = 1;
+  private long segmentSize;
+
+  public ResponseArchive(ResponseArchiveProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.directory = Path.of(properties.getDirectory());
+    if (isEnabled()) {
+      try {
+        Files.createDirectories(directory);
+        loadIndex();
+      } catch (IOException ex) {
+        throw new UncheckedIOException("응답 아카이브를 열 수 없음 directory=" + directory, ex);
+      }
+      log.info(
+          "응답 아카이브 사용 mode={} directory={} responses={} blobs={}",
+          properties.getMode(),
+          directory,
+          responses.size(),
+          blobs.size());
+    }
+  }
+
+  public boolean isEnabled() {
+    return properties.getMode() != ResponseArchiveMode.OFF;
+  }
+
+  public boolean isReplay() {
+    return properties.getMode() == ResponseArchiveMode.REPLAY;
+  }
+
+  /** 클라이언트 이름별 인터셉터. 본문 크기 제한과 압축 해제보다 바깥에 등록해 압축을 푼 본문을 기록한다. */
+  public ClientHttpRequestInterceptor interceptor(String client) {
+    return (request, body, execution) -> {
+      String key = requestKey(request, body);
+      if (isReplay()) {
+        return replay(client, key);
+      }
+      ClientHttpResponse response = execution.execute(request, body);
+      if (!response.getStatusCode().is2xxSuccessful()) {
+        return response;
+      }
+      byte[] content;
+      HttpHeaders headers;
+      try (response) {
+        content = response.getBody().readAllBytes();
+        headers = archivedHeaders(response.getHeaders());
+      }
+      record(key, headers, content);
+      meterRegistry.counter("crawler.archive.recorded", "client", client).increment();
+      return respond(HttpStatus.OK, headers, content);
+    };
+  }
+
+  private ClientHttpResponse replay(String client, String key) throws IOException {
+    ArchivedResponse archived = responses.get(key);
+    if (archived == null) {
+      meterRegistry
+          .counter("crawler.archive.replayed", "client", client, "result", "miss")
+          .increment();
+      log.debug("아카이브에 없는 요청 key={}", key);
+      HttpHeaders headers = new HttpHeaders();
+      headers.set(ARCHIVE_HEADER, "miss");
+      return respond(HttpStatus.NOT_FOUND, headers, new byte[0]);
+    }
+    meterRegistry
+        .counter("crawler.archive.replayed", "client", client, "result", "hit")
+        .increment();
+    HttpHeaders headers = new HttpHeaders();
+    headers.putAll(archived.headers());
+    headers.set(ARCHIVE_HEADER, "hit");
+    return respond(HttpStatus.OK, headers, readBlob(archived.digest()));
+  }
+
+  synchronized void record(String key, HttpHeaders headers, byte[] content) throws IOException {
+    String digest = sha256(content);
+    StringBuilder index = new StringBuilder();
+    if (!blobs.containsKey(digest)) {
+      byte[] compressed = gzip(content);
+      if (segmentSize > 0
+          && segmentSize + compressed.length > properties.getSegmentMaxSize().toBytes()) {
+        segment++;
+        segmentSize = 0;
+      }
+      Path segmentFile = segmentFile(segment);
+      long offset;
+      try (FileChannel channel =
+          FileChannel.open(segmentFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        offset = channel.size();
+        ByteBuffer buffer = ByteBuffer.wrap(compressed);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer, offset + buffer.position());
+        }
+      }
+      segmentSize = offset + compressed.length;
+      BlobLocation location = new BlobLocation(segment, offset, compressed.length);
+      blobs.put(digest, location);
+      index
+          .append("B\t")
+          .append(digest)
+          .append('\t')
+          .append(location.segment())
+          .append('\t')
+          .append(location.offset())
+          .append('\t')
+          .append(location.length())
+          .append('\n');
+    }
+    index.append("R\t").append(key).append('\t').append(digest);
+    for (String name : ARCHIVED_HEADERS) {
+      String value = headers.getFirst(name);
+      index.append('\t').append(value == null || value.isEmpty() ? EMPTY : value);
+    }
+    index.append('\n');
+    try (Writer writer =
+        Files.newBufferedWriter(
+            directory.resolve(INDEX_FILE),
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND)) {
+      writer.write(index.toString());
+    }
+    responses.put(key, new ArchivedResponse(digest, headers));
+  }
+
+  private byte[] readBlob(String digest) throws IOException {
+    BlobLocation location = blobs.get(digest);
+    if (location == null) {
+      throw new IOException("아카이브 본문이 없음 digest=" + digest);
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(location.length());
+    try (FileChannel channel =
+        FileChannel.open(segmentFile(location.segment()), StandardOpenOption.READ)) {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, location.offset() + buffer.position()) < 0) {
+          throw new IOException("세그먼트가 잘려 있음 digest=" + digest);
+        }
+      }
+    }
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(buffer.array()))) {
+      return in.readAllBytes();
+    }
+  }
+
+  private void loadIndex() throws IOException {
+    Path index = directory.resolve(INDEX_FILE);
+    if (!Files.exists(index)) {
+      return;
+    }
+    for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+      String[] fields = line.split("\t", -1);
+      // 기록 도중 중단돼 마지막 줄이 잘렸을 수 있다
+      if (fields.length == 5 && "B".equals(fields[0])) {
+        BlobLocation location =
+            new BlobLocation(
+                Integer.parseInt(fields[2]),
+                Long.parseLong(fields[3]),
+                Integer.parseInt(fields[4]));
+        blobs.put(fields[1], location);
+        if (location.segment() >= segment) {
+          segment = location.segment();
+          segmentSize = Math.max(segmentSize, location.offset() + location.length());
+        }
+      } else if (fields.length == 3 + ARCHIVED_HEADERS.size() && "R".equals(fields[0])) {
+        HttpHeaders headers = new HttpHeaders();
+        for (int i = 0; i < ARCHIVED_HEADERS.size(); i++) {
+          if (!EMPTY.equals(fields[3 + i])) {
+            headers.set(ARCHIVED_HEADERS.get(i), fields[3 + i]);
+          }
+        }
+        responses.put(fields[1], new ArchivedResponse(fields[2], headers));
+      } else if (!line.isBlank()) {
+        log.warn("응답 아카이브 인덱스의 잘못된 줄을 건너뜀 line={}", line);
+      }
+    }
+  }
+
+  private Path segmentFile(int number) {
+    return directory.resolve(String.format("segment-%05d.dat", number));
+  }
+
+  /** 메서드와 URI, 본문이 있으면(GraphQL POST 등) 본문의 SHA-256까지 묶어 요청을 구분한다. */
+  static String requestKey(HttpRequest request, byte[] body) {
+    String key = request.getMethod().name() + " " + request.getURI();
+    return body == null || body.length == 0 ? key : key + " " + sha256(body);
+  }
+
+  private static HttpHeaders archivedHeaders(HttpHeaders source) {
+    HttpHeaders headers = new HttpHeaders();
+    for (String name : ARCHIVED_HEADERS) {
+      String value = source.getFirst(name);
+      if (value != null) {
+        headers.set(name, value.replace('\t', ' ').replace('\n', ' '));
+      }
+    }
+    return headers;
+  }
+
+  private static ClientHttpResponse respond(HttpStatus status, HttpHeaders headers, byte[] body) {
+    return new BufferedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body);
+  }
+
+  private static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(content);
+    }
+    return out.toByteArray();
+  }
+
+  private static String sha256(byte[] content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256을 사용할 수 없음", ex);
+    }
+  }
+
+  private record BlobLocation(int segment, long offset, int length) {}
+
+  private record ArchivedResponse(String digest, HttpHeaders headers) {}
+
+  private record BufferedResponse(HttpStatus status, HttpHeaders headers, byte[] body)
+      implements ClientHttpResponse {
+
+    @Override
+    public HttpStatusCode getStatusCode() {
+      return status;
+    }
+
+    @Override
+    public String getStatusText() {
+      return status.getReasonPhrase();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+      return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
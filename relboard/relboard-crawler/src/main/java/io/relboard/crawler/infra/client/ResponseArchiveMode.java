@@ -0,0 +1,14 @@
+package io.relboard.crawler.infra.client;
+
+/** 업스트림 응답 아카이브 동작 방식 */
+public enum ResponseArchiveMode {
+  /** 아카이브를 쓰지 않는다 */
+  OFF,
+  /** 업스트림 응답을 그대로 전달하면서 성공(2xx) 응답을 아카이브에 기록한다 */
+  RECORD,
+  /**
+   * 네트워크를 쓰지 않고 아카이브에 기록된 응답만 돌려준다. 호스트 요청 제한도 적용하지 않는다. 빈 release_record와 꺼진 outbox 릴레이에서만 시작한다
+   * ({@code ResponseArchiveReplayGuard})
+   */
+  REPLAY
+}
@@ -0,0 +1,137 @@
+package io.relboard.crawler.infra.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.config.HostLimitProperties;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 업스트림 응답 본문이 힙을 얼마나 쓸 수 있는지 제한한다. 모든 클라이언트에 호스트별 최대 본문 크기({@code max-body-size}, 압축 해제 후 기준)를 적용해,
+ * Content-Length가 넘으면 바로 거절하고 없으면 읽는 도중 넘는 순간 중단한다.
+ *
+ * <p>Jackson으로 바인딩하는 github/relboard 응답은 결국 힙에 모두 올라가므로, 이 상한이 응답 하나가 쓸 수 있는 힙의 상한이다.
+ */
+@Slf4j
+public class ResponseBodyPolicy {
+
+  private final HostLimitProperties hostLimitProperties;
+  private final MeterRegistry meterRegistry;
+
+  public ResponseBodyPolicy(HostLimitProperties hostLimitProperties, MeterRegistry meterRegistry) {
+    this.hostLimitProperties = hostLimitProperties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /** 클라이언트 이름(github, maven, npm, rss, relboard)별 인터셉터. 압축 해제 인터셉터보다 먼저(바깥에) 등록해야 한다. */
+  public ClientHttpRequestInterceptor interceptor(String client) {
+    return (request, body, execution) -> {
+      ClientHttpResponse response = execution.execute(request, body);
+      String host = request.getURI().getHost();
+      long maxBytes = hostLimitProperties.limitFor(host).getMaxBodySize().toBytes();
+      long contentLength = response.getHeaders().getContentLength();
+      if (maxBytes > 0 && contentLength > maxBytes) {
+        response.close();
+        throw rejected(client, host, maxBytes);
+      }
+      return new PolicyResponse(response, client, host, maxBytes);
+    };
+  }
+
+  private ResponseBodyTooLargeException rejected(String client, String host, long maxBytes) {
+    meterRegistry.counter("crawler.http.body.rejected", "client", client).increment();
+    log.warn("응답 본문이 최대 크기를 넘어 중단 client={} host={} maxBytes={}", client, host, maxBytes);
+    return new ResponseBodyTooLargeException(host, maxBytes);
+  }
+
+  private final class PolicyResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final String client;
+    private final String host;
+    private final long maxBytes;
+    private InputStream body;
+
+    private PolicyResponse(ClientHttpResponse delegate, String client, String host, long maxBytes) {
+      this.delegate = delegate;
+      this.client = client;
+      this.host = host;
+      this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body = new LimitedInputStream(delegate.getBody());
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+
+    /** 최대 본문 크기를 넘겨 읽으려 하면 예외를 던진다. */
+    private final class LimitedInputStream extends FilterInputStream {
+
+      private long count;
+
+      private LimitedInputStream(InputStream in) {
+        super(in);
+      }
+
+      @Override
+      public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+          count(1);
+        }
+        return value;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        int read = super.read(b, off, len);
+        if (read > 0) {
+          count(read);
+        }
+        return read;
+      }
+
+      @Override
+      public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count(skipped);
+        return skipped;
+      }
+
+      private void count(long bytes) throws IOException {
+        count += bytes;
+        if (maxBytes > 0 && count > maxBytes) {
+          throw rejected(client, host, maxBytes);
+        }
+      }
+    }
+  }
+}
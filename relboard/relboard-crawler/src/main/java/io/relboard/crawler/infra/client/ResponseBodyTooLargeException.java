@@ -0,0 +1,11 @@
+package io.relboard.crawler.infra.client;
+
+import java.io.IOException;
+
+/** 응답 본문이 호스트별 최대 크기({@code max-body-size})를 넘었다. RestClient는 이를 ResourceAccessException으로 감싼다. */
+public class ResponseBodyTooLargeException extends IOException {
+
+  public ResponseBodyTooLargeException(String host, long maxBytes) {
+    super("응답 본문이 최대 크기를 넘음 host=" + host + " maxBytes=" + maxBytes);
+  }
+}
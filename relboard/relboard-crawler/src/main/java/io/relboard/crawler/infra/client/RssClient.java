@@ -1,102 +1,77 @@
 package io.relboard.crawler.infra.client;
 
-import com.rometools.rome.feed.synd.SyndContent;
-import com.rometools.rome.feed.synd.SyndEntry;
-import com.rometools.rome.feed.synd.SyndFeed;
-import com.rometools.rome.io.SyndFeedInput;
-import java.io.StringReader;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.Date;
 import java.util.List;
-import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLStreamException;
 import lombok.extern.slf4j.Slf4j;
-import io.relboard.crawler.infra.util.HtmlToMarkdownUtil;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RssClient {
 
-  private final @Qualifier("rssRestClient") RestClient rssRestClient;
+  private final RestClient rssRestClient;
+  private final HostRequestLimiter hostRequestLimiter;
+  private final RssFeedParser feedParser = new RssFeedParser();
 
-  public List<RssEntry> fetchEntries(String feedUrl, int limit) {
+  public RssClient(
+      @Qualifier("rssRestClient") final RestClient rssRestClient,
+      final HostRequestLimiter hostRequestLimiter) {
+    this.rssRestClient = rssRestClient;
+    this.hostRequestLimiter = hostRequestLimiter;
+  }
+
+  /**
+   * 피드를 스트리밍으로 읽어 최신 항목부터 최대 {@code limit}개를 돌려준다. 이미 저장된 버전을 만나면 거기서 읽기를 멈추므로 결과에는 새 항목만 남는다. 본문은
+   * HTML 그대로다.
+   */
+  public ConditionalResult<List<RssEntry>> fetchEntries(
+      String feedUrl, int limit, HttpValidators validators, Predicate<String> isKnown) {
     if (feedUrl == null || feedUrl.isBlank()) {
-      return List.of();
+      return ConditionalResult.empty();
     }
+    HttpValidators requestValidators = validators != null ? validators : HttpValidators.NONE;
     try {
-      String xml = rssRestClient.get().uri(feedUrl).retrieve().body(String.class);
-      if (xml == null || xml.isBlank()) {
-        return List.of();
-      }
-      SyndFeedInput input = new SyndFeedInput();
-      SyndFeed feed = input.build(new StringReader(xml));
-      List<SyndEntry> entries =
-          Optional.ofNullable(feed.getEntries()).orElse(Collections.emptyList());
-      return entries.stream().limit(limit).map(this::toEntry).toList();
+      String host = UriComponentsBuilder.fromUriString(feedUrl).build().getHost();
+      return hostRequestLimiter.execute(
+          host,
+          () ->
+              rssRestClient
+                  .get()
+                  .uri(feedUrl)
+                  .headers(requestValidators::applyTo)
+                  .exchange(
+                      (req, res) -> {
+                        if (res.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                          return ConditionalResult.<List<RssEntry>>notModified(requestValidators);
+                        }
+                        if (res.getStatusCode().isError()) {
+                          log.warn(
+                              "RSS fetch failed url={} status={}", feedUrl, res.getStatusCode());
+                          return ConditionalResult.<List<RssEntry>>empty();
+                        }
+                        HttpValidators responseValidators = HttpValidators.from(res.getHeaders());
+                        try {
+                          return ConditionalResult.modified(
+                              feedParser.parse(res.getBody(), limit, isKnown), responseValidators);
+                        } catch (XMLStreamException ex) {
+                          throw new IllegalStateException("RSS 피드 파싱 실패", ex);
+                        }
+                      }));
     } catch (Exception ex) {
       log.warn("RSS fetch failed url={}", feedUrl, ex);
-      return List.of();
-    }
-  }
-
-  private RssEntry toEntry(SyndEntry entry) {
-    String title = entry.getTitle();
-    String version = normalizeVersion(title);
-    String link = entry.getLink();
-    String content = resolveContent(entry);
-    Instant publishedAt = resolvePublishedAt(entry);
-    return new RssEntry(version, title, content, publishedAt, link);
-  }
-
-  private String resolveContent(SyndEntry entry) {
-    String rawContent = null;
-    if (entry.getContents() != null && !entry.getContents().isEmpty()) {
-      rawContent =
-          entry.getContents().stream()
-              .map(SyndContent::getValue)
-              .filter(value -> value != null && !value.isBlank())
-              .reduce((left, right) -> left + " " + right)
-              .orElse(null);
-    } else if (entry.getDescription() != null) {
-      rawContent = entry.getDescription().getValue();
-    }
-    return HtmlToMarkdownUtil.convert(rawContent);
-  }
-
-  private Instant resolvePublishedAt(SyndEntry entry) {
-    Date published = entry.getPublishedDate();
-    if (published == null) {
-      published = entry.getUpdatedDate();
-    }
-    return published != null ? published.toInstant() : null;
-  }
-
-  private String normalizeVersion(String title) {
-    if (title == null) {
-      return null;
-    }
-    String trimmed = title.trim();
-    if (trimmed.isEmpty()) {
-      return null;
-    }
-    String normalized = trimmed;
-    if (normalized.toLowerCase().startsWith("release ")) {
-      normalized = normalized.substring(8).trim();
-    }
-    if (normalized.startsWith("v") && normalized.length() > 1) {
-      char next = normalized.charAt(1);
-      if (Character.isDigit(next)) {
-        normalized = normalized.substring(1);
-      }
+      return ConditionalResult.empty();
     }
-    return normalized.isBlank() ? null : normalized;
   }
 
+  /**
+   * @param htmlContent 피드 본문(HTML). 저장할 항목에만 Markdown으로 변환한다.
+   */
   public record RssEntry(
-      String version, String title, String content, Instant publishedAt, String link) {}
+      String version, String title, String htmlContent, Instant publishedAt, String link) {}
 }
@@ -0,0 +1,253 @@
+package io.relboard.crawler.infra.client;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * RSS(0.9x/1.0/2.0)와 Atom 피드를 StAX로 스트리밍 파싱한다. 항목을 문서 순서(최신순)로 읽다가 {@code limit}개를 채우거나 이미 저장된 버전을
+ * 만나면 나머지 문서는 읽지 않는다. 본문은 HTML 그대로 돌려주며 Markdown 변환은 저장할 항목에만 호출하는 쪽에서 한다. DTD와 외부 엔티티는 허용하지 않는다.
+ */
+public class RssFeedParser {
+
+  private static final Set<String> FEED_ROOTS = Set.of("rss", "RDF", "feed");
+  private static final Set<String> VOID_ELEMENTS = Set.of("br", "hr", "img", "input", "wbr");
+  private static final DateTimeFormatter RFC_822_ZONE_NAME =
+      DateTimeFormatter.ofPattern("[EEE, ]d MMM yyyy HH:mm[:ss] zzz", Locale.ENGLISH);
+
+  private final XMLInputFactory inputFactory;
+
+  public RssFeedParser() {
+    this.inputFactory = XMLInputFactory.newFactory();
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+  }
+
+  /**
+   * @param limit 최대 항목 수
+   * @param isKnown 이미 저장된 버전이면 참. 처음 만나는 지점에서 읽기를 멈춘다.
+   * @return 새 항목(문서 순서). 피드 형식이 아니면 null
+   */
+  public List<RssClient.RssEntry> parse(InputStream body, int limit, Predicate<String> isKnown)
+      throws XMLStreamException {
+    XMLStreamReader reader = inputFactory.createXMLStreamReader(body);
+    try {
+      List<RssClient.RssEntry> entries = new ArrayList<>();
+      boolean rootChecked = false;
+      while (entries.size() < limit && reader.hasNext()) {
+        if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+          continue;
+        }
+        String name = reader.getLocalName();
+        if (!rootChecked) {
+          if (!FEED_ROOTS.contains(name)) {
+            return null;
+          }
+          rootChecked = true;
+        } else if ("item".equals(name) || "entry".equals(name)) {
+          RssClient.RssEntry entry = readEntry(reader, "entry".equals(name));
+          if (entry.version() != null && isKnown.test(entry.version())) {
+            break;
+          }
+          entries.add(entry);
+        }
+      }
+      return rootChecked ? entries : null;
+    } finally {
+      reader.close();
+    }
+  }
+
+  private RssClient.RssEntry readEntry(XMLStreamReader reader, boolean atom)
+      throws XMLStreamException {
+    String title = null;
+    String link = null;
+    String content = null;
+    String description = null;
+    Instant published = null;
+    Instant updated = null;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        break;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        continue;
+      }
+      // 각 분기는 자식 요소의 END_ELEMENT까지 소비한다
+      switch (reader.getLocalName()) {
+        case "title" -> {
+          String value = readMarkup(reader).trim();
+          if (title == null) {
+            title = value;
+          }
+        }
+        case "link" -> {
+          String href = reader.getAttributeValue(null, "href");
+          String rel = reader.getAttributeValue(null, "rel");
+          String text = reader.getElementText().trim();
+          if (href != null) {
+            if (rel == null || "alternate".equals(rel)) {
+              link = href;
+            }
+          } else if (link == null && !text.isEmpty()) {
+            link = text;
+          }
+        }
+        case "encoded" -> {
+          // RSS의 content:encoded는 여러 개일 수 있어 이어 붙인다
+          content = join(content, readMarkup(reader));
+        }
+        case "content" -> {
+          if (atom) {
+            content = join(content, readMarkup(reader));
+          } else {
+            skipElement(reader);
+          }
+        }
+        case "description", "summary" -> description = readMarkup(reader);
+        case "pubDate", "published", "issued" -> published = parseDate(reader.getElementText());
+        case "date", "updated", "modified" -> updated = parseDate(reader.getElementText());
+        default -> skipElement(reader);
+      }
+    }
+    String html = content != null ? content : description;
+    return new RssClient.RssEntry(
+        normalizeVersion(title),
+        title,
+        html == null || html.isBlank() ? null : html,
+        published != null ? published : updated,
+        link);
+  }
+
+  /**
+   * 요소의 내용을 문자열로 읽는다. 이스케이프된 HTML(RSS, Atom type="html")은 그대로, 자식 요소로 들어온 XHTML(Atom type="xhtml")은
+   * 마크업으로 다시 만든다.
+   */
+  private static String readMarkup(XMLStreamReader reader) throws XMLStreamException {
+    StringBuilder markup = new StringBuilder();
+    int depth = 0;
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+          String text = reader.getText();
+          markup.append(depth == 0 ? text : escape(text));
+        }
+        case XMLStreamConstants.START_ELEMENT -> {
+          depth++;
+          markup.append('<').append(reader.getLocalName());
+          for (int i = 0; i < reader.getAttributeCount(); i++) {
+            markup
+                .append(' ')
+                .append(reader.getAttributeLocalName(i))
+                .append("=\"")
+                .append(escape(reader.getAttributeValue(i)))
+                .append('"');
+          }
+          markup.append('>');
+        }
+        case XMLStreamConstants.END_ELEMENT -> {
+          if (depth == 0) {
+            return markup.toString();
+          }
+          depth--;
+          if (!VOID_ELEMENTS.contains(reader.getLocalName())) {
+            markup.append("</").append(reader.getLocalName()).append('>');
+          }
+        }
+        default -> {}
+      }
+    }
+    return markup.toString();
+  }
+
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0 && reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  private static String join(String left, String right) {
+    if (right == null || right.isBlank()) {
+      return left;
+    }
+    return left == null ? right : left + " " + right;
+  }
+
+  private static String escape(String text) {
+    return text.replace("&", "&amp;")
+        .replace("<", "&lt;")
+        .replace(">", "&gt;")
+        .replace("\"", "&quot;");
+  }
+
+  /** Atom/dc:date는 ISO 8601, RSS pubDate는 RFC 822 형식이다. */
+  static Instant parseDate(String text) {
+    String value = text == null ? "" : text.trim();
+    if (value.isEmpty()) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(value).toInstant();
+    } catch (DateTimeParseException ignored) {
+      // 다음 형식 시도
+    }
+    try {
+      return LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant();
+    } catch (DateTimeParseException ignored) {
+      // 다음 형식 시도
+    }
+    try {
+      return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+    } catch (DateTimeParseException ignored) {
+      // 다음 형식 시도
+    }
+    try {
+      return ZonedDateTime.parse(value, RFC_822_ZONE_NAME).toInstant();
+    } catch (DateTimeParseException ignored) {
+      return null;
+    }
+  }
+
+  static String normalizeVersion(String title) {
+    if (title == null) {
+      return null;
+    }
+    String trimmed = title.trim();
+    if (trimmed.isEmpty()) {
+      return null;
+    }
+    String normalized = trimmed;
+    if (normalized.toLowerCase().startsWith("release ")) {
+      normalized = normalized.substring(8).trim();
+    }
+    if (normalized.startsWith("v") && normalized.length() > 1) {
+      char next = normalized.charAt(1);
+      if (Character.isDigit(next)) {
+        normalized = normalized.substring(1);
+      }
+    }
+    return normalized.isBlank() ? null : normalized;
+  }
+}
@@ -0,0 +1,125 @@
+package io.relboard.crawler.infra.content;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 릴리즈 본문을 UTF-8 바이트의 SHA-256으로 저장하는 로컬 콘텐츠 저장소. 같은 본문은 한 번만 저장되고 저장된 파일은 바뀌지 않는다. 파일은 {@code
+ * {directory}/{sha256 앞 2자}/{sha256}.md}에 두며, 임시 파일에 쓴 뒤 옮기므로 읽는 쪽은 완성된 파일만 본다.
+ *
+ * <p>같은 본문을 다시 저장하면 수정 시각을 갱신하므로, {@link #purgeOlderThan}은 마지막으로 참조된 지 오래된 본문만 지운다.
+ */
+public class ReleaseContentStore {
+
+  private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+  private final Path directory;
+
+  public ReleaseContentStore(Path directory) {
+    this.directory = directory;
+  }
+
+  public record StoredContent(String sha256, long size) {}
+
+  public StoredContent put(byte[] content) {
+    String sha256 = HexFormat.of().formatHex(sha256(content));
+    Path target = resolve(sha256);
+    if (Files.exists(target)) {
+      touch(target);
+      return new StoredContent(sha256, content.length);
+    }
+    try {
+      Files.createDirectories(target.getParent());
+      Path temp = Files.createTempFile(target.getParent(), sha256, ".tmp");
+      try {
+        Files.write(temp, content);
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+      } catch (FileAlreadyExistsException ex) {
+        // 다른 스레드가 같은 본문을 먼저 저장했다
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("릴리즈 본문 저장 실패 sha256=" + sha256, ex);
+    }
+    return new StoredContent(sha256, content.length);
+  }
+
+  public StoredContent put(String content) {
+    return put(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** 저장된 본문 파일. 형식이 맞지 않거나 없으면 empty */
+  public Optional<Path> find(String sha256) {
+    if (sha256 == null || !SHA256.matcher(sha256).matches()) {
+      return Optional.empty();
+    }
+    Path path = resolve(sha256);
+    return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+  }
+
+  /**
+   * 마지막 저장이 cutoff보다 오래된 본문과 남은 임시 파일을 지우고 지운 수를 돌려준다.
+   *
+   * <p>토픽에 아직 남아 있는 이벤트가 참조하는 본문인지는 보지 않는다. 토픽 보존 기간이 더 길면, 본문 보존 기간보다 오래된 이벤트를 다시 읽는 소비자는
+   * contentRef로 404를 받는다.
+   */
+  public int purgeOlderThan(Instant cutoff) {
+    if (!Files.isDirectory(directory)) {
+      return 0;
+    }
+    FileTime limit = FileTime.from(cutoff);
+    int deleted = 0;
+    try (Stream<Path> files = Files.walk(directory, 2)) {
+      for (Path path : files.filter(Files::isRegularFile).toList()) {
+        String name = path.getFileName().toString();
+        if (!name.endsWith(".md") && !name.endsWith(".tmp")) {
+          continue;
+        }
+        try {
+          if (Files.getLastModifiedTime(path).compareTo(limit) < 0 && Files.deleteIfExists(path)) {
+            deleted++;
+          }
+        } catch (IOException ex) {
+          // 다른 노드가 먼저 지웠거나 접근할 수 없는 파일은 다음 정리에서 다시 본다
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("릴리즈 본문 정리 실패 directory=" + directory, ex);
+    }
+    return deleted;
+  }
+
+  private static void touch(Path path) {
+    try {
+      Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+    } catch (IOException ex) {
+      // 보존 기간 연장만 못 할 뿐 본문은 그대로 있다
+    }
+  }
+
+  private Path resolve(String sha256) {
+    return directory.resolve(sha256.substring(0, 2)).resolve(sha256 + ".md");
+  }
+
+  private static byte[] sha256(byte[] content) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(content);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package io.relboard.crawler.infra.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka로 보낼 이벤트를 로컬 디스크에 순서대로 쌓아 두는 추가 전용 로그. 세그먼트 파일({@code spool-00000001.log} …)을 메모리 매핑해 기록하고,
+ * 어디까지 보냈는지는 {@code checkpoint} 파일에 남긴다. 프로세스가 재시작되면 체크포인트 이후의 레코드부터 다시 보낸다.
+ *
+ * <p>레코드 형식: {@code [length:int][crc32:int][topic][key][event bytes]}. 문자열은 2바이트 길이 + UTF-8.
+ * length가 0이거나 CRC가 맞지 않는 지점을 세그먼트의 끝으로 본다(기록 중 중단된 레코드는 버린다).
+ *
+ * <p>보낼 수 없는 레코드는 {@code quarantine.log}에 탭으로 구분한 한 줄(시각, topic, key, 사유, base64 event)로 옮겨 둔다.
+ *
+ * <p>스풀을 켜면 이벤트의 내구성은 이 노드의 디스크에 달린다. 노드나 볼륨이 죽으면 아직 보내지 않은 레코드는 같은 디렉터리로 다시 기동할 때까지 나가지 않고, 볼륨을
+ * 잃으면 사라진다. 다른 노드가 대신 보내지 않는다.
+ */
+@Slf4j
+public class EventSpool implements AutoCloseable {
+
+  private static final String CHECKPOINT_FILE = "checkpoint";
+  private static final String QUARANTINE_FILE = "quarantine.log";
+  private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+  private final Path directory;
+  private final long segmentSize;
+  private final boolean fsync;
+  private final TreeMap<Long, Segment> segments = new TreeMap<>();
+  private final AtomicLong pending = new AtomicLong();
+  private Segment active;
+
+  public EventSpool(Path directory, long segmentSize, boolean fsync) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.fsync = fsync;
+    try {
+      Files.createDirectories(directory);
+      recover();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("이벤트 스풀을 열 수 없음 directory=" + directory, ex);
+    }
+  }
+
+  /** 레코드를 추가한다. 반환 시점에 레코드는 세그먼트에 기록되어 있다(fsync 설정 시 디스크까지). */
+  public synchronized void append(String topic, String key, byte[] event) {
+    byte[] body = encode(topic, key, event);
+    int size = HEADER_BYTES + body.length;
+    try {
+      if (active == null || active.capacity() - active.writePosition < size) {
+        roll(size);
+      }
+      MappedByteBuffer buffer = active.buffer;
+      int position = active.writePosition;
+      CRC32 crc = new CRC32();
+      crc.update(body);
+      buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+      buffer.put(position + HEADER_BYTES, body);
+      // 길이를 마지막에 써서 중간에 끊긴 레코드는 length=0으로 남게 한다
+      buffer.putInt(position, body.length);
+      if (fsync) {
+        buffer.force(position, size);
+      }
+      active.writePosition += size;
+      pending.incrementAndGet();
+      notifyAll();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("이벤트 스풀 기록 실패", ex);
+    }
+  }
+
+  /** 체크포인트부터 최대 {@code max}개를 읽는다. 레코드가 없으면 {@code waitMillis}까지 새 레코드를 기다린다. */
+  public synchronized Batch read(Position from, int max, long waitMillis)
+      throws InterruptedException {
+    Batch batch = readAvailable(from, max);
+    if (batch.records().isEmpty() && waitMillis > 0) {
+      wait(waitMillis);
+      batch = readAvailable(from, max);
+    }
+    return batch;
+  }
+
+  private Batch readAvailable(Position from, int max) {
+    List<SpoolRecord> records = new ArrayList<>();
+    List<Position> ends = new ArrayList<>();
+    long segmentId = from.segment();
+    int position = from.position();
+    while (records.size() < max) {
+      Segment segment = segments.get(segmentId);
+      if (segment == null) {
+        Long next = segments.higherKey(segmentId);
+        if (next == null) {
+          break;
+        }
+        segmentId = next;
+        position = 0;
+        continue;
+      }
+      if (position >= segment.writePosition) {
+        Long next = segments.higherKey(segmentId);
+        if (next == null || segment == active) {
+          break;
+        }
+        segmentId = next;
+        position = 0;
+        continue;
+      }
+      ByteBuffer buffer = segment.buffer;
+      int length = buffer.getInt(position);
+      byte[] body = new byte[length];
+      buffer.get(position + HEADER_BYTES, body);
+      position += HEADER_BYTES + length;
+      records.add(decode(body));
+      ends.add(new Position(segmentId, position));
+    }
+    return new Batch(records, ends, new Position(segmentId, position));
+  }
+
+  /** {@code position} 이전 레코드를 모두 보냈다고 기록하고, 다 보낸 세그먼트 파일을 지운다. */
+  public synchronized void commit(Position position, int records) {
+    try {
+      Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+      Files.writeString(tmp, position.segment() + " " + position.position());
+      Files.move(
+          tmp,
+          directory.resolve(CHECKPOINT_FILE),
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("이벤트 스풀 체크포인트 기록 실패", ex);
+    }
+    pending.addAndGet(-records);
+    while (!segments.isEmpty() && segments.firstKey() < position.segment()) {
+      Segment drained = segments.pollFirstEntry().getValue();
+      try {
+        Files.deleteIfExists(drained.path);
+      } catch (IOException ex) {
+        log.warn("다 보낸 스풀 세그먼트 삭제 실패 path={}", drained.path, ex);
+      }
+    }
+  }
+
+  /** 다시 보내도 실패할 레코드를 격리 파일에 남긴다. 원본 바이트는 base64로 그대로 보존하므로 고친 뒤 다시 넣을 수 있다. */
+  public synchronized void quarantine(SpoolRecord record, String reason) {
+    String line =
+        String.join(
+                "\t",
+                Instant.now().toString(),
+                record.topic(),
+                record.key() != null ? record.key() : "",
+                reason.replaceAll("[\\t\\r\\n]", " "),
+                Base64.getEncoder().encodeToString(record.event()))
+            + "\n";
+    try {
+      List<StandardOpenOption> options =
+          new ArrayList<>(List.of(StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+      if (fsync) {
+        options.add(StandardOpenOption.DSYNC);
+      }
+      Files.writeString(
+          directory.resolve(QUARANTINE_FILE),
+          line,
+          StandardCharsets.UTF_8,
+          options.toArray(StandardOpenOption[]::new));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("이벤트 스풀 격리 기록 실패", ex);
+    }
+  }
+
+  public synchronized Position checkpoint() {
+    return readCheckpoint();
+  }
+
+  /** 아직 보내지 않은 레코드 수 */
+  public long pending() {
+    return pending.get();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (active != null) {
+      active.buffer.force();
+    }
+    notifyAll();
+  }
+
+  private void roll(int minSize) throws IOException {
+    long id = segments.isEmpty() ? 1L : segments.lastKey() + 1;
+    Segment segment = open(id, Math.max(segmentSize, minSize));
+    segments.put(id, segment);
+    active = segment;
+  }
+
+  private Segment open(long id, long size) throws IOException {
+    Path path = directory.resolve(String.format("spool-%08d.log", id));
+    long mapSize = Math.max(size, Files.exists(path) ? Files.size(path) : 0L);
+    if (mapSize > Integer.MAX_VALUE) {
+      throw new IOException("스풀 세그먼트가 너무 큼 path=" + path);
+    }
+    try (FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // 채널을 닫아도 매핑은 유지된다
+      return new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize));
+    }
+  }
+
+  private void recover() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path path : files.toList()) {
+        String name = path.getFileName().toString();
+        if (name.startsWith("spool-") && name.endsWith(".log")) {
+          long id = Long.parseLong(name.substring(6, name.length() - 4));
+          segments.put(id, open(id, Files.size(path)));
+        }
+      }
+    }
+    for (Segment segment : segments.values()) {
+      segment.writePosition = scanEnd(segment.buffer);
+    }
+    if (!segments.isEmpty()) {
+      active = segments.lastEntry().getValue();
+    }
+    Position checkpoint = readCheckpoint();
+    long unsent = 0;
+    for (var entry : segments.tailMap(checkpoint.segment(), true).entrySet()) {
+      int from = entry.getKey() == checkpoint.segment() ? checkpoint.position() : 0;
+      unsent += countRecords(entry.getValue().buffer, from, entry.getValue().writePosition);
+    }
+    pending.set(unsent);
+    if (unsent > 0) {
+      log.info("이벤트 스풀 복구 segments={} pending={}", segments.size(), unsent);
+    }
+  }
+
+  private static int scanEnd(MappedByteBuffer buffer) {
+    int position = 0;
+    while (position + HEADER_BYTES <= buffer.capacity()) {
+      int length = buffer.getInt(position);
+      if (length <= 0 || position + HEADER_BYTES + length > buffer.capacity()) {
+        break;
+      }
+      byte[] body = new byte[length];
+      buffer.get(position + HEADER_BYTES, body);
+      CRC32 crc = new CRC32();
+      crc.update(body);
+      if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+        log.warn("이벤트 스풀의 손상된 레코드 이후를 버림 position={}", position);
+        break;
+      }
+      position += HEADER_BYTES + length;
+    }
+    return position;
+  }
+
+  private static long countRecords(MappedByteBuffer buffer, int from, int end) {
+    long count = 0;
+    int position = from;
+    while (position < end) {
+      position += HEADER_BYTES + buffer.getInt(position);
+      count++;
+    }
+    return count;
+  }
+
+  private Position readCheckpoint() {
+    Path path = directory.resolve(CHECKPOINT_FILE);
+    try {
+      if (Files.exists(path)) {
+        String[] fields = Files.readString(path).trim().split(" ");
+        return new Position(Long.parseLong(fields[0]), Integer.parseInt(fields[1]));
+      }
+    } catch (IOException | RuntimeException ex) {
+      log.warn("이벤트 스풀 체크포인트를 읽을 수 없어 처음부터 보냄", ex);
+    }
+    return new Position(segments.isEmpty() ? 1L : segments.firstKey(), 0);
+  }
+
+  private static byte[] encode(String topic, String key, byte[] event) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(event.length + 128);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      writeString(out, topic);
+      writeString(out, key != null ? key : "");
+      out.write(event);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeShort(bytes.length);
+    out.write(bytes);
+  }
+
+  private static SpoolRecord decode(byte[] body) {
+    ByteBuffer buffer = ByteBuffer.wrap(body);
+    String topic = readUtf(buffer);
+    String key = readUtf(buffer);
+    byte[] event = new byte[buffer.remaining()];
+    buffer.get(event);
+    return new SpoolRecord(topic, key.isEmpty() ? null : key, event);
+  }
+
+  private static String readUtf(ByteBuffer buffer) {
+    int length = Short.toUnsignedInt(buffer.getShort());
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static final class Segment {
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+
+    private Segment(Path path, MappedByteBuffer buffer) {
+      this.path = path;
+      this.buffer = buffer;
+    }
+
+    private int capacity() {
+      return buffer.capacity();
+    }
+  }
+
+  public record Position(long segment, int position) {}
+
+  public record SpoolRecord(String topic, String key, byte[] event) {}
+
+  /**
+   * @param ends 각 레코드 바로 다음 위치. 앞쪽 일부만 보냈으면 마지막으로 보낸 레코드의 위치를 {@link #commit}에 넘긴다.
+   * @param next 읽은 마지막 레코드 다음 위치. 전송이 끝나면 {@link #commit}에 넘긴다.
+   */
+  public record Batch(List<SpoolRecord> records, List<Position> ends, Position next) {}
+}
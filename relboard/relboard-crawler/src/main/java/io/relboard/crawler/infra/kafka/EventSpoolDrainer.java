@@ -0,0 +1,154 @@
+package io.relboard.crawler.infra.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link EventSpool}의 레코드를 기록된 순서대로 Kafka로 보낸다. 한 번에 drain-batch-size개를 보내고 응답을 기록 순서대로 확인해, 처음 실패한
+ * 레코드 바로 앞까지만 체크포인트를 옮긴다. 재시도는 실패한 레코드부터 다시 보내므로, 그 뒤에서 이미 성공한 레코드는 중복되지만 재전송이 실패 지점부터 순서대로 이어져 같은
+ * 키의 마지막 순서는 기록 순서와 같다. 전달은 at-least-once이며 소비자는 eventId로 중복을 걸러야 한다.
+ *
+ * <p>읽을 수 없는 레코드는 다시 보내도 같으므로 {@link EventSpool#quarantine}으로 격리 파일에 옮기고 건너뛴다.
+ *
+ * <p>스풀은 이벤트의 내구성을 이 노드의 디스크로 옮긴다. 노드가 죽으면 보내지 못한 레코드는 그 노드가 같은 스풀 디렉터리로 다시 뜰 때까지 묶여 있다.
+ */
+@Slf4j
+public class EventSpoolDrainer implements AutoCloseable {
+
+  private static final long IDLE_WAIT_MILLIS = 500L;
+
+  private final EventSpool spool;
+  private final ReleaseEventTemplates releaseEventTemplates;
+  private final ObjectMapper objectMapper;
+  private final KafkaProperties.Spool properties;
+  private final Counter drained;
+  private final Counter retried;
+  private final Counter quarantined;
+  private volatile boolean running;
+  private Thread thread;
+
+  public EventSpoolDrainer(
+      EventSpool spool,
+      ReleaseEventTemplates releaseEventTemplates,
+      ObjectMapper objectMapper,
+      KafkaProperties.Spool properties,
+      MeterRegistry meterRegistry) {
+    this.spool = spool;
+    this.releaseEventTemplates = releaseEventTemplates;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.drained = Counter.builder("crawler.kafka.spool.drained").register(meterRegistry);
+    this.retried = Counter.builder("crawler.kafka.spool.retried").register(meterRegistry);
+    this.quarantined =
+        Counter.builder("crawler.kafka.spool.quarantined")
+            .description("읽을 수 없어 quarantine.log로 옮긴 레코드 수")
+            .register(meterRegistry);
+  }
+
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    thread = Thread.ofPlatform().name("kafka-spool-drainer").daemon().start(this::drainLoop);
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    Thread current;
+    synchronized (this) {
+      running = false;
+      current = thread;
+    }
+    if (current != null) {
+      current.interrupt();
+      current.join(TimeUnit.SECONDS.toMillis(10));
+    }
+  }
+
+  private void drainLoop() {
+    EventSpool.Position position = spool.checkpoint();
+    Duration backoff = properties.getRetryBackoff();
+    while (running) {
+      try {
+        EventSpool.Batch batch =
+            spool.read(position, Math.max(1, properties.getDrainBatchSize()), IDLE_WAIT_MILLIS);
+        if (batch.records().isEmpty()) {
+          continue;
+        }
+        int sent = send(batch.records());
+        if (sent > 0) {
+          EventSpool.Position end = batch.ends().get(sent - 1);
+          spool.commit(end, sent);
+          drained.increment(sent);
+          position = end;
+        }
+        if (sent == batch.records().size()) {
+          backoff = properties.getRetryBackoff();
+        } else {
+          // 실패한 레코드부터 다시 읽어 보낸다
+          retried.increment();
+          Thread.sleep(backoff);
+          backoff = min(backoff.multipliedBy(2), properties.getMaxRetryBackoff());
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception ex) {
+        log.error("이벤트 스풀 전송 루프 오류", ex);
+      }
+    }
+  }
+
+  /** 묶음을 모두 보내고, 기록 순서로 앞에서부터 연속해서 성공한(격리 포함) 레코드 수를 돌려준다. */
+  private int send(List<EventSpool.SpoolRecord> records) throws InterruptedException {
+    List<CompletableFuture<?>> futures = new ArrayList<>(records.size());
+    for (EventSpool.SpoolRecord record : records) {
+      ReleaseEvent event;
+      try {
+        event = objectMapper.readValue(record.event(), ReleaseEvent.class);
+      } catch (Exception ex) {
+        // 읽을 수 없는 레코드는 다시 보내도 같으므로 격리하고 건너뛴다. 앞 레코드가 실패해 재시도하면 한 번 더 격리될 수 있다
+        log.error("스풀 레코드를 읽을 수 없어 격리 topic={} key={}", record.topic(), record.key(), ex);
+        spool.quarantine(record, ex.toString());
+        quarantined.increment();
+        futures.add(CompletableFuture.completedFuture(null));
+        continue;
+      }
+      try {
+        futures.add(releaseEventTemplates.send(record.topic(), record.key(), event));
+      } catch (RuntimeException ex) {
+        futures.add(CompletableFuture.failedFuture(ex));
+      }
+    }
+    long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException ex) {
+        throw ex;
+      } catch (Exception ex) {
+        log.warn(
+            "스풀 이벤트 전송 실패, 실패한 레코드부터 재시도 records={} sent={} pending={} error={}",
+            records.size(),
+            i,
+            spool.pending(),
+            ex.toString());
+        return i;
+      }
+    }
+    return futures.size();
+  }
+
+  private static Duration min(Duration left, Duration right) {
+    return left.compareTo(right) <= 0 ? left : right;
+  }
+}
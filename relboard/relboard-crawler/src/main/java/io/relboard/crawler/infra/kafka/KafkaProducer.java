@@ -1,24 +1,53 @@
 package io.relboard.crawler.infra.kafka;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.relboard.crawler.release.event.ReleaseEvent;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KafkaProducer {
 
-  private final KafkaTemplate<String, ReleaseEvent> kafkaTemplate;
-  private final KafkaProperties kafkaProperties;
+  private final ReleaseEventTemplates releaseEventTemplates;
+  private final ObjectMapper objectMapper;
+  private final EventSpool eventSpool;
 
-  public void sendReleaseEvent(ReleaseEvent event) {
-    log.info(
-        "Kafka로 릴리즈 이벤트 전송: {} - {}", event.payload().techStackName(), event.payload().version());
+  public KafkaProducer(
+      final ReleaseEventTemplates releaseEventTemplates,
+      final ObjectMapper objectMapper,
+      final ObjectProvider<EventSpool> eventSpool) {
+    this.releaseEventTemplates = releaseEventTemplates;
+    this.objectMapper = objectMapper;
+    this.eventSpool = eventSpool.getIfAvailable();
+  }
 
-    // techStackName를 키로 사용하여 파티션 순서 보장
-    kafkaTemplate.send(kafkaProperties.getTopic(), event.payload().techStackName(), event);
+  /**
+   * 릴리즈 이벤트를 비동기로 전송한다. 결과는 반환한 future로 확인한다. 트랜잭션 안에서 직접 부르지 말고 release_event_outbox를 거친다.
+   *
+   * <p>스풀({@code kafka.spool.enabled})을 쓰면 로컬 스풀에 기록하는 것으로 완료되고(결과는 null), 브로커 전송은 {@link
+   * EventSpoolDrainer}가 한다.
+   *
+   * @param key techStackName. 같은 기술 스택의 이벤트가 같은 파티션으로 가 순서가 유지된다.
+   */
+  public CompletableFuture<SendResult<String, ReleaseEvent>> send(
+      String topic, String key, ReleaseEvent event) {
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "Kafka로 릴리즈 이벤트 전송: {} - {}", event.payload().techStackName(), event.payload().version());
+    }
+    try {
+      if (eventSpool != null) {
+        eventSpool.append(topic, key, objectMapper.writeValueAsBytes(event));
+        return CompletableFuture.completedFuture(null);
+      }
+      return releaseEventTemplates.send(topic, key, event);
+    } catch (Exception ex) {
+      // 메타데이터 대기 시간 초과(max.block.ms)나 직렬화 오류는 send에서 바로 던져진다
+      return CompletableFuture.failedFuture(ex);
+    }
   }
 }
@@ -1,18 +1,25 @@
 package io.relboard.crawler.infra.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.relboard.crawler.infra.content.ReleaseContentStore;
 import io.relboard.crawler.release.event.ReleaseEvent;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 @Configuration
 @RequiredArgsConstructor
@@ -21,19 +28,108 @@ public class KafkaProducerConfig {
   private final KafkaProperties kafkaProperties;
   private final ObjectMapper objectMapper;
 
+  private static final String DEFAULT_PRODUCER = "default";
+  private static final String PRODUCER_TAG = "producer";
+
+  @Bean
+  public ProducerFactory<String, ReleaseEvent> producerFactory(MeterRegistry meterRegistry) {
+    return producerFactory(DEFAULT_PRODUCER, kafkaProperties.producerConfigs(null), meterRegistry);
+  }
+
   @Bean
-  public ProducerFactory<String, ReleaseEvent> producerFactory() {
-    Map<String, Object> configProps = new HashMap<>();
-    configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaProperties.getBootstrapServers());
+  public KafkaTemplate<String, ReleaseEvent> kafkaTemplate(
+      ProducerFactory<String, ReleaseEvent> producerFactory) {
+    return new KafkaTemplate<>(producerFactory);
+  }
+
+  @Bean(destroyMethod = "close")
+  public ReleaseEventTemplates releaseEventTemplates(
+      KafkaTemplate<String, ReleaseEvent> kafkaTemplate, MeterRegistry meterRegistry) {
+    Map<String, KafkaTemplate<String, ReleaseEvent>> topicTemplates = new HashMap<>();
+    for (String topic : kafkaProperties.getProducer().getTopics().keySet()) {
+      topicTemplates.put(
+          topic,
+          new KafkaTemplate<>(
+              producerFactory(topic, kafkaProperties.producerConfigs(topic), meterRegistry)));
+    }
+    return new ReleaseEventTemplates(kafkaTemplate, topicTemplates);
+  }
+
+  /**
+   * 프로듀서 지표(kafka.producer.*: record.size.avg, batch.size.avg, compression.rate.avg,
+   * request.latency.avg 등)를 producer 태그로 구분해 등록하고, 배치가 batch.size를 얼마나 채우는지
+   * crawler.kafka.producer.batch.fill로 함께 내보낸다.
+   */
+  private DefaultKafkaProducerFactory<String, ReleaseEvent> producerFactory(
+      String name, Map<String, Object> configs, MeterRegistry meterRegistry) {
+    Map<String, Object> configProps = new HashMap<>(configs);
     configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-    configProps.put(ProducerConfig.RETRIES_CONFIG, kafkaProperties.getRetries());
-    return new DefaultKafkaProducerFactory<>(
-        configProps, new StringSerializer(), new JsonSerializer<>(objectMapper));
+    configProps.put(ProducerConfig.CLIENT_ID_CONFIG, "relboard-crawler-" + name);
+    DefaultKafkaProducerFactory<String, ReleaseEvent> factory =
+        new DefaultKafkaProducerFactory<>(
+            configProps,
+            new StringSerializer(),
+            new ReleaseEventSerializer(objectMapper, kafkaProperties.getProducer().getFormat()));
+    factory.addListener(
+        new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of(PRODUCER_TAG, name))));
+
+    double batchSize =
+        Double.parseDouble(configProps.get(ProducerConfig.BATCH_SIZE_CONFIG).toString());
+    Gauge.builder(
+            "crawler.kafka.producer.batch.fill",
+            meterRegistry,
+            registry -> batchFill(registry, name, batchSize))
+        .description("평균 배치 크기 / batch.size")
+        .tag(PRODUCER_TAG, name)
+        .register(meterRegistry);
+    return factory;
+  }
+
+  private static double batchFill(MeterRegistry registry, String name, double batchSize) {
+    Gauge average = registry.find("kafka.producer.batch.size.avg").tag(PRODUCER_TAG, name).gauge();
+    if (average == null || batchSize <= 0) {
+      return Double.NaN;
+    }
+    return average.value() / batchSize;
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "kafka.spool", name = "enabled", havingValue = "true")
+  public EventSpool eventSpool(MeterRegistry meterRegistry) {
+    KafkaProperties.Spool spool = kafkaProperties.getSpool();
+    EventSpool eventSpool =
+        new EventSpool(
+            Path.of(spool.getDirectory()), spool.getSegmentSize().toBytes(), spool.isFsync());
+    Gauge.builder("crawler.kafka.spool.pending", eventSpool, EventSpool::pending)
+        .description("스풀에 남아 있는 미전송 이벤트 수")
+        .register(meterRegistry);
+    return eventSpool;
+  }
+
+  @Bean(initMethod = "start", destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "kafka.spool", name = "enabled", havingValue = "true")
+  public EventSpoolDrainer eventSpoolDrainer(
+      EventSpool eventSpool,
+      ReleaseEventTemplates releaseEventTemplates,
+      MeterRegistry meterRegistry) {
+    return new EventSpoolDrainer(
+        eventSpool, releaseEventTemplates, objectMapper, kafkaProperties.getSpool(), meterRegistry);
   }
 
   @Bean
-  public KafkaTemplate<String, ReleaseEvent> kafkaTemplate() {
-    return new KafkaTemplate<>(producerFactory());
+  public ReleaseContentStore releaseContentStore() {
+    KafkaProperties.ClaimCheck claimCheck = kafkaProperties.getClaimCheck();
+    if (claimCheck.isEnabled()) {
+      if (!claimCheck.isShared()) {
+        throw new IllegalStateException(
+            "kafka.claim-check.enabled=true에는 모든 노드가 공유하는 directory가 필요하다. 공유 볼륨이면"
+                + " kafka.claim-check.shared=true로 설정");
+      }
+      if (claimCheck.getAccessToken() == null || claimCheck.getAccessToken().isBlank()) {
+        throw new IllegalStateException(
+            "kafka.claim-check.enabled=true에는 본문 API 토큰(kafka.claim-check.access-token)이 필요하다");
+      }
+    }
+    return new ReleaseContentStore(Path.of(claimCheck.getDirectory()));
   }
 }
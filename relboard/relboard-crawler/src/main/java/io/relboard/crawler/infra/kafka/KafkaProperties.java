@@ -1,9 +1,15 @@
 package io.relboard.crawler.infra.kafka;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 @Getter
 @Setter
@@ -11,6 +17,172 @@ import org.springframework.context.annotation.Configuration;
 @ConfigurationProperties(prefix = "kafka")
 public class KafkaProperties {
   private String bootstrapServers;
-  private int retries;
   private String topic;
+  private Producer producer = new Producer();
+  private Outbox outbox = new Outbox();
+  private Spool spool = new Spool();
+  private ClaimCheck claimCheck = new ClaimCheck();
+
+  /**
+   * 토픽의 프로듀서 설정. 기본 프로필 위에 {@code producer.properties}, 그 위에 {@code producer.topics[topic]}을 덮어쓴다.
+   *
+   * @param topic null이면 기본 프로필
+   */
+  public Map<String, Object> producerConfigs(String topic) {
+    Map<String, Object> configs = new LinkedHashMap<>();
+    configs.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configs.put(ProducerConfig.ACKS_CONFIG, producer.acks);
+    configs.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producer.enableIdempotence);
+    configs.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.compressionType);
+    configs.put(ProducerConfig.LINGER_MS_CONFIG, producer.linger.toMillis());
+    configs.put(ProducerConfig.BATCH_SIZE_CONFIG, (int) producer.batchSize.toBytes());
+    configs.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, producer.maxInFlightRequests);
+    configs.put(ProducerConfig.BUFFER_MEMORY_CONFIG, producer.bufferMemory.toBytes());
+    configs.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, (int) producer.maxRequestSize.toBytes());
+    configs.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, (int) producer.requestTimeout.toMillis());
+    configs.put(
+        ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, (int) producer.deliveryTimeout.toMillis());
+    configs.putAll(producer.properties);
+    if (topic != null) {
+      configs.putAll(producer.topics.getOrDefault(topic, Map.of()));
+    }
+    return configs;
+  }
+
+  /** 처리량 위주 프로듀서 프로필. 릴리즈 이벤트는 본문 두 개(원문/번역)를 실어 크므로 압축과 배치 효과가 크다. */
+  @Getter
+  @Setter
+  public static class Producer {
+    /** 이벤트 인코딩(json, smile, cbor). content-type 헤더로 소비자에게 알린다. */
+    private ReleaseEventFormat format = ReleaseEventFormat.JSON;
+
+    /** 멱등 프로듀서는 all이어야 한다 */
+    private String acks = "all";
+
+    /** 재시도로 생기는 중복/순서 뒤바뀜을 막는다. max-in-flight-requests가 5 이하여야 한다. */
+    private boolean enableIdempotence = true;
+
+    /** none, gzip, snappy, lz4, zstd */
+    private String compressionType = "zstd";
+
+    /** 배치를 채우려고 기다리는 최대 시간 */
+    private Duration linger = Duration.ofMillis(20);
+
+    /** 파티션별 배치 크기 상한 */
+    private DataSize batchSize = DataSize.ofKilobytes(256);
+
+    private int maxInFlightRequests = 5;
+
+    /** 전송 대기 버퍼. 다 차면 send가 max.block.ms까지 막힌다. */
+    private DataSize bufferMemory = DataSize.ofMegabytes(64);
+
+    /** 압축 전 요청 크기 상한. 긴 릴리즈 노트 하나가 기본값(1MB)을 넘을 수 있다. */
+    private DataSize maxRequestSize = DataSize.ofMegabytes(4);
+
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 재시도를 포함한 전송 제한 시간. retries는 설정하지 않고(Kafka 기본값 MAX_INT) 이 시간으로만 재시도를 끊는다. outbox
+     * claim-timeout과 spool send-timeout보다 짧아야 한다.
+     */
+    private Duration deliveryTimeout = Duration.ofMinutes(2);
+
+    /** 위에 없는 프로듀서 설정(Kafka 설정 키 그대로) */
+    private Map<String, String> properties = new HashMap<>();
+
+    /** 토픽별로 덮어쓸 프로듀서 설정(Kafka 설정 키 그대로). 여기 있는 토픽은 전용 프로듀서를 쓴다. */
+    private Map<String, Map<String, String>> topics = new HashMap<>();
+  }
+
+  /** release_event_outbox 릴레이 설정 */
+  @Getter
+  @Setter
+  public static class Outbox {
+    /** 릴레이를 켠다. 응답 아카이브 REPLAY처럼 이벤트를 내보내면 안 되는 실행에서는 끈다. */
+    private boolean relayEnabled = true;
+
+    /** 한 번에 선점하는 행 수 */
+    private int batchSize = 100;
+
+    /** 한 번에 선점하는 같은 메시지 키의 연속된 행 수. 키 하나의 처리량은 릴레이 주기마다 이 값까지다. */
+    private int maxPerKey = 20;
+
+    /** 브로커 응답을 기다리는 최대 전송 수. 다 차면 응답이 올 때까지 새로 선점하지 않는다. */
+    private int maxInFlight = 500;
+
+    /** 선점한 행을 다른 노드가 다시 가져가지 않는 시간. delivery.timeout.ms보다 길어야 한다. */
+    private Duration claimTimeout = Duration.ofMinutes(5);
+
+    /** 전송 실패 후 첫 재시도 대기 시간. 실패할 때마다 두 배로 늘린다. */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+
+    private Duration maxRetryBackoff = Duration.ofMinutes(10);
+
+    /** 이 횟수만큼 전송에 실패한 행은 dead-letter 테이블로 옮긴다. 같은 키의 다음 행이 영원히 막히지 않게 한다. */
+    private int maxAttempts = 10;
+  }
+
+  /** 브로커 장애 동안 이벤트를 로컬 디스크에 쌓아 두는 스풀 설정 */
+  @Getter
+  @Setter
+  public static class Spool {
+    /**
+     * 켜면 전송은 스풀 기록으로 끝나고, 별도 스레드가 기록 순서대로 Kafka로 보낸다. 디렉터리는 재시작 후에도 남는 볼륨이어야 한다. 이 노드가 죽으면 아직 보내지
+     * 않은 이벤트는 다시 기동할 때까지 묶여 있다.
+     */
+    private boolean enabled = false;
+
+    private String directory = "./data/kafka-spool";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** 기록할 때마다 디스크까지 flush 한다 */
+    private boolean fsync = true;
+
+    /** 한 번에 보내고 응답을 기다리는 레코드 수 */
+    private int drainBatchSize = 500;
+
+    /** 묶음 전체 응답을 기다리는 시간. delivery.timeout.ms보다 조금 길게 둔다. */
+    private Duration sendTimeout = Duration.ofMinutes(3);
+
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /** 브로커 복구를 알아채는 최대 지연 */
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+  }
+
+  /** 큰 본문을 이벤트 밖 콘텐츠 저장소에 두고 참조만 보내는 클레임 체크 설정 */
+  @Getter
+  @Setter
+  public static class ClaimCheck {
+    /** 켜기 전에 소비자가 contentRef/contentKoRef를 읽을 수 있어야 한다 */
+    private boolean enabled = false;
+
+    /** content/contentKo 각각의 UTF-8 크기가 이 값을 넘으면 저장소로 옮긴다 */
+    private DataSize threshold = DataSize.ofKilobytes(256);
+
+    /** 콘텐츠 저장소 디렉터리. 모든 크롤러 노드가 함께 마운트한 공유 볼륨(NFS/EFS 등)이어야 한다. */
+    private String directory = "./data/release-content";
+
+    /**
+     * directory가 모든 노드의 공유 볼륨임을 확인했다는 표시. 참조 URL은 baseUrl 하나이므로 노드 로컬 디스크면 다른 노드가 저장한 본문을 찾지 못한다.
+     * 켜지 않으면 enabled=true로 시작할 수 없다.
+     */
+    private boolean shared = false;
+
+    /** 참조 URL 앞부분. 소비자가 접근할 수 있는 크롤러 주소(노드 앞의 로드 밸런서) */
+    private String baseUrl = "http://localhost:8080";
+
+    /**
+     * 본문 API 접근 토큰. 소비자는 {@code Authorization: Bearer <token>}으로 보낸다. 비어 있으면 enabled=true로 시작할 수
+     * 없다.
+     */
+    private String accessToken = "";
+
+    /**
+     * 마지막으로 저장(참조)된 뒤 이 기간이 지난 본문은 지운다. 소비자가 이벤트를 처리하는 최대 지연보다 넉넉히 길어야 한다. 토픽 보존 기간보다 짧으면 그보다 오래된
+     * 이벤트를 다시 읽는 소비자는 contentRef로 404를 받으므로, 재처리가 필요하면 토픽 보존 기간 이상으로 둔다.
+     */
+    private Duration retention = Duration.ofDays(30);
+  }
 }
@@ -0,0 +1,20 @@
+package io.relboard.crawler.infra.kafka;
+
+/** Kafka로 보내는 릴리즈 이벤트의 인코딩. 모두 같은 Jackson 매핑을 쓰므로 필드 구성은 같고 바이트 표현만 다르다. */
+public enum ReleaseEventFormat {
+  JSON("application/json"),
+  /** 필드 이름과 짧은 문자열 값을 역참조로 한 번만 쓰는 Jackson 바이너리 JSON */
+  SMILE("application/x-jackson-smile"),
+  /** RFC 8949. Jackson이 없는 소비자도 표준 라이브러리로 읽을 수 있다. */
+  CBOR("application/cbor");
+
+  private final String contentType;
+
+  ReleaseEventFormat(String contentType) {
+    this.contentType = contentType;
+  }
+
+  public String contentType() {
+    return contentType;
+  }
+}
@@ -0,0 +1,101 @@
+package io.relboard.crawler.infra.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+
+/**
+ * {@link ReleaseEvent}를 설정한 형식으로 직렬화하고, 소비자가 형식과 스키마를 구분할 수 있도록 {@code content-type}과 {@code
+ * relboard-schema-version}, {@code relboard-event-type} 헤더를 붙인다.
+ *
+ * <p>바이너리 형식도 스키마 없는 Jackson 매핑이므로 필드 추가는 호환되고(소비자는 모르는 필드를 무시), 필드 제거·이름 변경·타입 변경처럼 깨지는 변경만 {@link
+ * ReleaseEvent#SCHEMA_VERSION}을 올린다.
+ */
+public class ReleaseEventSerializer implements Serializer<ReleaseEvent> {
+
+  public static final String CONTENT_TYPE_HEADER = "content-type";
+  public static final String SCHEMA_VERSION_HEADER = "relboard-schema-version";
+  public static final String EVENT_TYPE_HEADER = "relboard-event-type";
+
+  private static final byte[] TYPE_ID =
+      ReleaseEvent.class.getName().getBytes(StandardCharsets.UTF_8);
+
+  private final ReleaseEventFormat format;
+  private final ObjectMapper mapper;
+  private final byte[] contentType;
+  private final byte[] schemaVersion;
+  private final byte[] legacySchemaVersion;
+
+  public ReleaseEventSerializer(ObjectMapper objectMapper, ReleaseEventFormat format) {
+    this.format = format;
+    this.mapper =
+        switch (format) {
+          case JSON -> objectMapper;
+          case SMILE ->
+              objectMapper.copyWith(
+                  SmileFactory.builder()
+                      .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                      .build());
+          case CBOR -> objectMapper.copyWith(new CBORFactory());
+        };
+    this.contentType = format.contentType().getBytes(StandardCharsets.UTF_8);
+    this.schemaVersion =
+        Integer.toString(ReleaseEvent.SCHEMA_VERSION).getBytes(StandardCharsets.UTF_8);
+    this.legacySchemaVersion =
+        Integer.toString(ReleaseEvent.LEGACY_SCHEMA_VERSION).getBytes(StandardCharsets.UTF_8);
+  }
+
+  public ReleaseEventFormat format() {
+    return format;
+  }
+
+  /** 같은 형식으로 읽을 때 쓰는 매퍼 */
+  public ObjectMapper mapper() {
+    return mapper;
+  }
+
+  @Override
+  public byte[] serialize(String topic, ReleaseEvent data) {
+    if (data == null) {
+      return null;
+    }
+    try {
+      return mapper.writeValueAsBytes(data);
+    } catch (JsonProcessingException ex) {
+      throw new SerializationException("릴리즈 이벤트 직렬화 실패 format=" + format, ex);
+    }
+  }
+
+  @Override
+  public byte[] serialize(String topic, Headers headers, ReleaseEvent data) {
+    headers.remove(CONTENT_TYPE_HEADER).add(CONTENT_TYPE_HEADER, contentType);
+    // 아웃박스/스풀에 남아 있던 스키마 1 이벤트(type 없음)는 본문대로 1로 표시한다
+    headers
+        .remove(SCHEMA_VERSION_HEADER)
+        .add(
+            SCHEMA_VERSION_HEADER,
+            data != null && data.schemaVersion() == ReleaseEvent.LEGACY_SCHEMA_VERSION
+                ? legacySchemaVersion
+                : schemaVersion);
+    headers.remove(EVENT_TYPE_HEADER);
+    if (data != null && data.type() != null) {
+      // 소비자가 본문을 읽지 않고 종류별로 거를 수 있게 한다
+      headers.add(EVENT_TYPE_HEADER, data.type().name().getBytes(StandardCharsets.UTF_8));
+    }
+    if (format == ReleaseEventFormat.JSON) {
+      // 기존 JsonSerializer와 같이 타입 헤더를 붙여 JsonDeserializer 소비자가 그대로 읽게 한다
+      headers
+          .remove(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME)
+          .add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, TYPE_ID);
+    }
+    return serialize(topic, data);
+  }
+}
@@ -0,0 +1,45 @@
+package io.relboard.crawler.infra.kafka;
+
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+/**
+ * 토픽별 프로듀서 설정({@code kafka.producer.topics})이 있는 토픽은 전용 템플릿으로, 나머지는 기본 템플릿으로 보낸다. 프로듀서 설정은 인스턴스 단위라
+ * 토픽마다 다른 배치/압축을 쓰려면 프로듀서를 나눠야 한다.
+ */
+public class ReleaseEventTemplates implements AutoCloseable {
+
+  private final KafkaTemplate<String, ReleaseEvent> defaultTemplate;
+  private final Map<String, KafkaTemplate<String, ReleaseEvent>> topicTemplates;
+
+  public ReleaseEventTemplates(
+      KafkaTemplate<String, ReleaseEvent> defaultTemplate,
+      Map<String, KafkaTemplate<String, ReleaseEvent>> topicTemplates) {
+    this.defaultTemplate = defaultTemplate;
+    this.topicTemplates = Map.copyOf(topicTemplates);
+  }
+
+  public KafkaTemplate<String, ReleaseEvent> forTopic(String topic) {
+    return topicTemplates.getOrDefault(topic, defaultTemplate);
+  }
+
+  public CompletableFuture<SendResult<String, ReleaseEvent>> send(
+      String topic, String key, ReleaseEvent event) {
+    return forTopic(topic).send(topic, key, event);
+  }
+
+  /** 토픽 전용 프로듀서를 닫는다. 기본 템플릿은 빈으로 등록된 팩토리가 닫는다. */
+  @Override
+  public void close() {
+    topicTemplates
+        .values()
+        .forEach(
+            template -> {
+              template.flush();
+              template.getProducerFactory().reset();
+            });
+  }
+}
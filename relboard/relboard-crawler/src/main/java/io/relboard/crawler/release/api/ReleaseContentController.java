@@ -0,0 +1,79 @@
+package io.relboard.crawler.release.api;
+
+import io.relboard.crawler.infra.content.ReleaseContentStore;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 클레임 체크로 이벤트 밖에 둔 릴리즈 본문을 sha256으로 내준다. 본문은 내용 주소라 바뀌지 않으므로 오래 캐시해도 되지만, 공개 캐시에는 두지 않는다. 클레임 체크를 켠
+ * 경우에만 열리며 {@code Authorization: Bearer <kafka.claim-check.access-token>}이 있어야 한다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "kafka.claim-check", name = "enabled", havingValue = "true")
+public class ReleaseContentController {
+
+  static final String PATH = "/api/release-contents/";
+
+  private static final MediaType MARKDOWN =
+      new MediaType("text", "markdown", StandardCharsets.UTF_8);
+
+  private static final String BEARER = "Bearer ";
+
+  private final ReleaseContentStore releaseContentStore;
+  private final KafkaProperties kafkaProperties;
+
+  public static String contentUrl(String baseUrl, String sha256) {
+    String base = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    return base + PATH + sha256;
+  }
+
+  @GetMapping(PATH + "{sha256}")
+  public ResponseEntity<Resource> get(
+      @PathVariable String sha256,
+      @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+    if (!authorized(authorization)) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+    return releaseContentStore
+        .find(sha256)
+        .<ResponseEntity<Resource>>map(
+            path ->
+                ResponseEntity.ok()
+                    .contentType(MARKDOWN)
+                    .eTag(sha256)
+                    .cacheControl(
+                        CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+                    .body(new FileSystemResource(path)))
+        .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  private boolean authorized(String authorization) {
+    String token = kafkaProperties.getClaimCheck().getAccessToken();
+    if (token == null
+        || token.isBlank()
+        || authorization == null
+        || !authorization.startsWith(BEARER)) {
+      return false;
+    }
+    // 토큰 비교 시간으로 일치한 길이를 알 수 없게 한다
+    return MessageDigest.isEqual(
+        authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8),
+        token.getBytes(StandardCharsets.UTF_8));
+  }
+}
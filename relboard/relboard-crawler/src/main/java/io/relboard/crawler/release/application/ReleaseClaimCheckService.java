@@ -0,0 +1,83 @@
+package io.relboard.crawler.release.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.infra.content.ReleaseContentStore;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.api.ReleaseContentController;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 클레임 체크. content/contentKo가 threshold보다 크면 본문을 {@link ReleaseContentStore}에 저장하고 이벤트에는 참조(sha256,
+ * 크기, URL)만 남긴다. 토픽 메시지 크기가 가장 긴 릴리즈 노트에 좌우되지 않게 한다. 본문은 {@link ReleaseContentController}가 내준다.
+ */
+@Slf4j
+@Service
+public class ReleaseClaimCheckService {
+
+  private final ReleaseContentStore releaseContentStore;
+  private final KafkaProperties.ClaimCheck properties;
+  private final Counter offloaded;
+
+  public ReleaseClaimCheckService(
+      ReleaseContentStore releaseContentStore,
+      KafkaProperties kafkaProperties,
+      MeterRegistry meterRegistry) {
+    this.releaseContentStore = releaseContentStore;
+    this.properties = kafkaProperties.getClaimCheck();
+    this.offloaded =
+        Counter.builder("crawler.kafka.claim-check.offloaded")
+            .description("콘텐츠 저장소로 옮긴 본문 수")
+            .register(meterRegistry);
+  }
+
+  public ReleaseEvent apply(ReleaseEvent event) {
+    if (!properties.isEnabled()) {
+      return event;
+    }
+    ReleaseEvent.Payload payload = event.payload();
+    ReleaseEvent.ContentRef contentRef = offload(payload.content());
+    ReleaseEvent.ContentRef contentKoRef = offload(payload.contentKo());
+    if (contentRef == null && contentKoRef == null) {
+      return event;
+    }
+    if (log.isDebugEnabled()) {
+      log.debug(
+          "릴리즈 본문 클레임 체크: {} - {} content={} contentKo={}",
+          payload.techStackName(),
+          payload.version(),
+          contentRef,
+          contentKoRef);
+    }
+    return new ReleaseEvent(
+        event.eventId(),
+        event.type(),
+        event.occurredAt(),
+        payload.withContents(
+            contentRef != null ? null : payload.content(),
+            contentRef,
+            contentKoRef != null ? null : payload.contentKo(),
+            contentKoRef));
+  }
+
+  private ReleaseEvent.ContentRef offload(String content) {
+    long threshold = properties.getThreshold().toBytes();
+    // UTF-8은 char당 최대 3바이트이므로 짧은 본문은 인코딩하지 않고 넘긴다
+    if (content == null || (long) content.length() * 3 <= threshold) {
+      return null;
+    }
+    byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length <= threshold) {
+      return null;
+    }
+    ReleaseContentStore.StoredContent stored = releaseContentStore.put(bytes);
+    offloaded.increment();
+    return new ReleaseEvent.ContentRef(
+        stored.sha256(),
+        stored.size(),
+        ReleaseContentController.contentUrl(properties.getBaseUrl(), stored.sha256()));
+  }
+}
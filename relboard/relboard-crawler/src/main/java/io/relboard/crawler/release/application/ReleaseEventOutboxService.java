@@ -0,0 +1,93 @@
+package io.relboard.crawler.release.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import io.relboard.crawler.release.repository.ReleaseEventOutboxRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 트랜잭션 아웃박스. 릴리즈 이벤트는 릴리즈를 저장하는 트랜잭션 안에서 release_event_outbox에 적재하고, 커밋된 뒤 {@code
+ * ReleaseEventRelay}가 꺼내 Kafka로 보낸다. 롤백된 행의 이벤트는 나가지 않고, 커밋된 이벤트는 전송에 성공할 때까지 남아 있다(at-least-once).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReleaseEventOutboxService {
+
+  private final ReleaseEventOutboxRepository releaseEventOutboxRepository;
+  private final KafkaProperties kafkaProperties;
+  private final ObjectMapper objectMapper;
+  private final ReleaseClaimCheckService releaseClaimCheckService;
+
+  /**
+   * 호출한 쪽의 트랜잭션에 참여한다. 트랜잭션 밖에서 부르면 예외가 난다. 큰 본문은 적재 전에 클레임 체크로 옮겨 아웃박스 행과 스풀도 작게 유지한다. 롤백되면 저장한
+   * 본문만 남는데, 내용 주소라 다시 저장될 때 그대로 쓰인다.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void enqueue(List<ReleaseEvent> events) {
+    List<ReleaseEventOutboxRepository.OutboxRow> rows =
+        events.stream()
+            .map(
+                event ->
+                    new ReleaseEventOutboxRepository.OutboxRow(
+                        event.eventId(),
+                        kafkaProperties.getTopic(),
+                        event.payload().techStackName(),
+                        serialize(releaseClaimCheckService.apply(event))))
+            .toList();
+    releaseEventOutboxRepository.insert(rows);
+  }
+
+  /** 전송할 차례가 된 행을 선점한다. 선점한 행은 claim-timeout 동안 다른 노드가 가져가지 않는다. */
+  @Transactional
+  public List<ReleaseEventOutboxRepository.OutboxMessage> claim(int limit) {
+    Instant now = Instant.now();
+    List<ReleaseEventOutboxRepository.OutboxMessage> messages =
+        releaseEventOutboxRepository.lockDue(
+            now, limit, Math.max(1, kafkaProperties.getOutbox().getMaxPerKey()));
+    if (!messages.isEmpty()) {
+      releaseEventOutboxRepository.claim(
+          messages.stream().map(ReleaseEventOutboxRepository.OutboxMessage::id).toList(),
+          now.plus(kafkaProperties.getOutbox().getClaimTimeout()));
+    }
+    return messages;
+  }
+
+  @Transactional
+  public void complete(Collection<Long> ids) {
+    releaseEventOutboxRepository.delete(ids);
+  }
+
+  @Transactional
+  public void reschedule(List<ReleaseEventOutboxRepository.RetryRow> rows) {
+    releaseEventOutboxRepository.reschedule(rows);
+  }
+
+  /** 재시도해도 보낼 수 없는 행을 dead-letter 테이블로 옮긴다. */
+  @Transactional
+  public void park(List<ReleaseEventOutboxRepository.ParkRow> rows) {
+    releaseEventOutboxRepository.park(rows);
+  }
+
+  public ReleaseEvent deserialize(ReleaseEventOutboxRepository.OutboxMessage message)
+      throws JsonProcessingException {
+    return objectMapper.readValue(message.payload(), ReleaseEvent.class);
+  }
+
+  private String serialize(ReleaseEvent event) {
+    try {
+      return objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("릴리즈 이벤트 직렬화 실패 eventId=" + event.eventId(), ex);
+    }
+  }
+}
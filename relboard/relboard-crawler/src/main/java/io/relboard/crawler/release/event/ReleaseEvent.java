@@ -1,9 +1,46 @@
 package io.relboard.crawler.release.event;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 import java.util.List;
 
-public record ReleaseEvent(String eventId, LocalDateTime occurredAt, Payload payload) {
+/**
+ * 릴리즈 파이프라인 이벤트. 단계마다 새로 생긴 필드만 보내고, 소비자는 (techStackName, version)을 키로 부분 갱신한다. 값이 없는 필드는 직렬화하지
+ * 않으며, 빠진 필드는 "바뀌지 않음"을 뜻한다.
+ *
+ * @param type 스키마 1에서 적재된 이벤트(아웃박스/스풀에 남아 있던 것)는 null이며 모든 필드를 담고 있다.
+ */
+public record ReleaseEvent(String eventId, Type type, LocalDateTime occurredAt, Payload payload) {
+  /**
+   * 소비자가 깨지는 변경을 구분하도록 relboard-schema-version 헤더로 보낸다. 필드 추가만으로는 올리지 않는다.
+   *
+   * <p>2: 이벤트 종류(type) 도입. RELEASE_ENRICHED는 원문 필드를 반복하지 않는다.
+   */
+  public static final int SCHEMA_VERSION = 2;
+
+  /** type 없이 적재된 스키마 1 이벤트의 버전 */
+  public static final int LEGACY_SCHEMA_VERSION = 1;
+
+  public enum Type {
+    /** 크롤링으로 릴리즈를 처음 저장했다. 원문 필드(title, content, publishedAt, sourceUrl, tags)를 담는다. */
+    RELEASE_CREATED,
+    /**
+     * 번역/인사이트가 생겼다. 릴리즈 키와 새 필드(contentKo, shortSummary, insights, migrationGuide,
+     * technicalKeywords)만 담는다.
+     *
+     * <p>같은 기술 스택의 이벤트는 같은 메시지 키로 아웃박스를 거치고, 아웃박스는 키마다 적재 순서대로 하나씩 보내므로 보통 RELEASE_CREATED 뒤에 도착한다.
+     * 다만 CREATED가 dead-letter로 빠졌거나 스풀 재전송으로 순서가 섞이면 먼저 올 수 있으므로, 소비자는 릴리즈가 없을 때 키만으로 행을
+     * 만들어(upsert) 보강 필드를 보관하고 CREATED가 오면 원문 필드를 채워야 한다.
+     */
+    RELEASE_ENRICHED
+  }
+
+  /** relboard-schema-version 헤더 값. type이 없는 이벤트는 스키마 1로 적재된 것이다. */
+  public int schemaVersion() {
+    return type == null ? LEGACY_SCHEMA_VERSION : SCHEMA_VERSION;
+  }
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   public record Payload(
       String techStackName,
       String version,
@@ -16,7 +53,90 @@ public record ReleaseEvent(String eventId, LocalDateTime occurredAt, Payload pay
       List<String> technicalKeywords,
       LocalDateTime publishedAt,
       String sourceUrl,
-      List<Tag> tags) {}
+      List<Tag> tags,
+      ContentRef contentRef,
+      ContentRef contentKoRef) {
+
+    public Payload(
+        String techStackName,
+        String version,
+        String title,
+        String content,
+        String contentKo,
+        String shortSummary,
+        List<Insight> insights,
+        MigrationGuide migrationGuide,
+        List<String> technicalKeywords,
+        LocalDateTime publishedAt,
+        String sourceUrl,
+        List<Tag> tags) {
+      this(
+          techStackName,
+          version,
+          title,
+          content,
+          contentKo,
+          shortSummary,
+          insights,
+          migrationGuide,
+          technicalKeywords,
+          publishedAt,
+          sourceUrl,
+          tags,
+          null,
+          null);
+    }
+
+    /** RELEASE_ENRICHED 페이로드. 원문 필드는 비워 두고 키와 번역 결과만 담는다. */
+    public static Payload enrichment(
+        String techStackName,
+        String version,
+        String contentKo,
+        String shortSummary,
+        List<Insight> insights,
+        MigrationGuide migrationGuide,
+        List<String> technicalKeywords) {
+      return new Payload(
+          techStackName,
+          version,
+          null,
+          null,
+          contentKo,
+          shortSummary,
+          insights,
+          migrationGuide,
+          technicalKeywords,
+          null,
+          null,
+          null);
+    }
+
+    /** 본문을 바꾼 사본. 클레임 체크로 넘긴 본문은 null, 참조는 *Ref에 둔다. */
+    public Payload withContents(
+        String content, ContentRef contentRef, String contentKo, ContentRef contentKoRef) {
+      return new Payload(
+          techStackName,
+          version,
+          title,
+          content,
+          contentKo,
+          shortSummary,
+          insights,
+          migrationGuide,
+          technicalKeywords,
+          publishedAt,
+          sourceUrl,
+          tags,
+          contentRef,
+          contentKoRef);
+    }
+  }
+
+  /**
+   * 클레임 체크로 이벤트 밖에 둔 본문의 참조. 본문은 {@code url}에서 받고, 받은 UTF-8 바이트의 SHA-256이 {@code sha256}과 같은지 확인할 수
+   * 있다.
+   */
+  public record ContentRef(String sha256, long size, String url) {}
 
   public record Tag(String type, String reason) {}
 
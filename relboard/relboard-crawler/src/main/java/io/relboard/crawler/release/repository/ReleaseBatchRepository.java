@@ -0,0 +1,97 @@
+package io.relboard.crawler.release.repository;
+
+import io.relboard.crawler.common.UtcTimestamps;
+import io.relboard.crawler.release.domain.ReleaseRecord;
+import io.relboard.crawler.release.domain.ReleaseTagType;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * release_record / release_tag 대량 저장용 JDBC 배치 저장소. IDENTITY 키 전략에서는 Hibernate가 insert를 배치로 묶지 못하므로
+ * 크롤링 쓰기 경로는 이 저장소를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReleaseBatchRepository {
+
+  public static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_RECORD_SQL =
+      "INSERT INTO release_record"
+          + " (tech_stack_id, version, title, content, published_at, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TAG_SQL =
+      "INSERT INTO release_tag (release_id, tag_type, created_at, updated_at) VALUES (?, ?, ?, ?)";
+  private static final String SELECT_IDS_SQL =
+      "SELECT id, version FROM release_record"
+          + " WHERE tech_stack_id = :techStackId AND version IN (:versions)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  /** 릴리즈를 배치로 저장하고 version → id 맵을 돌려준다. */
+  public Map<String, Long> insertReleaseRecords(Long techStackId, List<ReleaseRecord> records) {
+    if (records.isEmpty()) {
+      return Map.of();
+    }
+    Instant now = Instant.now();
+    jdbcTemplate.batchUpdate(
+        INSERT_RECORD_SQL,
+        records,
+        BATCH_SIZE,
+        (ps, record) -> {
+          ps.setLong(1, techStackId);
+          ps.setString(2, record.getVersion());
+          ps.setString(3, record.getTitle());
+          if (record.getContent() != null) {
+            ps.setString(4, record.getContent());
+          } else {
+            ps.setNull(4, Types.LONGVARCHAR);
+          }
+          UtcTimestamps.set(ps, 5, record.getPublishedAt());
+          UtcTimestamps.set(ps, 6, now);
+          UtcTimestamps.set(ps, 7, now);
+        });
+
+    Map<String, Long> ids = new HashMap<>();
+    List<String> versions = records.stream().map(ReleaseRecord::getVersion).toList();
+    for (int from = 0; from < versions.size(); from += BATCH_SIZE) {
+      List<String> chunk = versions.subList(from, Math.min(versions.size(), from + BATCH_SIZE));
+      namedParameterJdbcTemplate.query(
+          SELECT_IDS_SQL,
+          new MapSqlParameterSource()
+              .addValue("techStackId", techStackId)
+              .addValue("versions", chunk),
+          (RowCallbackHandler) rs -> ids.put(rs.getString("version"), rs.getLong("id")));
+    }
+    return ids;
+  }
+
+  public void insertReleaseTags(List<TagRow> tags) {
+    if (tags.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    jdbcTemplate.batchUpdate(
+        INSERT_TAG_SQL,
+        tags,
+        BATCH_SIZE,
+        (ps, tag) -> {
+          ps.setLong(1, tag.releaseId());
+          ps.setString(2, tag.tagType().name());
+          UtcTimestamps.set(ps, 3, now);
+          UtcTimestamps.set(ps, 4, now);
+        });
+  }
+
+  public record TagRow(Long releaseId, ReleaseTagType tagType) {}
+}
@@ -0,0 +1,205 @@
+package io.relboard.crawler.release.repository;
+
+import io.relboard.crawler.common.UtcTimestamps;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * release_event_outbox JDBC 저장소. 쓰기 트랜잭션 안에서 이벤트를 적재하고, 릴레이가 커밋된 행만 꺼내 Kafka로 보낸다. 같은 메시지 키에서는 가장
+ * 앞(id가 가장 작은) 행을 잠근 노드만 그 키의 행을 id 순서대로 이어서 선점하므로, 앞선 행이 전송 중이거나 재시도를 기다리는 동안 다른 노드가 뒤의 행을 먼저 보내지
+ * 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReleaseEventOutboxRepository {
+
+  private static final String INSERT_SQL =
+      "INSERT INTO release_event_outbox"
+          + " (event_id, topic, message_key, payload, attempts, next_attempt_at, created_at)"
+          + " VALUES (?, ?, ?, ?, 0, ?, ?)";
+  private static final String LOCK_DUE_SQL =
+      "SELECT id, event_id, topic, message_key, payload, attempts FROM release_event_outbox o"
+          + " WHERE next_attempt_at <= ?"
+          + " AND NOT EXISTS (SELECT 1 FROM release_event_outbox o2"
+          + " WHERE o2.message_key = o.message_key AND o2.id < o.id)"
+          + " ORDER BY next_attempt_at, id"
+          + " LIMIT ?"
+          + " FOR UPDATE SKIP LOCKED";
+  // 키의 맨 앞 행부터 perKey개까지. 맨 앞 행의 잠금이 키 단위 잠금 역할을 하므로 뒤따르는 행은 잠그지 않는다
+  private static final String FOLLOWERS_SQL =
+      "SELECT id, event_id, topic, message_key, payload, attempts, due FROM ("
+          + "SELECT id, event_id, topic, message_key, payload, attempts,"
+          + " CASE WHEN next_attempt_at <= :now THEN 1 ELSE 0 END AS due,"
+          + " ROW_NUMBER() OVER (PARTITION BY message_key ORDER BY id) AS rn"
+          + " FROM release_event_outbox WHERE message_key IN (:keys)) t"
+          + " WHERE rn <= :perKey ORDER BY message_key, id";
+  private static final String CLAIM_SQL =
+      "UPDATE release_event_outbox SET next_attempt_at = :claimUntil WHERE id IN (:ids)";
+  private static final String DELETE_SQL = "DELETE FROM release_event_outbox WHERE id IN (:ids)";
+  private static final String RESCHEDULE_SQL =
+      "UPDATE release_event_outbox SET attempts = ?, next_attempt_at = ?, last_error = ?"
+          + " WHERE id = ?";
+
+  private static final String PARK_SQL =
+      "INSERT INTO release_event_outbox_dead_letter"
+          + " (id, event_id, topic, message_key, payload, attempts, last_error, created_at, parked_at)"
+          + " SELECT id, event_id, topic, message_key, payload, ?, ?, created_at, ?"
+          + " FROM release_event_outbox WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+  public void insert(List<OutboxRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        rows,
+        ReleaseBatchRepository.BATCH_SIZE,
+        (ps, row) -> {
+          ps.setString(1, row.eventId());
+          ps.setString(2, row.topic());
+          ps.setString(3, row.messageKey());
+          ps.setString(4, row.payload());
+          UtcTimestamps.set(ps, 5, now);
+          UtcTimestamps.set(ps, 6, now);
+        });
+  }
+
+  /**
+   * 전송할 차례가 된 행을 다른 노드와 겹치지 않게 잠근다. 키마다 맨 앞 행을 잠그고, 그 뒤로 이미 전송 시각이 된 행을 id 순서대로 끊기지 않는 만큼 키당 {@code
+   * perKey}개까지 붙인다. 전체는 {@code limit}개를 넘지 않으며, 같은 트랜잭션에서 {@link #claim}을 호출해야 한다.
+   */
+  public List<OutboxMessage> lockDue(Instant now, int limit, int perKey) {
+    List<OutboxMessage> heads =
+        jdbcTemplate.query(
+            LOCK_DUE_SQL,
+            ps -> {
+              UtcTimestamps.set(ps, 1, now);
+              ps.setInt(2, limit);
+            },
+            (rs, rowNum) -> toMessage(rs));
+    if (heads.isEmpty() || perKey <= 1 || heads.size() >= limit) {
+      return heads;
+    }
+
+    Map<String, Long> headIds = new HashMap<>();
+    for (OutboxMessage head : heads) {
+      headIds.put(head.messageKey(), head.id());
+    }
+    List<OutboxMessage> followers = new ArrayList<>();
+    Set<String> stopped = new HashSet<>();
+    namedParameterJdbcTemplate.query(
+        FOLLOWERS_SQL,
+        new MapSqlParameterSource()
+            .addValue("now", UtcTimestamps.toUtcDateTime(now))
+            .addValue("keys", headIds.keySet())
+            .addValue("perKey", perKey),
+        rs -> {
+          String key = rs.getString("message_key");
+          long id = rs.getLong("id");
+          if (id == headIds.get(key) || stopped.contains(key)) {
+            return;
+          }
+          // 재시도를 기다리는 행에서 멈춰야 그 뒤의 행이 먼저 나가지 않는다
+          if (rs.getInt("due") == 0) {
+            stopped.add(key);
+            return;
+          }
+          followers.add(toMessage(rs));
+        });
+
+    List<OutboxMessage> messages = new ArrayList<>(heads);
+    for (OutboxMessage follower : followers) {
+      if (messages.size() >= limit) {
+        break;
+      }
+      messages.add(follower);
+    }
+    return messages;
+  }
+
+  public void claim(Collection<Long> ids, Instant claimUntil) {
+    namedParameterJdbcTemplate.update(
+        CLAIM_SQL,
+        new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("claimUntil", UtcTimestamps.toUtcDateTime(claimUntil)));
+  }
+
+  public void delete(Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    namedParameterJdbcTemplate.update(DELETE_SQL, new MapSqlParameterSource("ids", ids));
+  }
+
+  public void reschedule(List<RetryRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(
+        RESCHEDULE_SQL,
+        rows,
+        ReleaseBatchRepository.BATCH_SIZE,
+        (ps, row) -> {
+          ps.setInt(1, row.attempts());
+          UtcTimestamps.set(ps, 2, row.nextAttemptAt());
+          ps.setString(3, row.lastError());
+          ps.setLong(4, row.id());
+        });
+  }
+
+  /** 더 보낼 수 없는 행을 release_event_outbox_dead_letter로 옮긴다. 같은 키의 다음 행은 이후 선점할 수 있다. */
+  public void park(List<ParkRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    jdbcTemplate.batchUpdate(
+        PARK_SQL,
+        rows,
+        ReleaseBatchRepository.BATCH_SIZE,
+        (ps, row) -> {
+          ps.setInt(1, row.attempts());
+          ps.setString(2, row.lastError());
+          UtcTimestamps.set(ps, 3, now);
+          ps.setLong(4, row.id());
+        });
+    delete(rows.stream().map(ParkRow::id).toList());
+  }
+
+  private static OutboxMessage toMessage(ResultSet rs) throws SQLException {
+    return new OutboxMessage(
+        rs.getLong("id"),
+        rs.getString("event_id"),
+        rs.getString("topic"),
+        rs.getString("message_key"),
+        rs.getString("payload"),
+        rs.getInt("attempts"));
+  }
+
+  public record OutboxRow(String eventId, String topic, String messageKey, String payload) {}
+
+  public record OutboxMessage(
+      Long id, String eventId, String topic, String messageKey, String payload, int attempts) {}
+
+  public record RetryRow(Long id, int attempts, Instant nextAttemptAt, String lastError) {}
+
+  public record ParkRow(Long id, int attempts, String lastError) {}
+}
@@ -1,10 +1,45 @@
 package io.relboard.crawler.release.repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 import io.relboard.crawler.release.domain.ReleaseRecord;
-import io.relboard.crawler.techstack.domain.TechStack;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ReleaseRecordRepository extends JpaRepository<ReleaseRecord, Long> {
 
-  boolean existsByTechStackAndVersion(TechStack techStack, String version);
+  @Query(
+      "select r.version from ReleaseRecord r"
+          + " where r.techStack.id = :techStackId and r.version in :versions")
+  List<String> findExistingVersions(
+      @Param("techStackId") Long techStackId, @Param("versions") Collection<String> versions);
+
+  /**
+   * 전체 (기술 스택 id, 버전)을 한 행씩 읽는다. fetch size {@link Integer#MIN_VALUE}는 MySQL Connector/J에 결과를 힙에 모두
+   * 버퍼링하지 말고 스트리밍하라는 신호다. 스칼라 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않는다. 스트림을 닫기 전까지 같은 커넥션으로 다른 쿼리를 보낼 수 없으므로
+   * 읽는 동안 다른 저장소를 호출하지 않는다.
+   */
+  @QueryHints({
+    @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+    @QueryHint(name = HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HINT_CACHEABLE, value = "false")
+  })
+  @Query("select r.techStack.id, r.version from ReleaseRecord r")
+  Stream<Object[]> streamVersionKeys();
+
+  @Query(
+      "select r.publishedAt from ReleaseRecord r"
+          + " where r.techStack.id = :techStackId and r.publishedAt is not null"
+          + " order by r.publishedAt desc")
+  List<Instant> findRecentPublishedAt(@Param("techStackId") Long techStackId, Pageable pageable);
 }
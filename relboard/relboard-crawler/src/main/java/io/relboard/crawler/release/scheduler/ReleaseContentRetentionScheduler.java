@@ -0,0 +1,53 @@
+package io.relboard.crawler.release.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.infra.content.ReleaseContentStore;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클레임 체크 본문 중 {@code kafka.claim-check.retention}보다 오래 참조되지 않은 것을 지운다. 저장소는 공유 볼륨이므로 여러 노드가 함께 돌아도
+ * 지울 파일이 겹칠 뿐 결과는 같다.
+ *
+ * <p>지운 본문을 참조하는 이벤트가 토픽에 남아 있을 수 있으므로, 그런 이벤트를 다시 읽는 소비자는 본문 API에서 404를 받는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka.claim-check", name = "enabled", havingValue = "true")
+public class ReleaseContentRetentionScheduler {
+
+  private final ReleaseContentStore releaseContentStore;
+  private final KafkaProperties.ClaimCheck properties;
+  private final Counter purged;
+
+  public ReleaseContentRetentionScheduler(
+      final ReleaseContentStore releaseContentStore,
+      final KafkaProperties kafkaProperties,
+      final MeterRegistry meterRegistry) {
+    this.releaseContentStore = releaseContentStore;
+    this.properties = kafkaProperties.getClaimCheck();
+    this.purged =
+        Counter.builder("crawler.kafka.claim-check.purged")
+            .description("보존 기간이 지나 지운 본문 수")
+            .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${kafka.claim-check.cleanup-interval-ms:3600000}")
+  public void purge() {
+    try {
+      int deleted =
+          releaseContentStore.purgeOlderThan(Instant.now().minus(properties.getRetention()));
+      purged.increment(deleted);
+      if (deleted > 0) {
+        log.info("보존 기간이 지난 릴리즈 본문 삭제 count={}", deleted);
+      }
+    } catch (Exception ex) {
+      log.warn("릴리즈 본문 정리 실패, 다음 주기에 재시도", ex);
+    }
+  }
+}
@@ -0,0 +1,253 @@
+package io.relboard.crawler.release.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.relboard.crawler.infra.kafka.KafkaProducer;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.application.ReleaseEventOutboxService;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import io.relboard.crawler.release.repository.ReleaseEventOutboxRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * release_event_outbox를 Kafka로 내보낸다. 전송은 비동기로 하고 브로커 응답은 완료 콜백이 큐에 모아 두었다가 다음 tick에서 한꺼번에 반영한다(성공은
+ * 삭제, 실패는 지수 백오프로 재시도 예약). 응답을 기다리는 전송 수는 {@code kafka.outbox.max-in-flight}로 제한하므로 브로커가 느려져도 크롤링
+ * 쓰기 경로는 영향을 받지 않는다.
+ *
+ * <p>같은 메시지 키의 행은 한 노드가 id 순서대로 {@code kafka.outbox.max-per-key}개까지 함께 선점해 순서대로 보내고, 키 단위로 모든 응답이 온
+ * 뒤 반영한다. 중간 행이 실패하면 그 행과 뒤의 행을 모두 같은 시각으로 재시도 예약하므로, 뒤의 행이 이미 브로커에 들어갔더라도 다시 보내져 키 안의 마지막 순서는 적재
+ * 순서와 같다(중복은 at-least-once로 허용한다). 역직렬화에 실패했거나 브로커가 되돌릴 수 없게 거부한 행, {@code
+ * kafka.outbox.max-attempts}를 넘긴 행은 dead-letter 테이블로 옮기고({@code crawler.outbox.parked}) 같은 키의 다음 행을
+ * 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "kafka.outbox",
+    name = "relay-enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class ReleaseEventRelay {
+
+  private static final int MAX_ERROR_LENGTH = 500;
+
+  private final ReleaseEventOutboxService releaseEventOutboxService;
+  private final KafkaProducer kafkaProducer;
+  private final KafkaProperties.Outbox properties;
+  private final Semaphore window;
+  private final Queue<KeyBatch> completions = new ConcurrentLinkedQueue<>();
+  private final Counter sent;
+  private final Counter failed;
+  private final Counter parked;
+
+  public ReleaseEventRelay(
+      final ReleaseEventOutboxService releaseEventOutboxService,
+      final KafkaProducer kafkaProducer,
+      final KafkaProperties kafkaProperties,
+      final MeterRegistry meterRegistry) {
+    this.releaseEventOutboxService = releaseEventOutboxService;
+    this.kafkaProducer = kafkaProducer;
+    this.properties = kafkaProperties.getOutbox();
+    int maxInFlight = Math.max(1, properties.getMaxInFlight());
+    this.window = new Semaphore(maxInFlight);
+    this.sent = Counter.builder("crawler.outbox.sent").register(meterRegistry);
+    this.failed = Counter.builder("crawler.outbox.failed").register(meterRegistry);
+    this.parked =
+        Counter.builder("crawler.outbox.parked")
+            .description("dead-letter 테이블로 옮긴 이벤트 수. 0보다 크면 확인이 필요하다")
+            .register(meterRegistry);
+    Gauge.builder("crawler.outbox.in-flight", window, w -> maxInFlight - w.availablePermits())
+        .description("브로커 응답을 기다리는 이벤트 수")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${kafka.outbox.relay-interval-ms:1000}")
+  public void run() {
+    try {
+      settle();
+      int batchSize = Math.max(1, properties.getBatchSize());
+      int claimed;
+      do {
+        int limit = Math.min(batchSize, window.availablePermits());
+        if (limit == 0) {
+          return;
+        }
+        List<ReleaseEventOutboxRepository.OutboxMessage> messages =
+            releaseEventOutboxService.claim(limit);
+        Map<String, List<ReleaseEventOutboxRepository.OutboxMessage>> byKey = new LinkedHashMap<>();
+        for (ReleaseEventOutboxRepository.OutboxMessage message : messages) {
+          byKey.computeIfAbsent(message.messageKey(), key -> new ArrayList<>()).add(message);
+        }
+        for (List<ReleaseEventOutboxRepository.OutboxMessage> keyMessages : byKey.values()) {
+          keyMessages.sort(Comparator.comparing(ReleaseEventOutboxRepository.OutboxMessage::id));
+          KeyBatch batch = new KeyBatch(keyMessages);
+          for (int i = 0; i < keyMessages.size(); i++) {
+            send(batch, i);
+          }
+        }
+        claimed = messages.size();
+      } while (claimed == batchSize);
+    } catch (Exception ex) {
+      log.warn("릴리즈 이벤트 릴레이 실패, 다음 tick에서 재시도", ex);
+    }
+  }
+
+  private void send(KeyBatch batch, int index) {
+    ReleaseEventOutboxRepository.OutboxMessage message = batch.messages().get(index);
+    window.acquireUninterruptibly();
+    ReleaseEvent event;
+    try {
+      event = releaseEventOutboxService.deserialize(message);
+    } catch (Exception ex) {
+      window.release();
+      batch.complete(index, ex);
+      return;
+    }
+    kafkaProducer
+        .send(message.topic(), message.messageKey(), event)
+        .whenComplete(
+            (result, ex) -> {
+              window.release();
+              batch.complete(index, ex);
+            });
+  }
+
+  /** 완료 콜백이 모아 둔 키 단위 결과를 DB에 반영한다. */
+  void settle() {
+    List<Long> succeeded = new ArrayList<>();
+    List<ReleaseEventOutboxRepository.RetryRow> retries = new ArrayList<>();
+    List<ReleaseEventOutboxRepository.ParkRow> parks = new ArrayList<>();
+    int failures = 0;
+    Instant now = Instant.now();
+    KeyBatch batch;
+    while ((batch = completions.poll()) != null) {
+      // 재시도할 행이 나오면 같은 키의 뒤 행은 결과와 상관없이 그 행과 함께 다시 보낸다
+      Instant retryAt = null;
+      for (int i = 0; i < batch.messages().size(); i++) {
+        ReleaseEventOutboxRepository.OutboxMessage message = batch.messages().get(i);
+        Throwable error = batch.errors()[i];
+        if (retryAt != null) {
+          retries.add(
+              new ReleaseEventOutboxRepository.RetryRow(
+                  message.id(), message.attempts(), retryAt, "앞선 이벤트 재시도 대기"));
+          continue;
+        }
+        if (error == null) {
+          succeeded.add(message.id());
+          continue;
+        }
+        int attempts = message.attempts() + 1;
+        if (isPermanent(error) || attempts >= properties.getMaxAttempts()) {
+          parks.add(
+              new ReleaseEventOutboxRepository.ParkRow(
+                  message.id(), attempts, errorMessage(error)));
+          log.error(
+              "릴리즈 이벤트 전송 포기, dead-letter로 이동 eventId={} key={} attempts={} error={}",
+              message.eventId(),
+              message.messageKey(),
+              attempts,
+              error.toString());
+          continue;
+        }
+        retryAt = now.plus(backoff(attempts));
+        retries.add(
+            new ReleaseEventOutboxRepository.RetryRow(
+                message.id(), attempts, retryAt, errorMessage(error)));
+        failures++;
+        log.warn(
+            "릴리즈 이벤트 전송 실패 eventId={} key={} attempts={} requeued={} error={}",
+            message.eventId(),
+            message.messageKey(),
+            attempts,
+            batch.messages().size() - i - 1,
+            error.toString());
+      }
+    }
+    if (!succeeded.isEmpty()) {
+      releaseEventOutboxService.complete(succeeded);
+      sent.increment(succeeded.size());
+    }
+    if (!retries.isEmpty()) {
+      releaseEventOutboxService.reschedule(retries);
+      failed.increment(failures);
+    }
+    if (!parks.isEmpty()) {
+      releaseEventOutboxService.park(parks);
+      parked.increment(parks.size());
+    }
+  }
+
+  /** 다시 보내도 같은 결과가 나올 오류. 저장된 페이로드나 토픽 자체의 문제다. */
+  private static boolean isPermanent(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof JsonProcessingException
+          || cause instanceof SerializationException
+          || cause instanceof RecordTooLargeException
+          || cause instanceof InvalidTopicException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Duration backoff(int attempts) {
+    Duration base = properties.getRetryBackoff();
+    Duration max = properties.getMaxRetryBackoff();
+    int shift = Math.min(attempts - 1, 20);
+    Duration delay = base.multipliedBy(1L << shift);
+    return delay.compareTo(max) > 0 ? max : delay;
+  }
+
+  private static String errorMessage(Throwable error) {
+    String message = error.toString();
+    return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+  }
+
+  /** 같은 키에서 함께 선점한 행들(id 순서)과 각 행의 전송 결과. 마지막 응답이 오면 반영 큐에 넣는다. */
+  private final class KeyBatch {
+
+    private final List<ReleaseEventOutboxRepository.OutboxMessage> messages;
+    private final Throwable[] errors;
+    private final AtomicInteger pending;
+
+    private KeyBatch(List<ReleaseEventOutboxRepository.OutboxMessage> messages) {
+      this.messages = messages;
+      this.errors = new Throwable[messages.size()];
+      this.pending = new AtomicInteger(messages.size());
+    }
+
+    private List<ReleaseEventOutboxRepository.OutboxMessage> messages() {
+      return messages;
+    }
+
+    private Throwable[] errors() {
+      return errors;
+    }
+
+    private void complete(int index, Throwable error) {
+      errors[index] = error;
+      if (pending.decrementAndGet() == 0) {
+        completions.add(this);
+      }
+    }
+  }
+}
@@ -14,6 +14,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -44,6 +45,18 @@ public class TechStackSource extends BaseEntity {
   @OneToMany(mappedBy = "source", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<TechStackSourceMetadata> metadata = new ArrayList<>();
 
+  @Column(name = "next_crawl_at")
+  private Instant nextCrawlAt;
+
+  @Column(name = "crawl_interval_minutes")
+  private Integer crawlIntervalMinutes;
+
+  @Column(name = "lease_owner", length = 100)
+  private String leaseOwner;
+
+  @Column(name = "lease_expires_at")
+  private Instant leaseExpiresAt;
+
   @Builder
   private TechStackSource(
       Long id,
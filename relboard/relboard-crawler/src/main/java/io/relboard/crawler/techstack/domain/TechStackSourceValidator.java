@@ -0,0 +1,67 @@
+package io.relboard.crawler.techstack.domain;
+
+import io.relboard.crawler.common.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 소스의 업스트림 리소스별 마지막 ETag / Last-Modified 값. 다음 크롤링에서 조건부 요청에 사용한다. */
+@Getter
+@Entity
+@Table(name = "tech_stack_source_validator")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TechStackSourceValidator extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "source_id")
+  private TechStackSource source;
+
+  @Column(nullable = false, length = 50)
+  private String resource;
+
+  @Column(length = 255)
+  private String etag;
+
+  @Column(name = "last_modified", length = 64)
+  private String lastModified;
+
+  /** 본문에서 얻은 변경 표시. maven-metadata.xml의 lastUpdated를 저장한다. */
+  @Column(name = "content_stamp", length = 64)
+  private String contentStamp;
+
+  @Builder
+  private TechStackSourceValidator(
+      Long id,
+      TechStackSource source,
+      String resource,
+      String etag,
+      String lastModified,
+      String contentStamp) {
+    this.id = id;
+    this.source = source;
+    this.resource = resource;
+    this.etag = etag;
+    this.lastModified = lastModified;
+    this.contentStamp = contentStamp;
+  }
+
+  public void update(String etag, String lastModified, String contentStamp) {
+    this.etag = etag;
+    this.lastModified = lastModified;
+    this.contentStamp = contentStamp;
+  }
+}
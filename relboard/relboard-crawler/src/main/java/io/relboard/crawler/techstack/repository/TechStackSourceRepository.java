@@ -3,10 +3,93 @@ package io.relboard.crawler.techstack.repository;
 import io.relboard.crawler.techstack.domain.TechStack;
 import io.relboard.crawler.techstack.domain.TechStackSource;
 import io.relboard.crawler.techstack.domain.TechStackSourceType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TechStackSourceRepository extends JpaRepository<TechStackSource, Long> {
 
   Optional<TechStackSource> findByTechStackAndType(TechStack techStack, TechStackSourceType type);
+
+  /** 트랜잭션 밖에서 쓸 수 있도록 기술 스택과 메타데이터를 함께 조회한다. */
+  @EntityGraph(attributePaths = {"techStack", "metadata"})
+  Optional<TechStackSource> findWithDetailsById(Long id);
+
+  @EntityGraph(attributePaths = {"techStack", "metadata"})
+  List<TechStackSource> findWithDetailsByIdIn(Collection<Long> ids);
+
+  /**
+   * GitHub 좌표(github_owner, github_repo)가 모두 있는 소스 수. CrawlingServiceImpl이 GitHub를 조회하는 조건과 같게, 키는
+   * 대소문자를 무시하고 값이 NULL인 항목은 없는 것으로 본다.
+   */
+  @Query(
+      value =
+          """
+          SELECT COUNT(*)
+          FROM tech_stack_source s
+          WHERE s.id IN (:ids)
+            AND EXISTS (SELECT 1 FROM tech_stack_source_metadata m
+                        WHERE m.source_id = s.id AND LOWER(m.meta_key) = 'github_owner'
+                          AND m.`value` IS NOT NULL)
+            AND EXISTS (SELECT 1 FROM tech_stack_source_metadata m
+                        WHERE m.source_id = s.id AND LOWER(m.meta_key) = 'github_repo'
+                          AND m.`value` IS NOT NULL)
+          """,
+      nativeQuery = true)
+  long countGithubSources(@Param("ids") Collection<Long> ids);
+
+  @Query(
+      value =
+          "SELECT id FROM tech_stack_source"
+              + " WHERE (next_crawl_at IS NULL OR next_crawl_at <= :now)"
+              + " AND (lease_expires_at IS NULL OR lease_expires_at <= :now)"
+              + " ORDER BY next_crawl_at"
+              + " LIMIT :limit"
+              + " FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<Long> lockDueSourceIds(@Param("now") Instant now, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      "update TechStackSource s set s.leaseOwner = :owner, s.leaseExpiresAt = :expiresAt"
+          + " where s.id in :ids")
+  int acquireLease(
+      @Param("ids") List<Long> ids,
+      @Param("owner") String owner,
+      @Param("expiresAt") Instant expiresAt);
+
+  @Modifying
+  @Query(
+      "update TechStackSource s set s.leaseOwner = null, s.leaseExpiresAt = null"
+          + " where s.id = :id and s.leaseOwner = :owner")
+  int releaseLease(@Param("id") Long id, @Param("owner") String owner);
+
+  /** 리스를 잡고 있는 노드만 연장한다. 만료돼 다른 노드가 가져간 소스는 건드리지 않는다. */
+  @Modifying
+  @Query(
+      "update TechStackSource s set s.leaseExpiresAt = :expiresAt"
+          + " where s.id in :ids and s.leaseOwner = :owner")
+  int renewLease(
+      @Param("ids") Collection<Long> ids,
+      @Param("owner") String owner,
+      @Param("expiresAt") Instant expiresAt);
+
+  /** 다음 크롤링을 예약하면서 리스를 반납한다. 리스를 잃은 노드는 다른 노드의 리스와 예약을 덮어쓰지 않는다. */
+  @Modifying
+  @Query(
+      "update TechStackSource s set s.nextCrawlAt = :nextCrawlAt,"
+          + " s.crawlIntervalMinutes = :intervalMinutes,"
+          + " s.leaseOwner = null, s.leaseExpiresAt = null"
+          + " where s.id = :id and s.leaseOwner = :owner")
+  int scheduleNextCrawl(
+      @Param("id") Long id,
+      @Param("owner") String owner,
+      @Param("nextCrawlAt") Instant nextCrawlAt,
+      @Param("intervalMinutes") int intervalMinutes);
 }
@@ -0,0 +1,11 @@
+package io.relboard.crawler.techstack.repository;
+
+import io.relboard.crawler.techstack.domain.TechStackSourceValidator;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TechStackSourceValidatorRepository
+    extends JpaRepository<TechStackSourceValidator, Long> {
+
+  List<TechStackSourceValidator> findBySourceId(Long sourceId);
+}
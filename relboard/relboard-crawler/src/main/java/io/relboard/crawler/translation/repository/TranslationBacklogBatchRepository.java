@@ -0,0 +1,44 @@
+package io.relboard.crawler.translation.repository;
+
+import io.relboard.crawler.common.UtcTimestamps;
+import io.relboard.crawler.translation.domain.TranslationBacklogStatus;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** 신규 릴리즈의 번역 백로그를 JDBC 배치로 저장한다. */
+@Repository
+@RequiredArgsConstructor
+public class TranslationBacklogBatchRepository {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_SQL =
+      "INSERT INTO translation_backlog"
+          + " (release_record_id, status, retry_count, source_url, created_at, updated_at)"
+          + " VALUES (?, ?, 0, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertPending(List<BacklogRow> rows) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        rows,
+        BATCH_SIZE,
+        (ps, row) -> {
+          ps.setLong(1, row.releaseRecordId());
+          ps.setString(2, TranslationBacklogStatus.PENDING.name());
+          ps.setString(3, row.sourceUrl());
+          UtcTimestamps.set(ps, 4, now);
+          UtcTimestamps.set(ps, 5, now);
+        });
+  }
+
+  public record BacklogRow(Long releaseRecordId, String sourceUrl) {}
+}
@@ -2,7 +2,7 @@ package io.relboard.crawler.translation.scheduler;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.relboard.crawler.infra.kafka.KafkaProducer;
+import io.relboard.crawler.release.application.ReleaseEventOutboxService;
 import io.relboard.crawler.release.domain.ReleaseRecord;
 import io.relboard.crawler.release.event.ReleaseEvent;
 import io.relboard.crawler.release.repository.ReleaseRecordRepository;
@@ -16,7 +16,6 @@ import io.relboard.crawler.translation.repository.TranslationBacklogRepository;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -37,7 +36,7 @@ public class TranslationBacklogScheduler {
   private final TranslationBacklogRepository translationBacklogRepository;
   private final ReleaseRecordRepository releaseRecordRepository;
   private final AiTranslationService aiTranslationService;
-  private final KafkaProducer kafkaProducer;
+  private final ReleaseEventOutboxService releaseEventOutboxService;
   private final ObjectMapper objectMapper;
   private final AtomicBoolean running = new AtomicBoolean(false);
   private Instant lastBatchRunAt = Instant.EPOCH;
@@ -160,7 +159,7 @@ public class TranslationBacklogScheduler {
           continue;
         }
         InsightPayload insightPayload = parseInsightPayload(record);
-        publishTranslation(record, backlog, insightPayload);
+        publishTranslation(record, insightPayload);
         backlog.markDone();
       }
     } finally {
@@ -174,12 +173,7 @@ public class TranslationBacklogScheduler {
     }
   }
 
-  private void publishTranslation(
-      ReleaseRecord record, TranslationBacklog backlog, InsightPayload insightPayload) {
-    LocalDateTime publishedAt =
-        record.getPublishedAt() != null
-            ? LocalDateTime.ofInstant(record.getPublishedAt(), ZoneId.of("Asia/Seoul"))
-            : null;
+  private void publishTranslation(ReleaseRecord record, InsightPayload insightPayload) {
     List<ReleaseEvent.Insight> insightItems =
         insightPayload == null || insightPayload.insights() == null
             ? List.of()
@@ -200,23 +194,21 @@ public class TranslationBacklogScheduler {
         insightPayload == null || insightPayload.technicalKeywords() == null
             ? List.of()
             : insightPayload.technicalKeywords();
-    kafkaProducer.sendReleaseEvent(
-        new ReleaseEvent(
-            UUID.randomUUID().toString(),
-            LocalDateTime.now(),
-            new ReleaseEvent.Payload(
-                record.getTechStack().getName(),
-                record.getVersion(),
-                record.getTitle(),
-                record.getContent(),
-                record.getContentKo(),
-                insightPayload != null ? insightPayload.shortSummary() : null,
-                insightItems,
-                migrationGuide,
-                keywords,
-                publishedAt,
-                backlog.getSourceUrl(),
-                List.of())));
+    // 번역 결과와 같은 트랜잭션에서 아웃박스에 적재한다. 원문은 RELEASE_CREATED로 이미 나갔으므로 새 필드만 보낸다
+    releaseEventOutboxService.enqueue(
+        List.of(
+            new ReleaseEvent(
+                UUID.randomUUID().toString(),
+                ReleaseEvent.Type.RELEASE_ENRICHED,
+                LocalDateTime.now(),
+                ReleaseEvent.Payload.enrichment(
+                    record.getTechStack().getName(),
+                    record.getVersion(),
+                    record.getContentKo(),
+                    insightPayload != null ? insightPayload.shortSummary() : null,
+                    insightItems,
+                    migrationGuide,
+                    keywords))));
   }
 
   private String serialize(Object value) {
@@ -0,0 +1,5 @@
+ALTER TABLE tech_stack_source
+  ADD COLUMN next_crawl_at DATETIME(6) NULL,
+  ADD COLUMN crawl_interval_minutes INT NULL;
+
+CREATE INDEX idx_tech_stack_source_next_crawl_at ON tech_stack_source (next_crawl_at);
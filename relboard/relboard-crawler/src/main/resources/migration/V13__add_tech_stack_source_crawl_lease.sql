@@ -0,0 +1,5 @@
+ALTER TABLE tech_stack_source
+  ADD COLUMN lease_owner VARCHAR(100) NULL,
+  ADD COLUMN lease_expires_at DATETIME(6) NULL;
+
+CREATE INDEX idx_tech_stack_source_lease_expires_at ON tech_stack_source (lease_expires_at);
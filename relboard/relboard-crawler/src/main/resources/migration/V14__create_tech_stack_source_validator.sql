@@ -0,0 +1,12 @@
+CREATE TABLE tech_stack_source_validator (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    source_id BIGINT NOT NULL,
+    resource VARCHAR(50) NOT NULL,
+    etag VARCHAR(255),
+    last_modified VARCHAR(64),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    CONSTRAINT fk_tech_stack_source_validator_source FOREIGN KEY (source_id)
+      REFERENCES tech_stack_source (id) ON DELETE CASCADE,
+    UNIQUE KEY uidx_tech_stack_source_validator (source_id, resource)
+) ENGINE=InnoDB;
@@ -0,0 +1,2 @@
+ALTER TABLE tech_stack_source_validator
+  ADD COLUMN content_stamp VARCHAR(64) NULL AFTER last_modified;
@@ -0,0 +1,16 @@
+-- 같은 키의 가장 오래된 행만 선점하기 위한 조회(NOT EXISTS) 인덱스
+CREATE INDEX idx_release_event_outbox_message_key ON release_event_outbox (message_key, id);
+
+-- 역직렬화/브로커 거부로 더 보낼 수 없거나 max-attempts를 넘긴 아웃박스 행. 확인 후 수동으로 되돌리거나 삭제한다
+CREATE TABLE release_event_outbox_dead_letter (
+    id BIGINT PRIMARY KEY,
+    event_id VARCHAR(36) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    payload LONGTEXT NOT NULL,
+    attempts INT NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP(6) NOT NULL,
+    parked_at TIMESTAMP(6) NOT NULL,
+    UNIQUE KEY uidx_release_event_outbox_dead_letter_event_id (event_id)
+) ENGINE=InnoDB;
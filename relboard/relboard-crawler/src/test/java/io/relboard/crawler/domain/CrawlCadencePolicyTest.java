@@ -0,0 +1,54 @@
+package io.relboard.crawler.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.relboard.crawler.crawler.domain.CrawlCadencePolicy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CrawlCadencePolicyTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final CrawlCadencePolicy policy =
+      new CrawlCadencePolicy(
+          Duration.ofMinutes(10),
+          Duration.ofHours(24),
+          Duration.ofHours(1),
+          Duration.ofHours(48),
+          24);
+
+  @Test
+  void intervalFor_usesMinIntervalRightAfterRelease() {
+    List<Instant> history = List.of(NOW.minus(Duration.ofHours(3)), NOW.minus(Duration.ofDays(30)));
+
+    assertThat(policy.intervalFor(history, NOW)).isEqualTo(Duration.ofMinutes(10));
+  }
+
+  @Test
+  void intervalFor_scalesWithMedianReleaseGap() {
+    List<Instant> weekly =
+        List.of(
+            NOW.minus(Duration.ofDays(3)),
+            NOW.minus(Duration.ofDays(10)),
+            NOW.minus(Duration.ofDays(17)),
+            NOW.minus(Duration.ofDays(24)));
+
+    assertThat(policy.intervalFor(weekly, NOW)).isEqualTo(Duration.ofHours(7));
+  }
+
+  @Test
+  void intervalFor_clampsQuietProjectsToMaxInterval() {
+    List<Instant> halfYearly =
+        List.of(NOW.minus(Duration.ofDays(60)), NOW.minus(Duration.ofDays(240)));
+
+    assertThat(policy.intervalFor(halfYearly, NOW)).isEqualTo(Duration.ofHours(24));
+  }
+
+  @Test
+  void intervalFor_usesDefaultWithoutHistory() {
+    assertThat(policy.intervalFor(List.of(), NOW)).isEqualTo(Duration.ofHours(1));
+  }
+}
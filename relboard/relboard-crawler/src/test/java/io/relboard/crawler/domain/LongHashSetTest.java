@@ -0,0 +1,30 @@
+package io.relboard.crawler.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.relboard.crawler.common.LongHashSet;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+  @Test
+  void add_keepsAllValuesAcrossResizes() {
+    LongHashSet set = new LongHashSet(4);
+
+    for (long value = 1; value <= 10_000; value++) {
+      assertThat(set.add(value * 31)).isTrue();
+    }
+
+    assertThat(set.size()).isEqualTo(10_000);
+    assertThat(set.add(31)).isFalse();
+    assertThat(set.contains(31 * 10_000L)).isTrue();
+    assertThat(set.contains(32)).isFalse();
+  }
+
+  @Test
+  void add_rejectsZero() {
+    assertThatThrownBy(() -> new LongHashSet(4).add(0L))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,79 @@
+package io.relboard.crawler.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.relboard.crawler.infra.client.MavenMetadataParser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+
+class MavenMetadataParserTest {
+
+  // Maven Central의 실제 파일처럼 lastUpdated가 versions 뒤에 온다
+  private static final String METADATA =
+      """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <metadata>
+        <groupId>org.example</groupId>
+        <artifactId>app</artifactId>
+        <version>0.9.0</version>
+        <versioning>
+          <latest>1.2.0</latest>
+          <release>1.2.0</release>
+          <versions>
+            <version>1.0.0</version>
+            <version>1.1.0</version>
+            <version> 1.2.0 </version>
+          </versions>
+          <lastUpdated>20240301120000</lastUpdated>
+        </versioning>
+      </metadata>
+      """;
+
+  private final MavenMetadataParser parser = new MavenMetadataParser();
+
+  @Test
+  void parse_readsOnlyVersioningVersionsInDocumentOrder() throws Exception {
+    MavenMetadataParser.Result result = parse(METADATA, "20240101000000", Set.of("1.0.0"));
+
+    assertThat(result.unchanged()).isFalse();
+    assertThat(result.versions()).containsExactly("1.1.0", "1.2.0");
+    assertThat(result.lastUpdated()).isEqualTo("20240301120000");
+  }
+
+  @Test
+  void parse_reportsUnchangedWithoutKnownLookupsWhenLastUpdatedMatches() throws Exception {
+    List<String> lookedUp = new ArrayList<>();
+
+    MavenMetadataParser.Result result =
+        parser.parse(
+            new ByteArrayInputStream(METADATA.getBytes(StandardCharsets.UTF_8)),
+            "20240301120000",
+            version -> lookedUp.add(version) && false);
+
+    assertThat(result.unchanged()).isTrue();
+    assertThat(result.versions()).isEmpty();
+    assertThat(result.lastUpdated()).isEqualTo("20240301120000");
+    assertThat(lookedUp).isEmpty();
+  }
+
+  @Test
+  void parse_rejectsDoctype() {
+    String xml =
+        "<?xml version=\"1.0\"?><!DOCTYPE m [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+            + "<metadata><versioning><versions><version>&x;</version></versions></versioning></metadata>";
+
+    assertThatThrownBy(() -> parse(xml, null, Set.of())).isInstanceOf(XMLStreamException.class);
+  }
+
+  private MavenMetadataParser.Result parse(String xml, String previous, Set<String> known)
+      throws XMLStreamException {
+    return parser.parse(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), previous, known::contains);
+  }
+}
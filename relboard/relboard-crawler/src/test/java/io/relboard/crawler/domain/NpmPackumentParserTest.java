@@ -0,0 +1,99 @@
+package io.relboard.crawler.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.relboard.crawler.infra.client.NpmPackumentParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class NpmPackumentParserTest {
+
+  private final NpmPackumentParser parser = new NpmPackumentParser(new JsonFactory());
+
+  @Test
+  void parseNewVersions_readsTimeAndSkipsKnownVersions() throws IOException {
+    String packument =
+        """
+        {
+          "name": "demo",
+          "versions": {"1.0.0": {"dist": {"tarball": "x"}}, "1.1.0": {}, "2.0.0-rc.1": {}},
+          "time": {
+            "created": "2020-01-01T00:00:00.000Z",
+            "modified": "2024-03-01T00:00:00.000Z",
+            "2.0.0-rc.1": "2024-03-01T00:00:00.000Z",
+            "1.0.0": "2020-01-01T00:00:00.000Z",
+            "1.1.0": "2024-02-01T00:00:00.000Z",
+            "unpublished": {"time": "2024-01-01T00:00:00.000Z"}
+          },
+          "dist-tags": {"latest": "1.1.0", "next": "2.0.0-rc.1"}
+        }
+        """;
+
+    List<String> versions = parse(packument, false, Set.of("1.0.0"));
+
+    assertThat(versions).containsExactly("2.0.0-rc.1", "1.1.0");
+  }
+
+  @Test
+  void parseNewVersions_readsAbbreviatedVersionKeysInDocumentOrder() throws IOException {
+    String packument =
+        """
+        {
+          "dist-tags": {"latest": "1.1.0"},
+          "modified": "2024-03-01T00:00:00.000Z",
+          "versions": {"1.0.0": {"deps": {"a": "1"}}, "1.1.0": {}, "1.2.0-beta.0": {}}
+        }
+        """;
+
+    assertThat(parse(packument, true, Set.of())).containsExactly("1.0.0", "1.2.0-beta.0", "1.1.0");
+    assertThat(parse(packument, true, Set.of("1.0.0", "1.1.0", "1.2.0-beta.0"))).isEmpty();
+    assertThat(parse("{\"name\": \"demo\"}", true, Set.of())).isNull();
+  }
+
+  @Test
+  void parseNewVersions_ordersBackportPublishedAfterNewerMajorByPublishTime() throws IOException {
+    // 2.0.0 다음에 1.x 백포트(1.2.5)가 배포되고, 그 뒤 2.1.0이 나왔다. 레지스트리 문서는 버전 키를 버전 순으로 둔다
+    String full =
+        """
+        {
+          "dist-tags": {"latest": "2.1.0", "v1-lts": "1.2.5"},
+          "versions": {"1.2.4": {}, "1.2.5": {}, "2.0.0": {}, "2.1.0": {}},
+          "time": {
+            "created": "2023-01-01T00:00:00.000Z",
+            "modified": "2024-06-01T00:00:00.000Z",
+            "1.2.4": "2023-06-01T00:00:00.000Z",
+            "1.2.5": "2024-05-01T00:00:00.000Z",
+            "2.0.0": "2024-04-01T00:00:00.000Z",
+            "2.1.0": "2024-06-01T00:00:00.000Z"
+          }
+        }
+        """;
+    String abbreviated =
+        """
+        {
+          "dist-tags": {"latest": "2.1.0", "v1-lts": "1.2.5"},
+          "modified": "2024-06-01T00:00:00.000Z",
+          "versions": {"1.2.4": {}, "1.2.5": {}, "2.0.0": {}, "2.1.0": {}}
+        }
+        """;
+
+    // 전체 형식은 배포 시각 순서라 백포트가 2.0.0 뒤에 온다
+    assertThat(parse(full, false, Set.of("1.2.4"))).containsExactly("2.0.0", "1.2.5", "2.1.0");
+    // 축약 형식은 배포 시각이 없어 문서 순서를 따르므로 백포트가 2.0.0 앞에 온다
+    assertThat(parse(abbreviated, true, Set.of("1.2.4")))
+        .containsExactly("1.2.5", "2.0.0", "2.1.0");
+  }
+
+  private List<String> parse(String json, boolean abbreviated, Set<String> known)
+      throws IOException {
+    return parser.parseNewVersions(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+        abbreviated,
+        known::contains);
+  }
+}
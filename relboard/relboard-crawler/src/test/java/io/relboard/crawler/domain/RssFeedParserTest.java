@@ -0,0 +1,101 @@
+package io.relboard.crawler.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.relboard.crawler.infra.client.RssClient;
+import io.relboard.crawler.infra.client.RssFeedParser;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+
+class RssFeedParserTest {
+
+  private static final String RSS =
+      """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <rss version="2.0" xmlns:content="http://purl.org/rss/1.0/modules/content/">
+        <channel>
+          <title>PostgreSQL Releases</title>
+          <item>
+            <title>Release v16.3</title>
+            <link>https://example.com/16.3</link>
+            <description>short</description>
+            <content:encoded><![CDATA[<p>Fixes <b>bugs</b></p>]]></content:encoded>
+            <pubDate>Thu, 09 May 2024 12:00:00 GMT</pubDate>
+          </item>
+          <item>
+            <title>16.2</title>
+            <description>&lt;p&gt;older&lt;/p&gt;</description>
+            <pubDate>Thu, 8 Feb 2024 12:00:00 +0000</pubDate>
+          </item>
+          <item>
+            <title>16.1</title>
+          </item>
+        </channel>
+      </rss>
+      """;
+
+  private final RssFeedParser parser = new RssFeedParser();
+
+  @Test
+  void parse_stopsAtFirstKnownEntryAndKeepsRawHtml() throws Exception {
+    List<RssClient.RssEntry> entries = parse(RSS, 30, Set.of("16.2"));
+
+    assertThat(entries).hasSize(1);
+    RssClient.RssEntry entry = entries.get(0);
+    assertThat(entry.version()).isEqualTo("16.3");
+    assertThat(entry.title()).isEqualTo("Release v16.3");
+    assertThat(entry.htmlContent()).isEqualTo("<p>Fixes <b>bugs</b></p>");
+    assertThat(entry.link()).isEqualTo("https://example.com/16.3");
+    assertThat(entry.publishedAt()).isEqualTo(Instant.parse("2024-05-09T12:00:00Z"));
+  }
+
+  @Test
+  void parse_stopsAtLimitAndFallsBackToDescription() throws Exception {
+    List<RssClient.RssEntry> entries = parse(RSS, 2, Set.of());
+
+    assertThat(entries).extracting(RssClient.RssEntry::version).containsExactly("16.3", "16.2");
+    assertThat(entries.get(1).htmlContent()).isEqualTo("<p>older</p>");
+    assertThat(entries.get(1).publishedAt()).isEqualTo(Instant.parse("2024-02-08T12:00:00Z"));
+  }
+
+  @Test
+  void parse_readsAtomEntriesWithXhtmlContent() throws Exception {
+    String atom =
+        """
+        <feed xmlns="http://www.w3.org/2005/Atom">
+          <title>MySQL</title>
+          <link rel="self" href="https://example.com/feed"/>
+          <entry>
+            <title>8.4.0</title>
+            <link rel="alternate" href="https://example.com/8.4.0"/>
+            <updated>2024-04-30T10:00:00Z</updated>
+            <summary>summary</summary>
+            <content type="xhtml"><div><p>a &amp; b<br/>c</p></div></content>
+          </entry>
+        </feed>
+        """;
+
+    List<RssClient.RssEntry> entries = parse(atom, 30, Set.of());
+
+    assertThat(entries).hasSize(1);
+    assertThat(entries.get(0).link()).isEqualTo("https://example.com/8.4.0");
+    assertThat(entries.get(0).htmlContent()).isEqualTo("<div><p>a &amp; b<br>c</p></div>");
+    assertThat(entries.get(0).publishedAt()).isEqualTo(Instant.parse("2024-04-30T10:00:00Z"));
+  }
+
+  @Test
+  void parse_returnsNullForNonFeedDocument() throws Exception {
+    assertThat(parse("<html><body/></html>", 30, Set.of())).isNull();
+  }
+
+  private List<RssClient.RssEntry> parse(String xml, int limit, Set<String> known)
+      throws XMLStreamException {
+    return parser.parse(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), limit, known::contains);
+  }
+}
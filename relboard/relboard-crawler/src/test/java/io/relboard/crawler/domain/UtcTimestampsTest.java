@@ -0,0 +1,47 @@
+package io.relboard.crawler.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.relboard.crawler.common.UtcTimestamps;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class UtcTimestampsTest {
+
+  @Test
+  void set_bindsWithUtcCalendar() throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+    Instant instant = Instant.parse("2026-03-01T00:30:00Z");
+
+    UtcTimestamps.set(ps, 1, instant);
+
+    ArgumentCaptor<Calendar> calendar = ArgumentCaptor.forClass(Calendar.class);
+    verify(ps).setTimestamp(eq(1), eq(Timestamp.from(instant)), calendar.capture());
+    assertThat(calendar.getValue().getTimeZone().getRawOffset()).isZero();
+    assertThat(calendar.getValue().getTimeZone().getID()).isIn("Z", "UTC", "GMT");
+  }
+
+  @Test
+  void set_bindsNullAsSqlNull() throws Exception {
+    PreparedStatement ps = mock(PreparedStatement.class);
+
+    UtcTimestamps.set(ps, 2, null);
+
+    verify(ps).setNull(2, Types.TIMESTAMP);
+  }
+
+  @Test
+  void toUtcDateTime_usesUtcWallClock() {
+    assertThat(UtcTimestamps.toUtcDateTime(Instant.parse("2026-03-01T00:30:00Z")))
+        .isEqualTo(LocalDateTime.of(2026, 3, 1, 0, 30));
+  }
+}
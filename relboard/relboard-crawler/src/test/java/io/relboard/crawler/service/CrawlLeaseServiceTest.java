@@ -0,0 +1,61 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.relboard.crawler.config.CrawlLeaseProperties;
+import io.relboard.crawler.crawler.application.CrawlLeaseService;
+import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlLeaseServiceTest {
+
+  @Mock private TechStackSourceRepository techStackSourceRepository;
+
+  private CrawlLeaseService crawlLeaseService;
+
+  @BeforeEach
+  void setUp() {
+    CrawlLeaseProperties properties = new CrawlLeaseProperties();
+    properties.setNodeId("node-a");
+    crawlLeaseService = new CrawlLeaseService(techStackSourceRepository, properties);
+  }
+
+  @Test
+  void renewHeldLeases_extendsOnlySourcesStillBeingCrawled() {
+    when(techStackSourceRepository.lockDueSourceIds(any(), anyInt())).thenReturn(List.of(1L, 2L));
+    crawlLeaseService.claimDueSources();
+    when(techStackSourceRepository.scheduleNextCrawl(eq(1L), eq("node-a"), any(), anyInt()))
+        .thenReturn(1);
+    crawlLeaseService.completeWithSchedule(1L, Instant.now(), Duration.ofHours(1));
+
+    crawlLeaseService.renewHeldLeases();
+
+    verify(techStackSourceRepository).renewLease(eq(List.of(2L)), eq("node-a"), any());
+  }
+
+  @Test
+  void completeWithSchedule_reportsLostLease() {
+    when(techStackSourceRepository.scheduleNextCrawl(eq(3L), eq("node-a"), any(), anyInt()))
+        .thenReturn(0);
+
+    assertThat(crawlLeaseService.completeWithSchedule(3L, Instant.now(), Duration.ofHours(1)))
+        .isFalse();
+
+    crawlLeaseService.renewHeldLeases();
+    verify(techStackSourceRepository, never()).renewLease(any(), any(), any());
+  }
+}
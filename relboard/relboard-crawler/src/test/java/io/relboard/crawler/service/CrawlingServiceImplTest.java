@@ -1,51 +1,74 @@
 package io.relboard.crawler.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.GithubFetchProperties;
+import io.relboard.crawler.config.MarkdownConversionProperties;
+import io.relboard.crawler.crawler.application.CrawlOutcome;
+import io.relboard.crawler.crawler.application.CrawlValidatorService;
+import io.relboard.crawler.crawler.application.CrawledRelease;
 import io.relboard.crawler.crawler.application.CrawlingServiceImpl;
-import io.relboard.crawler.infra.client.GithubClient;
+import io.relboard.crawler.crawler.application.GithubReleaseCatalog;
+import io.relboard.crawler.crawler.application.KnownReleaseIndex;
+import io.relboard.crawler.crawler.application.KnownVersionService;
+import io.relboard.crawler.crawler.application.MarkdownConversionService;
 import io.relboard.crawler.crawler.application.MavenCrawlingService;
 import io.relboard.crawler.crawler.application.NpmCrawlingService;
+import io.relboard.crawler.crawler.application.ReleaseWriteService;
 import io.relboard.crawler.crawler.application.RssCrawlingService;
-import io.relboard.crawler.infra.kafka.KafkaProducer;
-import io.relboard.crawler.release.domain.ReleaseRecord;
+import io.relboard.crawler.infra.client.ConditionalResult;
+import io.relboard.crawler.infra.client.GithubClient;
+import io.relboard.crawler.infra.client.GithubFetchMode;
+import io.relboard.crawler.infra.client.GithubLookupException;
+import io.relboard.crawler.infra.client.GithubRateLimitBudget;
+import io.relboard.crawler.infra.client.HttpValidators;
 import io.relboard.crawler.release.repository.ReleaseRecordRepository;
-import io.relboard.crawler.release.repository.ReleaseTagRepository;
 import io.relboard.crawler.techstack.domain.TechStack;
 import io.relboard.crawler.techstack.domain.TechStackSource;
 import io.relboard.crawler.techstack.domain.TechStackSourceMetadata;
 import io.relboard.crawler.techstack.domain.TechStackSourceType;
-import io.relboard.crawler.techstack.repository.TechStackRepository;
 import io.relboard.crawler.techstack.repository.TechStackSourceRepository;
-import io.relboard.crawler.translation.repository.TranslationBacklogRepository;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 
 @ExtendWith(MockitoExtension.class)
 class CrawlingServiceImplTest {
 
   @Mock private TechStackSourceRepository techStackSourceRepository;
-  @Mock private TechStackRepository techStackRepository;
   @Mock private ReleaseRecordRepository releaseRecordRepository;
-  @Mock private ReleaseTagRepository releaseTagRepository;
   @Mock private MavenCrawlingService mavenCrawlingService;
   @Mock private NpmCrawlingService npmCrawlingService;
   @Mock private RssCrawlingService rssCrawlingService;
   @Mock private GithubClient githubClient;
-  @Mock private KafkaProducer kafkaProducer;
-  @Mock private TranslationBacklogRepository translationBacklogRepository;
+  @Mock private ReleaseWriteService releaseWriteService;
+  @Mock private CrawlValidatorService crawlValidatorService;
 
+  private final GithubFetchProperties githubFetchProperties = new GithubFetchProperties();
+  private final GithubRateLimitBudget githubRateLimitBudget =
+      new GithubRateLimitBudget(githubFetchProperties.getRateLimit(), new SimpleMeterRegistry());
   private CrawlingServiceImpl crawlingService;
 
   @BeforeEach
@@ -53,75 +76,69 @@ class CrawlingServiceImplTest {
     crawlingService =
         new CrawlingServiceImpl(
             techStackSourceRepository,
-            techStackRepository,
-            releaseRecordRepository,
-            releaseTagRepository,
+            new KnownVersionService(releaseRecordRepository, new KnownReleaseIndex()),
             githubClient,
             mavenCrawlingService,
             npmCrawlingService,
             rssCrawlingService,
-            kafkaProducer,
-            translationBacklogRepository);
+            releaseWriteService,
+            crawlValidatorService,
+            githubFetchProperties,
+            githubRateLimitBudget,
+            new MarkdownConversionService(
+                new MarkdownConversionProperties(), Runnable::run, new SimpleMeterRegistry()));
   }
 
   @Test
   void process_skipsWhenNoNewVersion() {
     TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(10L, techStack);
 
-    TechStackSource source =
-        TechStackSource.builder()
-            .id(10L)
-            .techStack(techStack)
-            .type(TechStackSourceType.MAVEN)
-            .metadata(
-                List.of(
-                    TechStackSourceMetadata.builder()
-                        .key("maven_group_id")
-                        .value("org.example")
-                        .build(),
-                    TechStackSourceMetadata.builder().key("maven_artifact_id").value("app").build(),
-                    TechStackSourceMetadata.builder().key("github_owner").value("owner").build(),
-                    TechStackSourceMetadata.builder().key("github_repo").value("repo").build()))
-            .build();
-
-    when(techStackSourceRepository.findById(10L)).thenReturn(Optional.of(source));
-    when(githubClient.fetchTags("owner", "repo", 30)).thenReturn(Optional.empty());
-    when(mavenCrawlingService.fetchVersions(source)).thenReturn(Optional.of(List.of("1.0.0")));
-    when(releaseRecordRepository.existsByTechStackAndVersion(techStack, "1.0.0")).thenReturn(true);
+    when(techStackSourceRepository.findWithDetailsById(10L)).thenReturn(Optional.of(source));
+    when(githubClient.fetchTags("owner", "repo", 30, null)).thenReturn(ConditionalResult.empty());
+    when(mavenCrawlingService.fetchVersions(source, null))
+        .thenReturn(ConditionalResult.modified(List.of("1.0.0"), HttpValidators.NONE));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("1.0.0")))
+        .thenReturn(List.of("1.0.0"));
 
     crawlingService.process(10L);
 
-    verify(releaseRecordRepository, never()).save(any());
-    verify(releaseTagRepository, never()).save(any());
-    verify(techStackRepository, never()).save(any());
+    verify(githubClient, never()).fetchReleaseDetails(any(), any(), any());
+    verify(releaseWriteService, never()).write(anyLong(), anyLong(), anyList(), any(), any());
   }
 
   @Test
-  void process_savesReleaseAndTagsWhenNewVersion() {
+  void process_stopsWhenTagsNotModified() {
     TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(30L, techStack);
+    HttpValidators stored = new HttpValidators("\"abc\"", null, null);
 
-    TechStackSource source =
-        TechStackSource.builder()
-            .id(20L)
-            .techStack(techStack)
-            .type(TechStackSourceType.MAVEN)
-            .metadata(
-                List.of(
-                    TechStackSourceMetadata.builder()
-                        .key("maven_group_id")
-                        .value("org.example")
-                        .build(),
-                    TechStackSourceMetadata.builder().key("maven_artifact_id").value("app").build(),
-                    TechStackSourceMetadata.builder().key("github_owner").value("owner").build(),
-                    TechStackSourceMetadata.builder().key("github_repo").value("repo").build()))
-            .build();
-
-    when(techStackSourceRepository.findById(20L)).thenReturn(Optional.of(source));
-    when(githubClient.fetchTags("owner", "repo", 30)).thenReturn(Optional.empty());
-    when(mavenCrawlingService.fetchVersions(source))
-        .thenReturn(Optional.of(List.of("1.0.0", "1.1.0")));
-    when(releaseRecordRepository.existsByTechStackAndVersion(techStack, "1.0.0")).thenReturn(true);
-    when(releaseRecordRepository.existsByTechStackAndVersion(techStack, "1.1.0")).thenReturn(false);
+    when(techStackSourceRepository.findWithDetailsById(30L)).thenReturn(Optional.of(source));
+    when(crawlValidatorService.load(30L))
+        .thenReturn(Map.of(CrawlValidatorService.GITHUB_TAGS, stored));
+    when(githubClient.fetchTags("owner", "repo", 30, stored))
+        .thenReturn(ConditionalResult.notModified(stored));
+
+    crawlingService.process(30L);
+
+    verify(mavenCrawlingService, never()).fetchVersions(any(), any());
+    verify(releaseRecordRepository, never()).findExistingVersions(any(), any());
+    verify(releaseWriteService, never()).write(anyLong(), anyLong(), anyList(), any(), any());
+    verify(crawlValidatorService, never()).save(any(), any());
+  }
+
+  @Test
+  void process_writesOnlyNewReleasesAfterFetching() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(20L, techStack);
+
+    when(techStackSourceRepository.findWithDetailsById(20L)).thenReturn(Optional.of(source));
+    HttpValidators received = new HttpValidators(null, "Tue, 01 Jul 2025 00:00:00 GMT", null);
+    when(githubClient.fetchTags("owner", "repo", 30, null)).thenReturn(ConditionalResult.empty());
+    when(mavenCrawlingService.fetchVersions(source, null))
+        .thenReturn(ConditionalResult.modified(List.of("1.0.0", "1.1.0"), received));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("1.0.0", "1.1.0")))
+        .thenReturn(List.of("1.0.0"));
 
     GithubClient.ReleaseDetails releaseDetails =
         new GithubClient.ReleaseDetails(
@@ -129,22 +146,252 @@ class CrawlingServiceImplTest {
     when(githubClient.fetchReleaseDetails("owner", "repo", "1.1.0"))
         .thenReturn(Optional.of(releaseDetails));
 
-    ReleaseRecord savedRecord =
-        ReleaseRecord.builder()
-            .id(100L)
-            .techStack(techStack)
-            .version("1.1.0")
-            .title("Release 1.1.0")
-            .content(releaseDetails.content())
-            .publishedAt(releaseDetails.publishedAt())
-            .build();
-    when(releaseRecordRepository.save(any())).thenReturn(savedRecord);
-
     crawlingService.process(20L);
 
-    verify(releaseRecordRepository).save(any());
-    verify(releaseTagRepository, times(3)).save(any());
-    verify(techStackRepository).save(techStack);
-    assertThat(techStack.getLatestVersion()).isEqualTo("1.1.0");
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<CrawledRelease>> captor = ArgumentCaptor.forClass(List.class);
+    verify(releaseWriteService)
+        .write(
+            eq(20L),
+            eq(1L),
+            captor.capture(),
+            eq("1.1.0"),
+            eq(Map.of(CrawlValidatorService.MAVEN_METADATA, received)));
+    assertThat(captor.getValue())
+        .containsExactly(
+            new CrawledRelease(
+                "1.1.0",
+                "Release 1.1.0",
+                "breaking fix docs",
+                releaseDetails.publishedAt(),
+                "http://github.com/mock/url"));
+  }
+
+  @Test
+  void process_savesVersionsWithoutGithubReleaseAndStoresValidators() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(25L, techStack);
+
+    when(techStackSourceRepository.findWithDetailsById(25L)).thenReturn(Optional.of(source));
+    HttpValidators received = new HttpValidators("\"v2\"", null, null);
+    when(githubClient.fetchTags("owner", "repo", 30, null)).thenReturn(ConditionalResult.empty());
+    when(mavenCrawlingService.fetchVersions(source, null))
+        .thenReturn(ConditionalResult.modified(List.of("1.1.0", "1.2.0"), received));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("1.1.0", "1.2.0")))
+        .thenReturn(List.of());
+    GithubClient.ReleaseDetails releaseDetails =
+        new GithubClient.ReleaseDetails("Release 1.2.0", "notes", Instant.now(), "http://x");
+    when(githubClient.fetchReleaseDetails("owner", "repo", "1.1.0")).thenReturn(Optional.empty());
+    when(githubClient.fetchReleaseDetails("owner", "repo", "1.2.0"))
+        .thenReturn(Optional.of(releaseDetails));
+
+    crawlingService.process(25L);
+
+    // GitHub 릴리즈가 없는 1.1.0은 노트 없이 저장되고, 목록이 모두 처리됐으므로 검증자도 저장한다
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<CrawledRelease>> captor = ArgumentCaptor.forClass(List.class);
+    verify(releaseWriteService)
+        .write(
+            eq(25L),
+            eq(1L),
+            captor.capture(),
+            any(),
+            eq(Map.of(CrawlValidatorService.MAVEN_METADATA, received)));
+    assertThat(captor.getValue())
+        .extracting(CrawledRelease::version, CrawledRelease::content)
+        .containsExactlyInAnyOrder(tuple("1.1.0", null), tuple("1.2.0", "notes"));
+  }
+
+  @Test
+  void process_keepsOldValidatorsWhenReleaseLookupFails() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(26L, techStack);
+
+    when(techStackSourceRepository.findWithDetailsById(26L)).thenReturn(Optional.of(source));
+    HttpValidators received = new HttpValidators("\"v2\"", null, null);
+    when(githubClient.fetchTags("owner", "repo", 30, null)).thenReturn(ConditionalResult.empty());
+    when(mavenCrawlingService.fetchVersions(source, null))
+        .thenReturn(ConditionalResult.modified(List.of("1.1.0", "1.2.0"), received));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("1.1.0", "1.2.0")))
+        .thenReturn(List.of());
+    GithubClient.ReleaseDetails releaseDetails =
+        new GithubClient.ReleaseDetails("Release 1.2.0", "notes", Instant.now(), "http://x");
+    when(githubClient.fetchReleaseDetails("owner", "repo", "1.1.0"))
+        .thenThrow(new GithubLookupException("status=502"));
+    when(githubClient.fetchReleaseDetails("owner", "repo", "1.2.0"))
+        .thenReturn(Optional.of(releaseDetails));
+
+    crawlingService.process(26L);
+
+    // 조회가 실패한 1.1.0은 저장하지 않고, 다음 크롤링이 304로 끝나지 않도록 검증자도 저장하지 않는다
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<CrawledRelease>> captor = ArgumentCaptor.forClass(List.class);
+    verify(releaseWriteService).write(eq(26L), eq(1L), captor.capture(), eq("1.2.0"), eq(Map.of()));
+    assertThat(captor.getValue()).extracting(CrawledRelease::version).containsExactly("1.2.0");
+  }
+
+  @Test
+  void process_usesPrefetchedGithubReleaseInsteadOfRest() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(40L, techStack);
+    GithubClient.ReleaseDetails releaseDetails =
+        new GithubClient.ReleaseDetails(
+            "v1.1.0", "fix", Instant.now(), "https://github.com/owner/repo/releases/tag/v1.1.0");
+    GithubReleaseCatalog catalog =
+        new GithubReleaseCatalog(
+            Map.of(
+                new GithubClient.RepositoryRef("Owner", "Repo"),
+                List.of(new GithubClient.TaggedRelease("v1.1.0", releaseDetails))),
+            1,
+            1);
+
+    when(techStackSourceRepository.findWithDetailsById(40L)).thenReturn(Optional.of(source));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("v1.1.0"))).thenReturn(List.of());
+
+    crawlingService.process(40L, catalog);
+
+    // 버전 목록도 사전 조회 결과에서 가져오므로 REST 태그 목록과 릴리즈 조회를 모두 보내지 않는다
+    verify(githubClient, never()).fetchTags(any(), any(), anyInt(), any());
+    verify(githubClient, never()).fetchReleaseDetails(any(), any(), any());
+    verify(releaseWriteService).write(eq(40L), eq(1L), anyList(), eq("v1.1.0"), any());
+    assertThat(catalog.hits()).isEqualTo(1);
+    assertThat(catalog.restCallsSaved()).isEqualTo(2);
+  }
+
+  @Test
+  void process_fallsBackToRestTagsWhenRepositoryIsNotPrefetched() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(41L, techStack);
+    GithubReleaseCatalog catalog =
+        new GithubReleaseCatalog(
+            Map.of(
+                new GithubClient.RepositoryRef("other", "repo"),
+                List.of(
+                    new GithubClient.TaggedRelease(
+                        "v9.0.0",
+                        new GithubClient.ReleaseDetails("v9.0.0", "", Instant.now(), "http://x")))),
+            1,
+            1);
+    GithubClient.ReleaseDetails releaseDetails =
+        new GithubClient.ReleaseDetails("v1.1.0", "fix", Instant.now(), "http://x");
+
+    when(techStackSourceRepository.findWithDetailsById(41L)).thenReturn(Optional.of(source));
+    when(githubClient.fetchTags("owner", "repo", 30, null))
+        .thenReturn(ConditionalResult.modified(List.of("v1.1.0"), HttpValidators.NONE));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("v1.1.0"))).thenReturn(List.of());
+    when(githubClient.fetchReleaseDetails("owner", "repo", "v1.1.0"))
+        .thenReturn(Optional.of(releaseDetails));
+
+    crawlingService.process(41L, catalog);
+
+    verify(releaseWriteService).write(eq(41L), eq(1L), anyList(), eq("v1.1.0"), any());
+    // REST로 보낸 요청은 절감량에 넣지 않는다
+    assertThat(catalog.hits()).isZero();
+    assertThat(catalog.restCallsSaved()).isZero();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void process_matchesNewVersionsAgainstListedReleasesInReleasesMode() {
+    githubFetchProperties.setFetchMode(GithubFetchMode.RELEASES);
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(50L, techStack);
+    GithubClient.ReleaseDetails releaseDetails =
+        new GithubClient.ReleaseDetails(
+            "v1.1.0", "fix", Instant.now(), "https://github.com/owner/repo/releases/tag/v1.1.0");
+
+    when(techStackSourceRepository.findWithDetailsById(50L)).thenReturn(Optional.of(source));
+    when(githubClient.fetchTags("owner", "repo", 30, null))
+        .thenReturn(ConditionalResult.modified(List.of("1.1.0", "1.0.0"), HttpValidators.NONE));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("1.1.0", "1.0.0")))
+        .thenReturn(List.of("1.0.0"));
+    when(githubClient.fetchReleases(
+            eq("owner"), eq("repo"), eq(Set.of("1.1.0")), any(Predicate.class), eq(5)))
+        .thenReturn(Map.of("v1.1.0", releaseDetails));
+
+    crawlingService.process(50L);
+
+    ArgumentCaptor<Predicate<String>> knownTag = ArgumentCaptor.forClass(Predicate.class);
+    verify(githubClient).fetchReleases(eq("owner"), eq("repo"), any(), knownTag.capture(), eq(5));
+    assertThat(knownTag.getValue().test("v9.9.9")).isFalse();
+    assertThat(knownTag.getValue().test("v1.0.0")).isTrue();
+    verify(githubClient, never()).fetchReleaseDetails(any(), any(), any());
+    verify(releaseWriteService).write(eq(50L), eq(1L), anyList(), eq("1.1.0"), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void process_looksUpVersionsMissingFromReleaseListingByTag() {
+    githubFetchProperties.setFetchMode(GithubFetchMode.RELEASES);
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(51L, techStack);
+    GithubClient.ReleaseDetails listed =
+        new GithubClient.ReleaseDetails("v1.2.0", "listed", Instant.now(), "http://x/v1.2.0");
+    GithubClient.ReleaseDetails fetched =
+        new GithubClient.ReleaseDetails("v1.1.0", "fetched", Instant.now(), "http://x/v1.1.0");
+
+    when(techStackSourceRepository.findWithDetailsById(51L)).thenReturn(Optional.of(source));
+    when(githubClient.fetchTags("owner", "repo", 30, null))
+        .thenReturn(ConditionalResult.modified(List.of("1.2.0", "1.1.0"), HttpValidators.NONE));
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("1.2.0", "1.1.0")))
+        .thenReturn(List.of());
+    // 목록 조회가 두 번째 페이지에서 실패해 1.1.0이 빠졌다
+    when(githubClient.fetchReleases(eq("owner"), eq("repo"), any(), any(Predicate.class), eq(5)))
+        .thenReturn(Map.of("v1.2.0", listed));
+    when(githubClient.fetchReleaseDetails("owner", "repo", "1.1.0"))
+        .thenReturn(Optional.of(fetched));
+
+    crawlingService.process(51L);
+
+    verify(githubClient, never()).fetchReleaseDetails("owner", "repo", "1.2.0");
+    ArgumentCaptor<List<CrawledRelease>> captor = ArgumentCaptor.forClass(List.class);
+    verify(releaseWriteService).write(eq(51L), eq(1L), captor.capture(), any(), any());
+    assertThat(captor.getValue())
+        .extracting(CrawledRelease::version, CrawledRelease::content)
+        .containsExactlyInAnyOrder(tuple("1.2.0", "listed"), tuple("1.1.0", "fetched"));
+  }
+
+  @Test
+  void process_defersGithubSourceWhenRateLimitIsExhausted() throws Exception {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    TechStackSource source = mavenSource(60L, techStack);
+    MockClientHttpResponse exhausted = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+    exhausted.getHeaders().set("X-RateLimit-Remaining", "0");
+    exhausted
+        .getHeaders()
+        .set("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(1800).getEpochSecond()));
+    githubRateLimitBudget
+        .interceptor()
+        .intercept(new MockClientHttpRequest(), new byte[0], (req, body) -> exhausted);
+
+    when(techStackSourceRepository.findWithDetailsById(60L)).thenReturn(Optional.of(source));
+
+    assertThat(crawlingService.process(60L)).isEqualTo(CrawlOutcome.DEFERRED);
+    verify(githubClient, never()).fetchTags(any(), any(), anyInt(), any());
+    verify(mavenCrawlingService, never()).fetchVersions(any(), any());
+  }
+
+  @Test
+  void process_reportsFailureWhenSourceCannotBeCrawled() {
+    when(techStackSourceRepository.findWithDetailsById(70L)).thenReturn(Optional.empty());
+
+    assertThat(crawlingService.process(70L)).isEqualTo(CrawlOutcome.FAILED);
+  }
+
+  private TechStackSource mavenSource(Long id, TechStack techStack) {
+    return TechStackSource.builder()
+        .id(id)
+        .techStack(techStack)
+        .type(TechStackSourceType.MAVEN)
+        .metadata(
+            List.of(
+                TechStackSourceMetadata.builder()
+                    .key("maven_group_id")
+                    .value("org.example")
+                    .build(),
+                TechStackSourceMetadata.builder().key("maven_artifact_id").value("app").build(),
+                TechStackSourceMetadata.builder().key("github_owner").value("owner").build(),
+                TechStackSourceMetadata.builder().key("github_repo").value("repo").build()))
+        .build();
   }
 }
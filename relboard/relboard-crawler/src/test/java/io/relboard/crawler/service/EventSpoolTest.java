@@ -0,0 +1,166 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.infra.kafka.EventSpool;
+import io.relboard.crawler.infra.kafka.EventSpoolDrainer;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.infra.kafka.ReleaseEventTemplates;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventSpoolTest {
+
+  @TempDir Path directory;
+
+  @Test
+  void read_resumesFromCheckpointAcrossSegmentsAndRestarts() throws Exception {
+    EventSpool spool = new EventSpool(directory, 64, false);
+    for (int i = 1; i <= 3; i++) {
+      spool.append("releases", "spring", ("{\"n\":" + i + "}").getBytes(StandardCharsets.UTF_8));
+    }
+
+    EventSpool.Batch first = spool.read(spool.checkpoint(), 2, 0);
+    assertThat(first.records()).extracting(EventSpool.SpoolRecord::key).containsOnly("spring");
+    assertThat(first.records())
+        .extracting(record -> new String(record.event(), StandardCharsets.UTF_8))
+        .containsExactly("{\"n\":1}", "{\"n\":2}");
+    // 보내지 못하면 체크포인트를 옮기지 않으므로 같은 묶음을 다시 읽는다
+    assertThat(spool.read(spool.checkpoint(), 2, 0).records()).hasSize(2);
+
+    spool.commit(first.next(), first.records().size());
+    spool.close();
+
+    EventSpool reopened = new EventSpool(directory, 64, false);
+    assertThat(reopened.pending()).isEqualTo(1);
+    EventSpool.Batch rest = reopened.read(reopened.checkpoint(), 10, 0);
+    assertThat(rest.records())
+        .extracting(record -> new String(record.event(), StandardCharsets.UTF_8))
+        .containsExactly("{\"n\":3}");
+    reopened.commit(rest.next(), rest.records().size());
+
+    assertThat(reopened.pending()).isZero();
+    try (var files = Files.list(directory)) {
+      // 다 보낸 세그먼트는 지운다
+      assertThat(files.filter(path -> path.toString().endsWith(".log"))).hasSize(1);
+    }
+  }
+
+  @Test
+  void drainer_quarantinesUndecodableRecordsAndKeepsDraining() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    ReleaseEvent event =
+        new ReleaseEvent(
+            "e",
+            ReleaseEvent.Type.RELEASE_CREATED,
+            LocalDateTime.now(),
+            new ReleaseEvent.Payload(
+                "spring", "1.0.0", null, null, null, null, List.of(), null, List.of(), null, null,
+                List.of()));
+    EventSpool spool = new EventSpool(directory, 1024, false);
+    byte[] broken = "not-json".getBytes(StandardCharsets.UTF_8);
+    spool.append("releases", "spring", broken);
+    spool.append("releases", "spring", objectMapper.writeValueAsBytes(event));
+    ReleaseEventTemplates templates = mock(ReleaseEventTemplates.class);
+    when(templates.send(eq("releases"), eq("spring"), any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    try (EventSpoolDrainer drainer =
+        new EventSpoolDrainer(
+            spool,
+            templates,
+            objectMapper,
+            new KafkaProperties.Spool(),
+            new SimpleMeterRegistry())) {
+      drainer.start();
+      verify(templates, timeout(5_000)).send(eq("releases"), eq("spring"), any());
+    }
+
+    List<String> quarantined = Files.readAllLines(directory.resolve("quarantine.log"));
+    assertThat(quarantined).hasSize(1);
+    String[] fields = quarantined.get(0).split("\t");
+    assertThat(fields[1]).isEqualTo("releases");
+    assertThat(fields[2]).isEqualTo("spring");
+    assertThat(Base64.getDecoder().decode(fields[4])).isEqualTo(broken);
+  }
+
+  @Test
+  void drainer_resendsFromFirstFailedRecordSoPerKeyOrderIsKept() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    EventSpool spool = new EventSpool(directory, 4096, false);
+    for (int i = 1; i <= 4; i++) {
+      ReleaseEvent event =
+          new ReleaseEvent(
+              "e" + i,
+              ReleaseEvent.Type.RELEASE_CREATED,
+              LocalDateTime.now(),
+              new ReleaseEvent.Payload(
+                  "spring",
+                  "1.0." + i,
+                  null,
+                  null,
+                  null,
+                  null,
+                  List.of(),
+                  null,
+                  List.of(),
+                  null,
+                  null,
+                  List.of()));
+      spool.append("releases", "spring", objectMapper.writeValueAsBytes(event));
+    }
+    ReleaseEventTemplates templates = mock(ReleaseEventTemplates.class);
+    List<String> sent = new CopyOnWriteArrayList<>();
+    AtomicBoolean failedOnce = new AtomicBoolean();
+    when(templates.send(eq("releases"), eq("spring"), any()))
+        .thenAnswer(
+            invocation -> {
+              String eventId = invocation.<ReleaseEvent>getArgument(2).eventId();
+              sent.add(eventId);
+              // 묶음 중간의 e2만 한 번 실패하고, 뒤의 e3/e4는 그대로 성공한다
+              if (eventId.equals("e2") && failedOnce.compareAndSet(false, true)) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+              }
+              return CompletableFuture.completedFuture(null);
+            });
+    KafkaProperties.Spool properties = new KafkaProperties.Spool();
+    properties.setRetryBackoff(Duration.ofMillis(10));
+
+    try (EventSpoolDrainer drainer =
+        new EventSpoolDrainer(
+            spool, templates, objectMapper, properties, new SimpleMeterRegistry())) {
+      drainer.start();
+      verify(templates, timeout(5_000).times(7)).send(eq("releases"), eq("spring"), any());
+    }
+
+    // e1은 체크포인트가 넘어가 다시 보내지 않고, 재전송은 e2부터 순서대로 이어진다
+    assertThat(sent).containsExactly("e1", "e2", "e3", "e4", "e2", "e3", "e4");
+    List<String> lastOccurrence =
+        List.of("e1", "e2", "e3", "e4").stream()
+            .sorted(Comparator.comparingInt(sent::lastIndexOf))
+            .toList();
+    assertThat(lastOccurrence).containsExactly("e1", "e2", "e3", "e4");
+    assertThat(spool.pending()).isZero();
+  }
+}
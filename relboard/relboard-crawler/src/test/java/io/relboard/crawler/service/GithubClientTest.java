@@ -0,0 +1,114 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.HostLimitProperties;
+import io.relboard.crawler.infra.client.GithubClient;
+import io.relboard.crawler.infra.client.HostRequestLimiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.RestClient;
+
+class GithubClientTest {
+
+  private static final String RELEASES_URL =
+      "https://api.github.com/repos/owner/repo/releases?per_page=100&page=";
+
+  private MockRestServiceServer server;
+  private GithubClient githubClient;
+
+  @BeforeEach
+  void setUp() {
+    RestClient.Builder builder = RestClient.builder();
+    server = MockRestServiceServer.bindTo(builder).build();
+    githubClient =
+        new GithubClient(
+            builder.build(),
+            new HostRequestLimiter(new HostLimitProperties(), new SimpleMeterRegistry()));
+  }
+
+  @Test
+  void fetchReleases_keepsPagingPastUnknownTagsUntilEveryWantedVersionIsFound() {
+    // 첫 페이지에는 아직 저장하지 않은 다른 태그만 있고, 원하는 1.0.0은 두 번째 페이지에 있다
+    server.expect(requestTo(RELEASES_URL + 1)).andRespond(page(tags("v2.", 100)));
+    server
+        .expect(requestTo(RELEASES_URL + 2))
+        .andRespond(page(List.of("v1.0.0", "v0.9.0", "v0.8.0")));
+
+    Map<String, GithubClient.ReleaseDetails> releases =
+        githubClient.fetchReleases("owner", "repo", List.of("1.0.0"), tag -> false, 5);
+
+    server.verify();
+    assertThat(releases).containsKey("v1.0.0");
+  }
+
+  @Test
+  void fetchReleases_stopsOnceEveryWantedVersionIsFound() {
+    server.expect(requestTo(RELEASES_URL + 1)).andRespond(page(tags("v1.", 100)));
+
+    Map<String, GithubClient.ReleaseDetails> releases =
+        githubClient.fetchReleases("owner", "repo", List.of("1.0", "v1.5"), tag -> false, 5);
+
+    server.verify();
+    assertThat(releases).containsKeys("v1.0", "v1.5");
+  }
+
+  @Test
+  void fetchReleases_stopsAtPageWithOnlyKnownTags() {
+    Set<String> known = Set.copyOf(tags("v1.", 100));
+    server.expect(requestTo(RELEASES_URL + 1)).andRespond(page(tags("v1.", 100)));
+
+    Map<String, GithubClient.ReleaseDetails> releases =
+        githubClient.fetchReleases("owner", "repo", List.of("0.1.0"), known::contains, 5);
+
+    server.verify();
+    assertThat(releases).doesNotContainKey("v0.1.0").hasSize(100);
+  }
+
+  @Test
+  void fetchReleases_returnsCollectedPagesWhenLaterPageFails() {
+    server.expect(requestTo(RELEASES_URL + 1)).andRespond(page(tags("v2.", 100)));
+    server.expect(requestTo(RELEASES_URL + 2)).andRespond(withServerError());
+
+    Map<String, GithubClient.ReleaseDetails> releases =
+        githubClient.fetchReleases("owner", "repo", List.of("1.0.0"), tag -> false, 5);
+
+    // 실패 전까지 모은 릴리즈는 돌려주고, 호출자가 빠진 버전을 태그별로 다시 조회한다
+    server.verify();
+    assertThat(releases).hasSize(100).doesNotContainKey("v1.0.0");
+  }
+
+  private static List<String> tags(String prefix, int count) {
+    List<String> tags = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      tags.add(prefix + i);
+    }
+    return tags;
+  }
+
+  private static ResponseCreator page(List<String> tags) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < tags.size(); i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"tag_name\":\"")
+          .append(tags.get(i))
+          .append("\",\"name\":\"")
+          .append(tags.get(i))
+          .append("\",\"body\":\"notes\"}");
+    }
+    return withSuccess(json.append(']').toString(), MediaType.APPLICATION_JSON);
+  }
+}
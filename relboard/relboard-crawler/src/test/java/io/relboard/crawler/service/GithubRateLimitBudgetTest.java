@@ -0,0 +1,106 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.GithubFetchProperties;
+import io.relboard.crawler.infra.client.GithubRateLimitBudget;
+import io.relboard.crawler.infra.client.GithubRateLimitException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class GithubRateLimitBudgetTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private GithubRateLimitBudget budget;
+
+  @BeforeEach
+  void setUp() {
+    GithubFetchProperties.RateLimit properties = new GithubFetchProperties.RateLimit();
+    properties.setReserve(10);
+    properties.setLowPriorityMinShare(5);
+    meterRegistry = new SimpleMeterRegistry();
+    budget = new GithubRateLimitBudget(properties, meterRegistry);
+  }
+
+  @Test
+  void admit_defersLowPrioritySourcesWhenShareRunsLow() throws IOException {
+    budget.startCycle(20);
+    respond(HttpStatus.OK, "60", Instant.now().plusSeconds(600), null);
+
+    // (60 - 10) / 20 = 2 < 5
+    assertThat(budget.admit(true)).isFalse();
+    assertThat(budget.admit(false)).isTrue();
+    assertThat(
+            meterRegistry.get("crawler.github.deferred").tag("reason", "budget").counter().count())
+        .isEqualTo(1.0);
+
+    respond(HttpStatus.OK, "10", Instant.now().plusSeconds(600), null);
+    assertThat(budget.admit(false)).isFalse();
+  }
+
+  @Test
+  void secondaryLimit_blocksRequestsAndDefersSources() throws IOException {
+    budget.startCycle(1);
+    respond(HttpStatus.FORBIDDEN, "4000", Instant.now().plusSeconds(600), "120");
+
+    assertThat(budget.admit(false)).isFalse();
+    assertThatThrownBy(() -> respond(HttpStatus.OK, "4000", Instant.now(), null))
+        .isInstanceOf(GithubRateLimitException.class);
+  }
+
+  @Test
+  void plainForbidden_doesNotBlockAndKeepsBody() throws IOException {
+    budget.startCycle(1);
+    String message = "{\"message\":\"Resource not accessible by integration\"}";
+
+    ClientHttpResponse response =
+        respond(HttpStatus.FORBIDDEN, "4000", Instant.now().plusSeconds(600), null, message);
+
+    assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo(message);
+    assertThat(budget.admit(false)).isTrue();
+    respond(HttpStatus.OK, "3999", Instant.now().plusSeconds(600), null);
+  }
+
+  @Test
+  void forbiddenWithSecondaryLimitMessage_blocks() throws IOException {
+    budget.startCycle(1);
+    respond(
+        HttpStatus.FORBIDDEN,
+        "4000",
+        Instant.now().plusSeconds(600),
+        null,
+        "{\"message\":\"You have exceeded a secondary rate limit.\"}");
+
+    assertThat(budget.admit(false)).isFalse();
+  }
+
+  private void respond(HttpStatus status, String remaining, Instant resetAt, String retryAfter)
+      throws IOException {
+    respond(status, remaining, resetAt, retryAfter, "");
+  }
+
+  private ClientHttpResponse respond(
+      HttpStatus status, String remaining, Instant resetAt, String retryAfter, String body)
+      throws IOException {
+    MockClientHttpResponse response =
+        new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+    response.getHeaders().set("X-RateLimit-Remaining", remaining);
+    response.getHeaders().set("X-RateLimit-Reset", String.valueOf(resetAt.getEpochSecond()));
+    if (retryAfter != null) {
+      response.getHeaders().set("Retry-After", retryAfter);
+    }
+    return budget
+        .interceptor()
+        .intercept(new MockClientHttpRequest(), new byte[0], (req, requestBody) -> response);
+  }
+}
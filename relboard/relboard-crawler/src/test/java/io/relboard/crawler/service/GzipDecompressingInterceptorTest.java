@@ -0,0 +1,56 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.relboard.crawler.infra.client.GzipDecompressingInterceptor;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class GzipDecompressingInterceptorTest {
+
+  private final GzipDecompressingInterceptor interceptor = new GzipDecompressingInterceptor();
+
+  @Test
+  void intercept_requestsGzipAndDecompressesBody() throws IOException {
+    MockClientHttpRequest request = new MockClientHttpRequest();
+    MockClientHttpResponse compressed =
+        new MockClientHttpResponse(gzip("<metadata/>"), HttpStatus.OK);
+    compressed.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+    ClientHttpResponse response =
+        interceptor.intercept(request, new byte[0], (req, body) -> compressed);
+
+    assertThat(request.getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    assertThat(new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo("<metadata/>");
+  }
+
+  @Test
+  void intercept_keepsEmptyNotModifiedBody() throws IOException {
+    MockClientHttpResponse notModified =
+        new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED);
+    notModified.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+    ClientHttpResponse response =
+        interceptor.intercept(new MockClientHttpRequest(), new byte[0], (req, body) -> notModified);
+
+    assertThat(response.getBody().readAllBytes()).isEmpty();
+  }
+
+  private static byte[] gzip(String value) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+    return out.toByteArray();
+  }
+}
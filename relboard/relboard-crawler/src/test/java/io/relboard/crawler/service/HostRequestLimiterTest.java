@@ -0,0 +1,124 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.HostLimitProperties;
+import io.relboard.crawler.infra.client.HostRequestLimiter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HostRequestLimiterTest {
+
+  private static final String HOST = "api.github.com";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void execute_capsConcurrentRequestsPerHost() throws Exception {
+    HostRequestLimiter limiter = new HostRequestLimiter(properties(2, 0), meterRegistry);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        futures.add(
+            executor.submit(
+                () ->
+                    limiter.execute(
+                        HOST,
+                        () -> {
+                          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                          sleep(Duration.ofMillis(50));
+                          return running.decrementAndGet();
+                        })));
+      }
+      for (Future<Integer> future : futures) {
+        future.get(5, TimeUnit.SECONDS);
+      }
+    }
+
+    assertThat(maxRunning.get()).isEqualTo(2);
+    // 다른 호스트는 별도 허가를 쓴다
+    assertThat(limiter.execute("repo1.maven.org", () -> "ok")).isEqualTo("ok");
+  }
+
+  @Test
+  void execute_spacesRequestsByReservedRpsSlots() {
+    HostRequestLimiter limiter = new HostRequestLimiter(properties(8, 20), meterRegistry);
+    List<Long> startedAt = new ArrayList<>();
+
+    for (int i = 0; i < 4; i++) {
+      limiter.execute(HOST, () -> startedAt.add(System.nanoTime()));
+    }
+
+    // 초당 20회 → 50ms 간격. 첫 요청은 바로 나간다
+    for (int i = 1; i < startedAt.size(); i++) {
+      assertThat(Duration.ofNanos(startedAt.get(i) - startedAt.get(i - 1)))
+          .isGreaterThanOrEqualTo(Duration.ofMillis(45));
+    }
+  }
+
+  @Test
+  void execute_releasesPermitWhenCallThrows() {
+    HostRequestLimiter limiter = new HostRequestLimiter(properties(1, 0), meterRegistry);
+
+    assertThatThrownBy(
+            () ->
+                limiter.execute(
+                    HOST,
+                    () -> {
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(
+            meterRegistry.get("crawler.http.limiter.in-flight").tag("host", HOST).gauge().value())
+        .isZero();
+    assertThat(limiter.queueDepth(HOST)).isZero();
+    // 허가 하나뿐이므로 반납되지 않았다면 여기서 멈춘다
+    assertThat(limiter.execute(HOST, () -> "ok")).isEqualTo("ok");
+  }
+
+  @Test
+  void execute_bypassSkipsLimitsForReplay() {
+    // 1000초에 한 번만 허용하는 제한이라도 우회하면 바로 실행된다
+    HostRequestLimiter limiter = new HostRequestLimiter(properties(1, 0.001), meterRegistry, true);
+    long startNs = System.nanoTime();
+
+    for (int i = 0; i < 3; i++) {
+      limiter.execute(HOST, () -> "ok");
+    }
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startNs)).isLessThan(Duration.ofSeconds(1));
+    assertThat(meterRegistry.find("crawler.http.limiter.in-flight").gauge()).isNull();
+  }
+
+  private static HostLimitProperties properties(int maxConcurrent, double requestsPerSecond) {
+    HostLimitProperties.Limit limit = new HostLimitProperties.Limit();
+    limit.setMaxConcurrent(maxConcurrent);
+    limit.setRequestsPerSecond(requestsPerSecond);
+    HostLimitProperties properties = new HostLimitProperties();
+    properties.getHosts().put(HOST, limit);
+    properties.setDefaultLimit(limit);
+    return properties;
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.infra.kafka.KafkaProducerConfig;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.infra.kafka.ReleaseEventTemplates;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.util.Map;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+class KafkaProducerConfigTest {
+
+  private static final String BACKFILL_TOPIC = "relboard.crawler.backfill";
+
+  @Test
+  void producerConfigs_appliesProfileThenTopicOverrides() {
+    KafkaProperties properties = properties();
+
+    Map<String, Object> defaults = properties.producerConfigs(null);
+    assertThat(defaults)
+        .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd")
+        .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
+        .containsEntry(ProducerConfig.ACKS_CONFIG, "all")
+        .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20L)
+        .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 256 * 1024)
+        .containsEntry(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, 120_000)
+        // 재시도 횟수는 Kafka 기본값(MAX_INT)에 맡기고 delivery.timeout.ms로만 제한한다
+        .doesNotContainKey(ProducerConfig.RETRIES_CONFIG);
+
+    assertThat(properties.producerConfigs(BACKFILL_TOPIC))
+        .containsEntry(ProducerConfig.LINGER_MS_CONFIG, "200")
+        .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+  }
+
+  @Test
+  void releaseEventTemplates_routesOverriddenTopicsAndExposesProducerMetrics() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    KafkaProducerConfig config = new KafkaProducerConfig(properties(), new ObjectMapper());
+    ProducerFactory<String, ReleaseEvent> producerFactory = config.producerFactory(meterRegistry);
+    KafkaTemplate<String, ReleaseEvent> kafkaTemplate = config.kafkaTemplate(producerFactory);
+
+    try (ReleaseEventTemplates templates =
+        config.releaseEventTemplates(kafkaTemplate, meterRegistry)) {
+      assertThat(templates.forTopic("relboard.crawler.releases")).isSameAs(kafkaTemplate);
+      assertThat(templates.forTopic(BACKFILL_TOPIC)).isNotSameAs(kafkaTemplate);
+
+      // 프로듀서가 만들어지면 Kafka 클라이언트 지표가 producer 태그로 등록된다
+      try (Producer<String, ReleaseEvent> producer = producerFactory.createProducer()) {
+        assertThat(
+                meterRegistry
+                    .find("kafka.producer.batch.size.avg")
+                    .tag("producer", "default")
+                    .gauge())
+            .isNotNull();
+        assertThat(
+                meterRegistry
+                    .find("crawler.kafka.producer.batch.fill")
+                    .tag("producer", BACKFILL_TOPIC)
+                    .gauge())
+            .isNotNull();
+      }
+    } finally {
+      producerFactory.reset();
+    }
+  }
+
+  private static KafkaProperties properties() {
+    KafkaProperties properties = new KafkaProperties();
+    properties.setBootstrapServers("localhost:9092");
+    properties.getProducer().getTopics().put(BACKFILL_TOPIC, Map.of("linger.ms", "200"));
+    return properties;
+  }
+}
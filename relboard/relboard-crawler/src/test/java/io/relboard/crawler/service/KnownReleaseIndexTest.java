@@ -0,0 +1,23 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.relboard.crawler.crawler.application.KnownReleaseIndex;
+import org.junit.jupiter.api.Test;
+
+class KnownReleaseIndexTest {
+
+  @Test
+  void replaceWith_dropsReleasesNoLongerInTheDatabase() {
+    KnownReleaseIndex index = new KnownReleaseIndex();
+    index.add(1L, "1.0.0");
+    index.add(1L, "1.1.0");
+
+    // 1.1.0이 삭제된 뒤 DB에서 다시 만든 인덱스
+    index.replaceWith(KnownReleaseIndex.builder().add(1L, "1.0.0"));
+
+    assertThat(index.contains(1L, "1.0.0")).isTrue();
+    assertThat(index.contains(1L, "1.1.0")).isFalse();
+    assertThat(index.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,31 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.relboard.crawler.crawler.application.KnownReleaseIndex;
+import io.relboard.crawler.crawler.application.KnownVersionService;
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KnownVersionServiceTest {
+
+  @Mock private ReleaseRecordRepository releaseRecordRepository;
+
+  @Test
+  void findNewVersions_comparesVersionsCaseInsensitivelyLikeTheColumnCollation() {
+    KnownVersionService knownVersionService =
+        new KnownVersionService(releaseRecordRepository, new KnownReleaseIndex());
+    // MySQL은 대소문자를 무시하고 찾으므로 저장된 표기("v2.0.0")를 돌려준다
+    when(releaseRecordRepository.findExistingVersions(1L, List.of("V2.0.0", "2.1.0-RC1")))
+        .thenReturn(List.of("v2.0.0"));
+
+    assertThat(knownVersionService.findNewVersions(1L, List.of("V2.0.0", "2.1.0-RC1", "2.1.0-rc1")))
+        .containsExactly("2.1.0-RC1");
+  }
+}
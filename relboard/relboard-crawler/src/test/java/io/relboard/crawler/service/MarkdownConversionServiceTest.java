@@ -0,0 +1,46 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.MarkdownConversionProperties;
+import io.relboard.crawler.crawler.application.MarkdownConversionService;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MarkdownConversionServiceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MarkdownConversionProperties properties = new MarkdownConversionProperties();
+
+  @Test
+  void convertAll_keepsInputOrderAndReusesCachedResult() {
+    MarkdownConversionService service =
+        new MarkdownConversionService(properties, Runnable::run, meterRegistry);
+
+    List<String> first =
+        service.convertAll(Arrays.asList("<p><b>fix</b></p>", null, "<p><b>fix</b></p>"));
+    String again = service.convert("<p><b>fix</b></p>");
+
+    assertThat(first).containsExactly("**fix**\n", null, "**fix**\n");
+    assertThat(again).isEqualTo("**fix**\n");
+    assertThat(meterRegistry.counter("crawler.markdown.cache", "result", "miss").count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.counter("crawler.markdown.cache", "result", "hit").count())
+        .isEqualTo(2.0);
+    assertThat(meterRegistry.timer("crawler.markdown.convert").count()).isEqualTo(1L);
+  }
+
+  @Test
+  void convert_truncatesOversizedHtmlOutsideTags() {
+    properties.setMaxInputChars(20);
+    MarkdownConversionService service =
+        new MarkdownConversionService(properties, Runnable::run, meterRegistry);
+
+    String markdown = service.convert("<p>hello world</p><p>second paragraph</p>");
+
+    assertThat(markdown).startsWith("hello world").endsWith("…").doesNotContain("<", "second");
+    assertThat(meterRegistry.counter("crawler.markdown.truncated").count()).isEqualTo(1.0);
+  }
+}
@@ -0,0 +1,140 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.infra.content.ReleaseContentStore;
+import io.relboard.crawler.infra.kafka.KafkaProducerConfig;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.api.ReleaseContentController;
+import io.relboard.crawler.release.application.ReleaseClaimCheckService;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+class ReleaseClaimCheckServiceTest {
+
+  @TempDir Path directory;
+
+  private KafkaProperties properties;
+  private ReleaseContentStore store;
+  private ReleaseClaimCheckService claimCheckService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new KafkaProperties();
+    properties.getClaimCheck().setEnabled(true);
+    properties.getClaimCheck().setShared(true);
+    properties.getClaimCheck().setAccessToken("secret");
+    properties.getClaimCheck().setThreshold(DataSize.ofBytes(64));
+    properties.getClaimCheck().setBaseUrl("http://crawler:8080/");
+    store = new ReleaseContentStore(directory);
+    claimCheckService = new ReleaseClaimCheckService(store, properties, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void apply_offloadsOnlyBodiesOverThresholdAndServesThemBySha256() throws Exception {
+    String large = "## 변경 사항\n" + "- 버그 수정\n".repeat(20);
+    ReleaseEvent event = event(large, "짧은 번역");
+
+    ReleaseEvent.Payload payload = claimCheckService.apply(event).payload();
+
+    byte[] bytes = large.getBytes(StandardCharsets.UTF_8);
+    String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    assertThat(payload.content()).isNull();
+    assertThat(payload.contentRef())
+        .isEqualTo(
+            new ReleaseEvent.ContentRef(
+                sha256, bytes.length, "http://crawler:8080/api/release-contents/" + sha256));
+    assertThat(payload.contentKo()).isEqualTo("짧은 번역");
+    assertThat(payload.contentKoRef()).isNull();
+    assertThat(claimCheckService.apply(event).type()).isEqualTo(ReleaseEvent.Type.RELEASE_ENRICHED);
+
+    MockMvc mockMvc =
+        MockMvcBuilders.standaloneSetup(new ReleaseContentController(store, properties)).build();
+    mockMvc.perform(get("/api/release-contents/" + sha256)).andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer wrong"))
+        .andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer secret"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"" + sha256 + "\""))
+        .andExpect(content().bytes(bytes));
+    mockMvc
+        .perform(get("/api/release-contents/../secret").header("Authorization", "Bearer secret"))
+        .andExpect(status().isNotFound());
+    mockMvc
+        .perform(
+            get("/api/release-contents/" + "0".repeat(64)).header("Authorization", "Bearer secret"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void apply_keepsEventUntouchedBelowThreshold() {
+    ReleaseEvent event = event("짧은 본문", null);
+
+    assertThat(claimCheckService.apply(event)).isSameAs(event);
+  }
+
+  @Test
+  void purgeOlderThan_removesContentNotReferencedWithinRetention() throws Exception {
+    String oldSha = store.put("오래된 본문").sha256();
+    String touchedSha = store.put("다시 참조된 본문").sha256();
+    Instant past = Instant.now().minus(Duration.ofDays(40));
+    Files.setLastModifiedTime(store.find(oldSha).orElseThrow(), FileTime.from(past));
+    Files.setLastModifiedTime(store.find(touchedSha).orElseThrow(), FileTime.from(past));
+    // 같은 본문을 다시 저장하면 보존 기간이 새로 시작된다
+    store.put("다시 참조된 본문");
+
+    assertThat(store.purgeOlderThan(Instant.now().minus(Duration.ofDays(30)))).isEqualTo(1);
+    assertThat(store.find(oldSha)).isEmpty();
+    assertThat(store.find(touchedSha)).isPresent();
+  }
+
+  @Test
+  void releaseContentStore_refusesToEnableWithoutSharedDirectoryOrToken() {
+    properties.getClaimCheck().setShared(false);
+    assertThatThrownBy(
+            () -> new KafkaProducerConfig(properties, new ObjectMapper()).releaseContentStore())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("shared");
+
+    properties.getClaimCheck().setShared(true);
+    properties.getClaimCheck().setAccessToken("");
+    assertThatThrownBy(
+            () -> new KafkaProducerConfig(properties, new ObjectMapper()).releaseContentStore())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("access-token");
+  }
+
+  private static ReleaseEvent event(String content, String contentKo) {
+    return new ReleaseEvent(
+        "e",
+        ReleaseEvent.Type.RELEASE_ENRICHED,
+        LocalDateTime.now(),
+        new ReleaseEvent.Payload(
+            "spring", "1.0.0", "v1.0.0", content, contentKo, null, List.of(), null, List.of(), null,
+            null, List.of()));
+  }
+}
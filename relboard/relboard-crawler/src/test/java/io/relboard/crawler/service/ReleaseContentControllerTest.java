@@ -0,0 +1,122 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.relboard.crawler.infra.content.ReleaseContentStore;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.api.ReleaseContentController;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class ReleaseContentControllerTest {
+
+  private static final String BODY = "## 변경 사항\n- 버그 수정\n";
+
+  @TempDir Path directory;
+
+  private KafkaProperties properties;
+  private MockMvc mockMvc;
+  private String sha256;
+
+  @BeforeEach
+  void setUp() {
+    properties = new KafkaProperties();
+    properties.getClaimCheck().setAccessToken("secret");
+    ReleaseContentStore store = new ReleaseContentStore(directory);
+    sha256 = store.put(BODY).sha256();
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(new ReleaseContentController(store, properties)).build();
+  }
+
+  @Test
+  void contentUrl_joinsBaseUrlAndContentPath() {
+    assertThat(ReleaseContentController.contentUrl("http://crawler:8080/", sha256))
+        .isEqualTo("http://crawler:8080/api/release-contents/" + sha256);
+    assertThat(ReleaseContentController.contentUrl("http://crawler:8080", sha256))
+        .isEqualTo("http://crawler:8080/api/release-contents/" + sha256);
+  }
+
+  @Test
+  void get_servesContentWithValidBearerToken() throws Exception {
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer secret"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "text/markdown;charset=UTF-8"))
+        .andExpect(header().string("ETag", "\"" + sha256 + "\""))
+        .andExpect(header().string("Cache-Control", "max-age=31536000, private, immutable"))
+        .andExpect(content().bytes(BODY.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void get_rejectsMissingOrMalformedAuthorization() throws Exception {
+    mockMvc.perform(get("/api/release-contents/" + sha256)).andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "secret"))
+        .andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer "))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void get_rejectsWrongToken() throws Exception {
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer wrong"))
+        .andExpect(status().isUnauthorized());
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer secrets"))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void get_rejectsEveryRequestWhenConfiguredTokenIsBlank() throws Exception {
+    // 설정 토큰이 비어 있으면 빈 Bearer 값과도 일치시키지 않는다
+    properties.getClaimCheck().setAccessToken(" ");
+
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer  "))
+        .andExpect(status().isUnauthorized());
+    properties.getClaimCheck().setAccessToken("");
+    mockMvc
+        .perform(get("/api/release-contents/" + sha256).header("Authorization", "Bearer "))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void get_returnsNotFoundForMalformedOrUnknownSha256() throws Exception {
+    mockMvc
+        .perform(
+            get("/api/release-contents/" + sha256.toUpperCase())
+                .header("Authorization", "Bearer secret"))
+        .andExpect(status().isNotFound());
+    mockMvc
+        .perform(
+            get("/api/release-contents/" + sha256.substring(1))
+                .header("Authorization", "Bearer secret"))
+        .andExpect(status().isNotFound());
+    mockMvc
+        .perform(get("/api/release-contents/..%2Fsecret").header("Authorization", "Bearer secret"))
+        .andExpect(status().isNotFound());
+    mockMvc
+        .perform(
+            get("/api/release-contents/" + "0".repeat(64)).header("Authorization", "Bearer secret"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void get_checksTokenBeforeLookingUpContent() throws Exception {
+    // 토큰 없이 본문 존재 여부를 알아낼 수 없게 한다
+    mockMvc
+        .perform(get("/api/release-contents/" + "0".repeat(64)))
+        .andExpect(status().isUnauthorized());
+  }
+}
@@ -0,0 +1,148 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.relboard.crawler.release.repository.ReleaseEventOutboxRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+class ReleaseEventOutboxRepositoryTest {
+
+  private JdbcTemplate jdbcTemplate;
+  private ReleaseEventOutboxRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource =
+        new DriverManagerDataSource(
+            "jdbc:h2:mem:outbox-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1;MODE=MySQL");
+    new ResourceDatabasePopulator(
+            new ClassPathResource("migration/V16__create_release_event_outbox.sql"),
+            new ClassPathResource("migration/V17__create_release_event_outbox_dead_letter.sql"))
+        .execute(dataSource);
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    repository =
+        new ReleaseEventOutboxRepository(
+            jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+  }
+
+  @Test
+  void lockDue_holdsBackLaterRowsOfTheSameKeyUntilTheEarlierRowIsGone() {
+    repository.insert(
+        List.of(
+            new ReleaseEventOutboxRepository.OutboxRow("e1", "topic", "spring", "{}"),
+            new ReleaseEventOutboxRepository.OutboxRow("e2", "topic", "spring", "{}"),
+            new ReleaseEventOutboxRepository.OutboxRow("e3", "topic", "react", "{}")));
+    Instant now = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+
+    List<ReleaseEventOutboxRepository.OutboxMessage> first = repository.lockDue(now, 10, 1);
+    assertThat(first)
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactlyInAnyOrder("e1", "e3");
+
+    // e1 전송 실패 → 재시도 시각이 지나도 e2는 e1보다 먼저 나가지 않는다
+    Long e1 = first.stream().filter(m -> m.eventId().equals("e1")).findFirst().orElseThrow().id();
+    repository.reschedule(
+        List.of(new ReleaseEventOutboxRepository.RetryRow(e1, 1, now, "broker down")));
+    repository.delete(
+        first.stream()
+            .filter(m -> m.eventId().equals("e3"))
+            .map(ReleaseEventOutboxRepository.OutboxMessage::id)
+            .toList());
+    assertThat(repository.lockDue(now, 10, 1))
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactly("e1");
+
+    // 선점 중(claim-timeout 동안)에도 e2는 막혀 있다
+    repository.claim(List.of(e1), now.plusSeconds(300));
+    assertThat(repository.lockDue(now, 10, 1)).isEmpty();
+
+    repository.delete(List.of(e1));
+    assertThat(repository.lockDue(now, 10, 1))
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactly("e2");
+  }
+
+  @Test
+  void lockDue_claimsConsecutiveDueRowsOfTheSameKeyUpToPerKey() {
+    repository.insert(
+        List.of(
+            new ReleaseEventOutboxRepository.OutboxRow("e1", "topic", "spring", "{}"),
+            new ReleaseEventOutboxRepository.OutboxRow("e2", "topic", "spring", "{}"),
+            new ReleaseEventOutboxRepository.OutboxRow("e3", "topic", "spring", "{}"),
+            new ReleaseEventOutboxRepository.OutboxRow("e4", "topic", "spring", "{}"),
+            new ReleaseEventOutboxRepository.OutboxRow("e5", "topic", "react", "{}")));
+    Instant now = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+
+    List<ReleaseEventOutboxRepository.OutboxMessage> first = repository.lockDue(now, 10, 3);
+    assertThat(first)
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactlyInAnyOrder("e1", "e2", "e3", "e5");
+    // 전체 한도가 키당 한도보다 먼저 찬다
+    assertThat(repository.lockDue(now, 2, 3)).hasSize(2);
+
+    // 선점한 뒤에는 맨 앞 행이 전송 중이라 같은 키의 e4도 다른 노드가 가져가지 못한다
+    repository.claim(
+        first.stream().map(ReleaseEventOutboxRepository.OutboxMessage::id).toList(),
+        now.plusSeconds(300));
+    assertThat(repository.lockDue(now, 10, 3)).isEmpty();
+
+    // e2 실패 → e2와 뒤의 e3를 재시도 예약, e1 완료. 다시 선점하면 e2부터 e4까지 순서대로 나간다
+    Long e1 = id(first, "e1");
+    repository.delete(List.of(e1, id(first, "e5")));
+    repository.reschedule(
+        List.of(
+            new ReleaseEventOutboxRepository.RetryRow(id(first, "e2"), 1, now, "broker down"),
+            new ReleaseEventOutboxRepository.RetryRow(id(first, "e3"), 0, now, "requeued")));
+    assertThat(repository.lockDue(now, 10, 3))
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactly("e2", "e3", "e4");
+
+    // 중간 행이 아직 재시도 대기 중이면 그 뒤의 행은 붙이지 않는다
+    repository.reschedule(
+        List.of(
+            new ReleaseEventOutboxRepository.RetryRow(
+                id(first, "e3"), 1, now.plusSeconds(60), "broker down")));
+    assertThat(repository.lockDue(now, 10, 3))
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactly("e2");
+  }
+
+  @Test
+  void park_movesRowToDeadLetterAndReleasesTheKey() {
+    repository.insert(
+        List.of(
+            new ReleaseEventOutboxRepository.OutboxRow("e1", "topic", "spring", "not-json"),
+            new ReleaseEventOutboxRepository.OutboxRow("e2", "topic", "spring", "{}")));
+    Instant now = Instant.now().plusSeconds(1).truncatedTo(ChronoUnit.MILLIS);
+    Long e1 = repository.lockDue(now, 10, 1).get(0).id();
+
+    repository.park(List.of(new ReleaseEventOutboxRepository.ParkRow(e1, 1, "bad payload")));
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT last_error FROM release_event_outbox_dead_letter WHERE event_id = 'e1'",
+                String.class))
+        .isEqualTo("bad payload");
+    assertThat(repository.lockDue(now, 10, 1))
+        .extracting(ReleaseEventOutboxRepository.OutboxMessage::eventId)
+        .containsExactly("e2");
+  }
+
+  private static Long id(
+      List<ReleaseEventOutboxRepository.OutboxMessage> messages, String eventId) {
+    return messages.stream()
+        .filter(m -> m.eventId().equals(eventId))
+        .findFirst()
+        .orElseThrow()
+        .id();
+  }
+}
@@ -0,0 +1,204 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.infra.kafka.KafkaProducer;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.application.ReleaseEventOutboxService;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import io.relboard.crawler.release.repository.ReleaseEventOutboxRepository;
+import io.relboard.crawler.release.scheduler.ReleaseEventRelay;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseEventRelayTest {
+
+  @Mock private ReleaseEventOutboxService releaseEventOutboxService;
+  @Mock private KafkaProducer kafkaProducer;
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_deletesAckedEventsAndReschedulesFailuresWithBackoff() throws Exception {
+    KafkaProperties kafkaProperties = new KafkaProperties();
+    kafkaProperties.getOutbox().setRetryBackoff(Duration.ofSeconds(5));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ReleaseEventRelay relay =
+        new ReleaseEventRelay(
+            releaseEventOutboxService, kafkaProducer, kafkaProperties, meterRegistry);
+
+    ReleaseEventOutboxRepository.OutboxMessage ok = message(1L, 0);
+    ReleaseEventOutboxRepository.OutboxMessage broken = message(2L, 1);
+    ReleaseEvent event =
+        new ReleaseEvent(
+            "e",
+            ReleaseEvent.Type.RELEASE_CREATED,
+            LocalDateTime.now(),
+            new ReleaseEvent.Payload(
+                "spring", "1.0.0", null, null, null, null, List.of(), null, List.of(), null, null,
+                List.of()));
+    when(releaseEventOutboxService.claim(anyInt())).thenReturn(List.of(ok, broken), List.of());
+    when(releaseEventOutboxService.deserialize(any())).thenReturn(event);
+    when(kafkaProducer.send("topic", "spring", event))
+        .thenReturn(
+            CompletableFuture.completedFuture(null),
+            CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    Instant before = Instant.now();
+    relay.run();
+    // 브로커 응답은 다음 tick에서 반영한다
+    relay.run();
+
+    verify(releaseEventOutboxService).complete(List.of(1L));
+    ArgumentCaptor<List<ReleaseEventOutboxRepository.RetryRow>> retries =
+        ArgumentCaptor.forClass(List.class);
+    verify(releaseEventOutboxService).reschedule(retries.capture());
+    ReleaseEventOutboxRepository.RetryRow retry = retries.getValue().get(0);
+    assertThat(retry.id()).isEqualTo(2L);
+    assertThat(retry.attempts()).isEqualTo(2);
+    assertThat(retry.nextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(10));
+    assertThat(retry.lastError()).contains("broker down");
+    assertThat(meterRegistry.get("crawler.outbox.in-flight").gauge().value()).isZero();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_parksUndecodableRowsAndRowsOverMaxAttempts() throws Exception {
+    KafkaProperties kafkaProperties = new KafkaProperties();
+    kafkaProperties.getOutbox().setMaxAttempts(3);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ReleaseEventRelay relay =
+        new ReleaseEventRelay(
+            releaseEventOutboxService, kafkaProducer, kafkaProperties, meterRegistry);
+
+    ReleaseEventOutboxRepository.OutboxMessage undecodable = message(1L, 0);
+    ReleaseEventOutboxRepository.OutboxMessage exhausted = message(2L, 2);
+    ReleaseEvent event =
+        new ReleaseEvent(
+            "e",
+            ReleaseEvent.Type.RELEASE_CREATED,
+            LocalDateTime.now(),
+            new ReleaseEvent.Payload(
+                "spring", "1.0.0", null, null, null, null, List.of(), null, List.of(), null, null,
+                List.of()));
+    when(releaseEventOutboxService.claim(anyInt()))
+        .thenReturn(List.of(undecodable, exhausted), List.of());
+    when(releaseEventOutboxService.deserialize(undecodable))
+        .thenThrow(new JsonParseException(null, "broken"));
+    when(releaseEventOutboxService.deserialize(exhausted)).thenReturn(event);
+    when(kafkaProducer.send("topic", "spring", event))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+    relay.run();
+    relay.run();
+
+    ArgumentCaptor<List<ReleaseEventOutboxRepository.ParkRow>> parks =
+        ArgumentCaptor.forClass(List.class);
+    verify(releaseEventOutboxService).park(parks.capture());
+    assertThat(parks.getValue())
+        .extracting(
+            ReleaseEventOutboxRepository.ParkRow::id,
+            ReleaseEventOutboxRepository.ParkRow::attempts)
+        .containsExactly(tuple(1L, 1), tuple(2L, 3));
+    verify(releaseEventOutboxService, never()).reschedule(any());
+    assertThat(meterRegistry.get("crawler.outbox.parked").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_requeuesRowsAfterAFailedRowOfTheSameKey() throws Exception {
+    KafkaProperties kafkaProperties = new KafkaProperties();
+    kafkaProperties.getOutbox().setRetryBackoff(Duration.ofSeconds(5));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ReleaseEventRelay relay =
+        new ReleaseEventRelay(
+            releaseEventOutboxService, kafkaProducer, kafkaProperties, meterRegistry);
+
+    ReleaseEventOutboxRepository.OutboxMessage first = message(1L, 0);
+    ReleaseEventOutboxRepository.OutboxMessage failing = message(2L, 0);
+    ReleaseEventOutboxRepository.OutboxMessage afterFailure = message(3L, 0);
+    ReleaseEventOutboxRepository.OutboxMessage otherKey =
+        new ReleaseEventOutboxRepository.OutboxMessage(4L, "event-4", "topic", "react", "{}", 0);
+    ReleaseEvent event = event("spring");
+    ReleaseEvent otherEvent = event("react");
+    // 저장소는 키의 맨 앞 행을 먼저 돌려주므로 같은 키의 행이 id 순서가 아닐 수 있다
+    when(releaseEventOutboxService.claim(anyInt()))
+        .thenReturn(List.of(first, otherKey, afterFailure, failing), List.of());
+    when(releaseEventOutboxService.deserialize(any())).thenReturn(event);
+    when(releaseEventOutboxService.deserialize(otherKey)).thenReturn(otherEvent);
+    // 2번은 실패했지만 뒤의 3번은 브로커에 들어갔다
+    when(kafkaProducer.send("topic", "spring", event))
+        .thenReturn(
+            CompletableFuture.completedFuture(null),
+            CompletableFuture.failedFuture(new IllegalStateException("broker down")),
+            CompletableFuture.completedFuture(null));
+    when(kafkaProducer.send("topic", "react", otherEvent))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    relay.run();
+    relay.run();
+
+    InOrder sends = inOrder(releaseEventOutboxService);
+    sends.verify(releaseEventOutboxService).deserialize(first);
+    sends.verify(releaseEventOutboxService).deserialize(failing);
+    sends.verify(releaseEventOutboxService).deserialize(afterFailure);
+    ArgumentCaptor<List<Long>> completed = ArgumentCaptor.forClass(List.class);
+    verify(releaseEventOutboxService).complete(completed.capture());
+    assertThat(completed.getValue()).containsExactlyInAnyOrder(1L, 4L);
+    // 3번은 성공했어도 2번 뒤에 다시 나가도록 2번과 같은 시각으로 예약한다
+    ArgumentCaptor<List<ReleaseEventOutboxRepository.RetryRow>> retries =
+        ArgumentCaptor.forClass(List.class);
+    verify(releaseEventOutboxService).reschedule(retries.capture());
+    assertThat(retries.getValue())
+        .extracting(
+            ReleaseEventOutboxRepository.RetryRow::id,
+            ReleaseEventOutboxRepository.RetryRow::attempts)
+        .containsExactly(tuple(2L, 1), tuple(3L, 0));
+    assertThat(retries.getValue().get(1).nextAttemptAt())
+        .isEqualTo(retries.getValue().get(0).nextAttemptAt());
+    assertThat(meterRegistry.get("crawler.outbox.failed").counter().count()).isEqualTo(1);
+  }
+
+  private static ReleaseEvent event(String techStackName) {
+    return new ReleaseEvent(
+        "e",
+        ReleaseEvent.Type.RELEASE_CREATED,
+        LocalDateTime.now(),
+        new ReleaseEvent.Payload(
+            techStackName,
+            "1.0.0",
+            null,
+            null,
+            null,
+            null,
+            List.of(),
+            null,
+            List.of(),
+            null,
+            null,
+            List.of()));
+  }
+
+  private static ReleaseEventOutboxRepository.OutboxMessage message(Long id, int attempts) {
+    return new ReleaseEventOutboxRepository.OutboxMessage(
+        id, "event-" + id, "topic", "spring", "{}", attempts);
+  }
+}
@@ -0,0 +1,139 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.relboard.crawler.infra.kafka.ReleaseEventFormat;
+import io.relboard.crawler.infra.kafka.ReleaseEventSerializer;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ReleaseEventSerializerTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  @ParameterizedTest
+  @EnumSource(ReleaseEventFormat.class)
+  void serialize_roundTripsAndMarksFormatAndSchemaVersion(ReleaseEventFormat format)
+      throws Exception {
+    ReleaseEventSerializer serializer = new ReleaseEventSerializer(objectMapper, format);
+    ReleaseEvent event = event();
+    Headers headers = new RecordHeaders();
+
+    byte[] bytes = serializer.serialize("releases", headers, event);
+
+    assertThat(header(headers, ReleaseEventSerializer.CONTENT_TYPE_HEADER))
+        .isEqualTo(format.contentType());
+    assertThat(header(headers, ReleaseEventSerializer.SCHEMA_VERSION_HEADER))
+        .isEqualTo(String.valueOf(ReleaseEvent.SCHEMA_VERSION));
+    assertThat(header(headers, ReleaseEventSerializer.EVENT_TYPE_HEADER))
+        .isEqualTo("RELEASE_CREATED");
+    assertThat(headers.lastHeader("__TypeId__") != null)
+        .isEqualTo(format == ReleaseEventFormat.JSON);
+    assertThat(serializer.mapper().readValue(bytes, ReleaseEvent.class)).isEqualTo(event);
+  }
+
+  @Test
+  void serialize_binaryFormatsAreSmallerThanJson() {
+    ReleaseEvent event = event();
+    int json =
+        new ReleaseEventSerializer(objectMapper, ReleaseEventFormat.JSON)
+            .serialize("releases", event)
+            .length;
+
+    assertThat(
+            new ReleaseEventSerializer(objectMapper, ReleaseEventFormat.SMILE)
+                .serialize("releases", event)
+                .length)
+        .isLessThan(json);
+    assertThat(
+            new ReleaseEventSerializer(objectMapper, ReleaseEventFormat.CBOR)
+                .serialize("releases", event)
+                .length)
+        .isLessThan(json);
+  }
+
+  @Test
+  void serialize_enrichmentOmitsUnchangedReleaseFields() throws Exception {
+    ReleaseEvent enriched =
+        new ReleaseEvent(
+            "event-2",
+            ReleaseEvent.Type.RELEASE_ENRICHED,
+            LocalDateTime.of(2024, 11, 21, 10, 0),
+            ReleaseEvent.Payload.enrichment(
+                "spring-boot", "3.4.0", "## 새 기능", "요약", List.of(), null, List.of("logging")));
+
+    byte[] bytes =
+        new ReleaseEventSerializer(objectMapper, ReleaseEventFormat.JSON)
+            .serialize("releases", enriched);
+
+    assertThat(objectMapper.readTree(bytes).get("payload").fieldNames())
+        .toIterable()
+        .containsExactlyInAnyOrder(
+            "techStackName",
+            "version",
+            "contentKo",
+            "shortSummary",
+            "insights",
+            "technicalKeywords");
+    assertThat(objectMapper.readValue(bytes, ReleaseEvent.class)).isEqualTo(enriched);
+  }
+
+  @Test
+  void serialize_marksUntypedLegacyEventsAsSchemaVersionOne() {
+    ReleaseEvent created = event();
+    ReleaseEvent legacy =
+        new ReleaseEvent(created.eventId(), null, created.occurredAt(), created.payload());
+    Headers headers = new RecordHeaders();
+
+    new ReleaseEventSerializer(objectMapper, ReleaseEventFormat.JSON)
+        .serialize("releases", headers, legacy);
+
+    assertThat(header(headers, ReleaseEventSerializer.SCHEMA_VERSION_HEADER))
+        .isEqualTo(String.valueOf(ReleaseEvent.LEGACY_SCHEMA_VERSION));
+    assertThat(headers.lastHeader(ReleaseEventSerializer.EVENT_TYPE_HEADER)).isNull();
+  }
+
+  private static String header(Headers headers, String key) {
+    return new String(headers.lastHeader(key).value(), StandardCharsets.UTF_8);
+  }
+
+  private static ReleaseEvent event() {
+    return new ReleaseEvent(
+        "event-1",
+        ReleaseEvent.Type.RELEASE_CREATED,
+        LocalDateTime.of(2024, 11, 21, 9, 30),
+        new ReleaseEvent.Payload(
+            "spring-boot",
+            "3.4.0",
+            "v3.4.0",
+            "## New Features\n- Structured logging",
+            "## 새 기능\n- 구조화 로깅",
+            "구조화 로깅 추가",
+            List.of(
+                new ReleaseEvent.Insight("FEATURE", "구조화 로깅", "설정만으로 켠다"),
+                new ReleaseEvent.Insight("BREAKING", "정상 종료", "기본값 변경")),
+            new ReleaseEvent.MigrationGuide(
+                "정상 종료 기본값 확인",
+                new ReleaseEvent.MigrationGuideCode("", "server.shutdown: immediate"),
+                "- 설정 검토"),
+            List.of("logging", "shutdown"),
+            LocalDateTime.of(2024, 11, 21, 9, 0),
+            "https://github.com/spring-projects/spring-boot/releases/tag/v3.4.0",
+            List.of(
+                new ReleaseEvent.Tag("FEATURE", "New Features"),
+                new ReleaseEvent.Tag("FIX", "Bug Fixes"))));
+  }
+}
@@ -0,0 +1,99 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.relboard.crawler.crawler.application.CrawlValidatorService;
+import io.relboard.crawler.crawler.application.CrawledRelease;
+import io.relboard.crawler.crawler.application.ReleaseWriteService;
+import io.relboard.crawler.infra.client.HttpValidators;
+import io.relboard.crawler.release.application.ReleaseEventOutboxService;
+import io.relboard.crawler.release.domain.ReleaseTagType;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import io.relboard.crawler.release.repository.ReleaseBatchRepository;
+import io.relboard.crawler.techstack.domain.TechStack;
+import io.relboard.crawler.techstack.repository.TechStackRepository;
+import io.relboard.crawler.translation.repository.TranslationBacklogBatchRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReleaseWriteServiceTest {
+
+  @Mock private TechStackRepository techStackRepository;
+  @Mock private ReleaseBatchRepository releaseBatchRepository;
+  @Mock private TranslationBacklogBatchRepository translationBacklogBatchRepository;
+  @Mock private ReleaseEventOutboxService releaseEventOutboxService;
+  @Mock private CrawlValidatorService crawlValidatorService;
+
+  private ReleaseWriteService releaseWriteService;
+
+  @BeforeEach
+  void setUp() {
+    releaseWriteService =
+        new ReleaseWriteService(
+            techStackRepository,
+            releaseBatchRepository,
+            translationBacklogBatchRepository,
+            releaseEventOutboxService,
+            crawlValidatorService);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void write_batchesReleaseTagsBacklogAndUpdatesLatestVersion() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.0.0").build();
+    CrawledRelease release =
+        new CrawledRelease(
+            "1.1.0",
+            "Release 1.1.0",
+            "breaking fix docs",
+            Instant.now(),
+            "http://github.com/mock/url");
+
+    when(techStackRepository.findById(1L)).thenReturn(Optional.of(techStack));
+    when(releaseBatchRepository.insertReleaseRecords(eq(1L), anyList()))
+        .thenReturn(Map.of("1.1.0", 100L));
+
+    Map<String, HttpValidators> validators =
+        Map.of(CrawlValidatorService.GITHUB_TAGS, new HttpValidators("\"etag\"", null, null));
+    releaseWriteService.write(10L, 1L, List.of(release), "1.1.0", validators);
+
+    ArgumentCaptor<List<ReleaseBatchRepository.TagRow>> tags = ArgumentCaptor.forClass(List.class);
+    verify(releaseBatchRepository).insertReleaseTags(tags.capture());
+    assertThat(tags.getValue())
+        .extracting(ReleaseBatchRepository.TagRow::tagType)
+        .containsExactlyInAnyOrder(
+            ReleaseTagType.BREAKING, ReleaseTagType.FIX, ReleaseTagType.DOCS);
+    verify(translationBacklogBatchRepository)
+        .insertPending(
+            List.of(
+                new TranslationBacklogBatchRepository.BacklogRow(
+                    100L, "http://github.com/mock/url")));
+    ArgumentCaptor<List<ReleaseEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(releaseEventOutboxService).enqueue(events.capture());
+    assertThat(events.getValue())
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.type()).isEqualTo(ReleaseEvent.Type.RELEASE_CREATED);
+              assertThat(event.payload().version()).isEqualTo("1.1.0");
+              assertThat(event.payload().content()).isEqualTo("breaking fix docs");
+              assertThat(event.payload().contentKo()).isNull();
+            });
+    verify(techStackRepository).save(techStack);
+    assertThat(techStack.getLatestVersion()).isEqualTo("1.1.0");
+    verify(crawlValidatorService).save(10L, validators);
+  }
+}
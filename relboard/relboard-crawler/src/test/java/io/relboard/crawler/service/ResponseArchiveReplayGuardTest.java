@@ -0,0 +1,69 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.relboard.crawler.config.ResponseArchiveProperties;
+import io.relboard.crawler.crawler.application.ResponseArchiveReplayGuard;
+import io.relboard.crawler.infra.client.ResponseArchiveMode;
+import io.relboard.crawler.infra.kafka.KafkaProperties;
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseArchiveReplayGuardTest {
+
+  @Mock private ReleaseRecordRepository releaseRecordRepository;
+
+  private final ResponseArchiveProperties archiveProperties = new ResponseArchiveProperties();
+  private final KafkaProperties kafkaProperties = new KafkaProperties();
+
+  @BeforeEach
+  void setUp() {
+    archiveProperties.setMode(ResponseArchiveMode.REPLAY);
+  }
+
+  @Test
+  void refusesReplayWhileOutboxRelayIsEnabled() {
+    assertThatThrownBy(this::newGuard)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("kafka.outbox.relay-enabled=false");
+  }
+
+  @Test
+  void refusesReplayAgainstNonEmptyReleaseRecord() {
+    kafkaProperties.getOutbox().setRelayEnabled(false);
+    when(releaseRecordRepository.count()).thenReturn(3L);
+
+    assertThatThrownBy(this::newGuard)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("count=3");
+  }
+
+  @Test
+  void allowsReplayOnEmptyDatabaseWithRelayDisabled() {
+    kafkaProperties.getOutbox().setRelayEnabled(false);
+    when(releaseRecordRepository.count()).thenReturn(0L);
+
+    assertThatCode(this::newGuard).doesNotThrowAnyException();
+  }
+
+  @Test
+  void ignoresOtherArchiveModes() {
+    archiveProperties.setMode(ResponseArchiveMode.RECORD);
+
+    assertThatCode(this::newGuard).doesNotThrowAnyException();
+    verifyNoInteractions(releaseRecordRepository);
+  }
+
+  private ResponseArchiveReplayGuard newGuard() {
+    return new ResponseArchiveReplayGuard(
+        archiveProperties, kafkaProperties, releaseRecordRepository);
+  }
+}
@@ -0,0 +1,98 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.ResponseArchiveProperties;
+import io.relboard.crawler.infra.client.ResponseArchive;
+import io.relboard.crawler.infra.client.ResponseArchiveMode;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+class ResponseArchiveTest {
+
+  private static final String FEED =
+      "<rss><channel><item><title>1.0</title></item></channel></rss>";
+
+  @TempDir Path directory;
+
+  @Test
+  void replay_servesRecordedResponsesWithoutNetwork() throws IOException {
+    ResponseArchive recorder = archive(ResponseArchiveMode.RECORD);
+    AtomicInteger upstreamCalls = new AtomicInteger();
+    for (String url : new String[] {"https://a.example.com/feed", "https://b.example.com/feed"}) {
+      ClientHttpResponse recorded =
+          recorder
+              .interceptor("rss")
+              .intercept(
+                  request(url),
+                  new byte[0],
+                  (req, body) -> {
+                    upstreamCalls.incrementAndGet();
+                    MockClientHttpResponse upstream =
+                        new MockClientHttpResponse(
+                            FEED.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+                    upstream.getHeaders().setETag("\"v1\"");
+                    return upstream;
+                  });
+      assertThat(new String(recorded.getBody().readAllBytes(), StandardCharsets.UTF_8))
+          .isEqualTo(FEED);
+    }
+    // 같은 본문은 한 번만 저장한다
+    try (var files = Files.list(directory)) {
+      assertThat(files.filter(path -> path.toString().endsWith(".dat"))).hasSize(1);
+    }
+
+    ResponseArchive replayer = archive(ResponseArchiveMode.REPLAY);
+    ClientHttpResponse hit =
+        replayer
+            .interceptor("rss")
+            .intercept(
+                request("https://b.example.com/feed"),
+                new byte[0],
+                (req, body) -> {
+                  throw new AssertionError("REPLAY는 네트워크를 쓰지 않는다");
+                });
+    ClientHttpResponse miss =
+        replayer
+            .interceptor("rss")
+            .intercept(
+                request("https://c.example.com/feed"),
+                new byte[0],
+                (req, body) -> {
+                  throw new AssertionError("REPLAY는 네트워크를 쓰지 않는다");
+                });
+
+    assertThat(upstreamCalls).hasValue(2);
+    assertThat(hit.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(hit.getHeaders().getETag()).isEqualTo("\"v1\"");
+    assertThat(new String(hit.getBody().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(FEED);
+    assertThat(miss.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(miss.getHeaders().getFirst("X-Relboard-Archive")).isEqualTo("miss");
+  }
+
+  private ResponseArchive archive(ResponseArchiveMode mode) {
+    ResponseArchiveProperties properties = new ResponseArchiveProperties();
+    properties.setMode(mode);
+    properties.setDirectory(directory.toString());
+    return new ResponseArchive(properties, new SimpleMeterRegistry());
+  }
+
+  private static MockClientHttpRequest request(String url) {
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create(url));
+    request.getHeaders().set(HttpHeaders.ACCEPT, "application/rss+xml");
+    return request;
+  }
+}
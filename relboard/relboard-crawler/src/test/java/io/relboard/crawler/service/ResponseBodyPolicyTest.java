@@ -0,0 +1,73 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.relboard.crawler.config.HostLimitProperties;
+import io.relboard.crawler.infra.client.ResponseBodyPolicy;
+import io.relboard.crawler.infra.client.ResponseBodyTooLargeException;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.unit.DataSize;
+
+class ResponseBodyPolicyTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final HostLimitProperties hostLimitProperties = new HostLimitProperties();
+  private ResponseBodyPolicy policy;
+
+  @BeforeEach
+  void setUp() {
+    hostLimitProperties.getDefaultLimit().setMaxBodySize(DataSize.ofBytes(64));
+    policy = new ResponseBodyPolicy(hostLimitProperties, meterRegistry);
+  }
+
+  @Test
+  void intercept_passesBodyWithinHostMaximumThrough() throws IOException {
+    byte[] payload = bytes(64);
+
+    ClientHttpResponse response = execute("github", new MockClientHttpResponse(payload, 200));
+
+    assertThat(response.getBody().readAllBytes()).isEqualTo(payload);
+    assertThat(meterRegistry.counter("crawler.http.body.rejected", "client", "github").count())
+        .isZero();
+  }
+
+  @Test
+  void intercept_rejectsBodyAboveHostMaximum() throws IOException {
+    MockClientHttpResponse declared = new MockClientHttpResponse(bytes(10), HttpStatus.OK);
+    declared.getHeaders().setContentLength(100);
+    assertThatThrownBy(() -> execute("github", declared))
+        .isInstanceOf(ResponseBodyTooLargeException.class);
+
+    // Content-Length가 없어도 스트리밍 중에 최대 크기를 넘으면 중단한다
+    ClientHttpResponse streamed = execute("rss", new MockClientHttpResponse(bytes(100), 200));
+    assertThatThrownBy(() -> streamed.getBody().readAllBytes())
+        .isInstanceOf(ResponseBodyTooLargeException.class);
+    assertThat(meterRegistry.counter("crawler.http.body.rejected", "client", "rss").count())
+        .isEqualTo(1.0);
+  }
+
+  private ClientHttpResponse execute(String client, MockClientHttpResponse upstream)
+      throws IOException {
+    MockClientHttpRequest request =
+        new MockClientHttpRequest(HttpMethod.GET, URI.create("https://feeds.example.com/rss"));
+    return policy.interceptor(client).intercept(request, new byte[0], (req, b) -> upstream);
+  }
+
+  private static byte[] bytes(int size) {
+    byte[] bytes = new byte[size];
+    Arrays.fill(bytes, (byte) 'a');
+    bytes[size - 1] = 'z';
+    return bytes;
+  }
+}
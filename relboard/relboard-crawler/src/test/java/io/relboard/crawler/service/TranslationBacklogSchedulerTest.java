@@ -0,0 +1,116 @@
+package io.relboard.crawler.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.relboard.crawler.release.application.ReleaseEventOutboxService;
+import io.relboard.crawler.release.domain.ReleaseRecord;
+import io.relboard.crawler.release.event.ReleaseEvent;
+import io.relboard.crawler.release.repository.ReleaseRecordRepository;
+import io.relboard.crawler.techstack.domain.TechStack;
+import io.relboard.crawler.translation.application.AiTranslationService;
+import io.relboard.crawler.translation.domain.TranslationBacklog;
+import io.relboard.crawler.translation.domain.TranslationBacklogStatus;
+import io.relboard.crawler.translation.repository.TranslationBacklogRepository;
+import io.relboard.crawler.translation.scheduler.TranslationBacklogScheduler;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationBacklogSchedulerTest {
+
+  @Mock private TranslationBacklogRepository translationBacklogRepository;
+  @Mock private ReleaseRecordRepository releaseRecordRepository;
+  @Mock private AiTranslationService aiTranslationService;
+  @Mock private ReleaseEventOutboxService releaseEventOutboxService;
+
+  private TranslationBacklogScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler =
+        new TranslationBacklogScheduler(
+            translationBacklogRepository,
+            releaseRecordRepository,
+            aiTranslationService,
+            releaseEventOutboxService,
+            new ObjectMapper());
+    ReflectionTestUtils.setField(scheduler, "batchSize", 50);
+    ReflectionTestUtils.setField(scheduler, "minPendingCount", 1);
+    ReflectionTestUtils.setField(scheduler, "minIntervalMinutes", 60);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void run_publishesEnrichmentWithReleaseKeyAndWithoutOriginalFields() {
+    TechStack techStack = TechStack.builder().id(1L).name("spring").latestVersion("1.1.0").build();
+    ReleaseRecord record =
+        ReleaseRecord.builder()
+            .id(100L)
+            .techStack(techStack)
+            .version("1.1.0")
+            .title("Release 1.1.0")
+            .content("breaking fix docs")
+            .contentKo("번역된 본문")
+            .shortSummary("요약")
+            .insights("[{\"type\":\"BREAKING\",\"title\":\"API 변경\",\"reason\":\"시그니처 변경\"}]")
+            .migrationGuide(
+                "{\"description\":\"호출부 수정\",\"code\":{\"before\":\"a()\",\"after\":\"b()\"},"
+                    + "\"checklist\":\"테스트\"}")
+            .technicalKeywords("[\"spring\"]")
+            .publishedAt(Instant.now())
+            .build();
+    TranslationBacklog backlog =
+        TranslationBacklog.builder()
+            .id(10L)
+            .releaseRecord(record)
+            .status(TranslationBacklogStatus.PENDING)
+            .sourceUrl("http://github.com/mock/url")
+            .build();
+    when(translationBacklogRepository.countByStatus(TranslationBacklogStatus.PENDING))
+        .thenReturn(1L);
+    when(translationBacklogRepository.findByStatusOrderByCreatedAtAsc(
+            eq(TranslationBacklogStatus.PENDING), any()))
+        .thenReturn(List.of(backlog));
+
+    scheduler.run();
+
+    ArgumentCaptor<List<ReleaseEvent>> events = ArgumentCaptor.forClass(List.class);
+    verify(releaseEventOutboxService).enqueue(events.capture());
+    assertThat(events.getValue()).hasSize(1);
+    ReleaseEvent event = events.getValue().get(0);
+    assertThat(event.type()).isEqualTo(ReleaseEvent.Type.RELEASE_ENRICHED);
+    ReleaseEvent.Payload payload = event.payload();
+    // 원문 필드는 RELEASE_CREATED로 이미 나갔으므로 보강 이벤트에는 싣지 않는다
+    assertThat(payload.title()).isNull();
+    assertThat(payload.content()).isNull();
+    assertThat(payload.publishedAt()).isNull();
+    assertThat(payload.sourceUrl()).isNull();
+    // 소비자가 보강 내용을 붙일 릴리즈 키
+    assertThat(payload.techStackName()).isEqualTo("spring");
+    assertThat(payload.version()).isEqualTo("1.1.0");
+    assertThat(payload.contentKo()).isEqualTo("번역된 본문");
+    assertThat(payload.shortSummary()).isEqualTo("요약");
+    assertThat(payload.insights())
+        .containsExactly(new ReleaseEvent.Insight("BREAKING", "API 변경", "시그니처 변경"));
+    assertThat(payload.migrationGuide())
+        .isEqualTo(
+            new ReleaseEvent.MigrationGuide(
+                "호출부 수정", new ReleaseEvent.MigrationGuideCode("a()", "b()"), "테스트"));
+    assertThat(payload.technicalKeywords()).containsExactly("spring");
+    assertThat(backlog.getStatus()).isEqualTo(TranslationBacklogStatus.DONE);
+    verifyNoInteractions(aiTranslationService);
+  }
+}